@@ -2,6 +2,9 @@ package net.aibote.utils.config;
 
 import lombok.Data;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * 机器人配置类
  * 集中管理所有配置参数
@@ -35,12 +38,28 @@ public class BotConfig {
         private long responseTimeout = 2000L;
         // 延迟响应超时时间（毫秒）
         private long delayResponseTimeout = 6000L;
+        // 文件传输超时时间（毫秒），用于推送/拉取文件等大数据量命令
+        private long transferTimeout = 60000L;
         // 重试次数
         private int retryTimes = 3;
         // 重试间隔（毫秒）
         private int retryInterval = 500;
         // 连接池大小
         private int connectionPoolSize = 10;
+        // 流水线深度：单个连接上同时在途的最大命令数，批量命令不受此限制
+        private int pipelineDepth = 1;
+        // 会话启动延迟（毫秒）：设备连接后等待多久再执行默认任务
+        private long sessionStartDelay = 5000L;
+        // 统一端口：大于0时额外开启该端口，按探测结果识别驱动类型，0表示不开启
+        private int unifiedPort = 0;
+        // 驱动类型探测命令的超时时间（毫秒），超时即关闭连接等待驱动重连
+        private long probeTimeout = 1000L;
+        // 心跳间隔（毫秒）：超过该时间没有收到驱动的数据、且没有命令在等待响应时发送探测命令，0表示不探测
+        private long heartbeatInterval = 15000L;
+        // 心跳超时时间（毫秒）：探测命令超时未响应即关闭连接
+        private long heartbeatTimeout = 3000L;
+        // 关闭超时时间（毫秒）：关闭时等待任务结束、待写数据刷出的截止时间
+        private long shutdownTimeout = 30000L;
     }
     
     @Data
@@ -53,6 +72,26 @@ public class BotConfig {
         private int bufferSize = 8192;
         // 内存限制（MB）
         private int memoryLimit = 512;
+        // 网络传输：auto、epoll、io_uring、nio，auto 时 Linux 上优先原生传输
+        private String transport = "auto";
+        // I/O 线程数，所有服务端共享，0表示CPU核数x2
+        private int ioThreads = 0;
+        // 背压策略：连接出站缓冲区超过高水位时，wait 排队等待可写（受命令超时约束），fail 立即失败
+        private String backpressurePolicy = "wait";
+        // 任务派发队列容量，排队等待设备的任务数上限
+        private int dispatchQueueCapacity = 10000;
+        // 派发队列已满时的拒绝策略：abort 拒绝并抛出异常，discard 新任务直接以失败结束，discardLowest 丢弃更低优先级中最早排队的任务
+        private String rejectionPolicy = "abort";
+        // 同一优先级内各机器人类型的派发权重，按加权轮询分配空闲设备
+        private Map<String, Integer> dispatchWeights = new HashMap<>(Map.of("WIN", 1, "WEB", 1, "ANDROID", 1));
+        // 定时任务默认触发抖动上限（毫秒），各设备的触发时间在此范围内错开
+        private long scheduleJitter = 1000;
+        // 定时任务触发晚于计划时间超过该值（毫秒）视为错过，按错过策略补执行或跳过
+        private long misfireThreshold = 5000;
+        // 多设备执行时同时提交的最大设备数
+        private int fanOutParallelism = 50;
+        // 多设备执行的单设备截止时间（毫秒），含等待设备空闲的时间，0表示不限
+        private long fanOutDeviceTimeout = 60000;
     }
     
     @Data
@@ -75,7 +114,9 @@ public class BotConfig {
         private int tokenExpirationMinutes = 60;
         // 最大连接数限制
         private int maxConnections = 1000;
-        // IP白名单
+        // 单个端口最大连接数，0表示只受全局限制
+        private int maxConnectionsPerPort = 0;
+        // IP白名单，支持 CIDR，如 10.0.0.0/8
         private String[] ipWhitelist = {};
     }
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package net.aibote.sdk;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * 机器人异步接口抽象基类
+ * 单条命令的方法直接基于 boolCmd/strCmd/bytesCmd 的异步版本，写出后立即返回，响应到达时完成；
+ * 由多条命令组合而成的方法通过 {@link #call(Function)} 在虚拟线程上执行同步版本。
+ * 同步机器人中的单条命令方法委托给这里的同名方法并等待结果，命令参数只在异步接口中组装一次。
+ * <p>
+ * 注意：单条命令返回的 future 在连接的网络线程（Netty EventLoop）上收到响应时完成，
+ * {@code thenApply}/{@code thenAccept} 等非 Async 的后续处理也在该线程上执行。
+ * 后续处理中不能调用同步方法或其他阻塞操作，否则会阻塞网络线程，响应无法读取，直到命令超时；
+ * 需要在后续处理中继续执行命令时，使用异步方法组合（{@code thenCompose}），
+ * 或用 {@code thenApplyAsync} 等指定执行器，或通过 {@link #call(Function)} 在虚拟线程上执行同步方法。
+ *
+ * @param <B> 机器人类型
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+public abstract class AbstractBotAsync<B extends AbstractPlatformBot> {
+
+    private static final ExecutorService CALL_EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("Aibote-Async-", 0).factory());
+
+    protected final B bot;
+
+    protected AbstractBotAsync(B bot) {
+        this.bot = bot;
+    }
+
+    /**
+     * 获取对应的同步机器人
+     * @return 机器人实例
+     */
+    public B sync() {
+        return bot;
+    }
+
+    /**
+     * 在虚拟线程上执行任意同步方法，用于没有直接异步版本的组合方法
+     * @param action 同步调用，例如 {@code b -> b.findColor(...)}
+     * @param <R> 结果类型
+     * @return 调用结果
+     */
+    public <R> CompletableFuture<R> call(Function<B, R> action) {
+        return CompletableFuture.supplyAsync(() -> action.apply(bot), CALL_EXECUTOR);
+    }
+}
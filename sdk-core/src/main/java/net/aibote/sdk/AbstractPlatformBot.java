@@ -1,20 +1,28 @@
 package net.aibote.sdk;
 
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelProgressiveFuture;
+import io.netty.channel.ChannelProgressiveFutureListener;
+import io.netty.channel.ChannelProgressivePromise;
+import io.netty.channel.DefaultFileRegion;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.time.StopWatch;
+import net.aibote.sdk.channel.CommandFrame;
+import net.aibote.sdk.channel.PendingResponses;
+import net.aibote.sdk.channel.Reply;
+import net.aibote.sdk.channel.ResponseSink;
+import net.aibote.sdk.channel.TransferListener;
 import net.aibote.utils.config.ConfigManager;
 
-import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 平台机器人抽象基类
@@ -25,14 +33,12 @@ public abstract class AbstractPlatformBot {
     private final ReentrantLock lock = new ReentrantLock();
     public String runStatus;
 
-    // 使用 AtomicReference 替代直接的 byte[] 字段，提高线程安全性
-    private final AtomicReference<byte[]> retBufferRef = new AtomicReference<>();
-
     public ChannelHandlerContext aiboteChanel;
 
     // 使用配置管理器获取超时配置
     private long retTimeout; // 正常下获取返回值的时间。
     private long retDelayTimeout; // 超时情况获取返回值的时间。
+    private long transferTimeout; // 文件传输获取返回值的时间。
 
     public AbstractPlatformBot() {
         this.runStatus = "未运行";
@@ -51,6 +57,7 @@ public abstract class AbstractPlatformBot {
     private void initializeTimeouts() {
         this.retTimeout = ConfigManager.getInstance().getCommunicationConfig().getResponseTimeout();
         this.retDelayTimeout = ConfigManager.getInstance().getCommunicationConfig().getDelayResponseTimeout();
+        this.transferTimeout = ConfigManager.getInstance().getCommunicationConfig().getTransferTimeout();
     }
 
     // 注：getScriptName() 和 doScript() 方法已被弃用
@@ -79,25 +86,20 @@ public abstract class AbstractPlatformBot {
     /**
      * 发送命令
      * @param arrArgs 命令参数
+     * @return 响应字节数组，超时或失败返回null
      */
-    protected void send(String... arrArgs) {
-        this.send(this.retTimeout, arrArgs);
+    protected byte[] send(String... arrArgs) {
+        return this.send(this.retTimeout, arrArgs);
     }
     
     /**
-     * 安全地设置响应缓冲区
+     * 将响应交给当前通道上等待的命令
      * @param buffer 响应数据
      */
     public void setRetBuffer(byte[] buffer) {
-        retBufferRef.set(buffer);
-    }
-    
-    /**
-     * 安全地获取并清空响应缓冲区
-     * @return 响应数据，如果为空则返回null
-     */
-    private byte[] takeRetBuffer() {
-        return retBufferRef.getAndSet(null);
+        if (this.aiboteChanel != null) {
+            PendingResponses.of(this.aiboteChanel.channel()).complete(buffer);
+        }
     }
 
     /**
@@ -131,7 +133,7 @@ public abstract class AbstractPlatformBot {
         if (null == bytes) {
             return null;
         }
-        return new String(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
     }
 
     /**
@@ -142,179 +144,149 @@ public abstract class AbstractPlatformBot {
      */
     protected byte[] sendDataForBytes(String strData) {
         log.info("发送命令：" + strData);
-        // 直接发送数据并等待响应
-        if (this.aiboteChanel == null) {
-            throw new RuntimeException("链接错误");
-        }
-        
-        this.aiboteChanel.writeAndFlush(strData.getBytes(StandardCharsets.UTF_8));
-        
-        // 使用 CompletableFuture 实现非阻塞等待
-        CompletableFuture<byte[]> future = new CompletableFuture<>();
-        
-        // 在单独的线程中处理超时
-        Thread timeoutThread = new Thread(() -> {
-            try {
-                Thread.sleep(retTimeout);
-                if (!future.isDone()) {
-                    future.completeExceptionally(new TimeoutException("命令执行超时"));
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                future.completeExceptionally(e);
-            }
-        });
-        timeoutThread.setDaemon(true);
-        timeoutThread.start();
-        
-        // 轮询检查响应（减少锁竞争）
-        long startTime = System.currentTimeMillis();
-        while (!future.isDone() && (System.currentTimeMillis() - startTime) < retTimeout) {
-            byte[] buffer = takeRetBuffer();
-            if (buffer != null) {
-                future.complete(buffer);
-                break;
-            }
-            
-            // 短暂休眠避免过度占用CPU
-            try {
-                Thread.sleep(1);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                future.completeExceptionally(e);
-                break;
-            }
-        }
-        
-        try {
-            return future.get(0, TimeUnit.MILLISECONDS); // 立即返回结果或异常
-        } catch (Exception e) {
-            log.error("发送数据失败", e);
-            return null;
-        }
+        ChannelHandlerContext ctx = requireChannel();
+        byte[] data = strData.getBytes(StandardCharsets.UTF_8);
+        // 已按协议格式化，作为原始字节写出，编码器不再处理
+        CompletableFuture<byte[]> future = PendingResponses.of(ctx.channel())
+                .submit(() -> ctx.write(Unpooled.wrappedBuffer(data)), retTimeout, "发送数据");
+        return awaitResponse(future, "发送数据");
     }
 
     /**
      * 发送命令
      * @param timeOut 超时时间
      * @param arrArgs 命令参数
+     * @return 响应字节数组，超时或失败返回null
      */
-    protected void send(long timeOut, String... arrArgs) {
-        if (this.aiboteChanel == null) {
-            throw new RuntimeException("链接错误");
-        }
-        
-        // 使用新的协议格式
-        this.aiboteChanel.writeAndFlush(arrArgs);
-        
-        CountDownLatch latch = new CountDownLatch(1);
-        StopWatch stopwatch = new StopWatch();
-        stopwatch.start();
-        
-        try {
-            // 使用配置管理器获取重试参数
-            int retryTimes = ConfigManager.getInstance().getCommunicationConfig().getRetryTimes();
-            int retryInterval = ConfigManager.getInstance().getCommunicationConfig().getRetryInterval();
-            
-            long remainingTime = timeOut;
-            long startTime = System.currentTimeMillis();
-            
-            for (int attempt = 0; attempt <= retryTimes && remainingTime > 0; attempt++) {
-                if (attempt > 0) {
-                    log.debug("第{}次尝试获取响应", attempt);
-                    Thread.sleep(retryInterval);
-                }
-                
-                while (remainingTime > 0) {
-                    byte[] buffer = takeRetBuffer();
-                    if (buffer != null) {
-                        return; // 成功获取到响应
-                    }
-                    
-                    // 短暂休眠避免过度占用CPU
-                    long waitTime = Math.min(5, remainingTime);
-                    Thread.sleep(Math.min(waitTime, 5));
-                    
-                    remainingTime = timeOut - (System.currentTimeMillis() - startTime);
-                    
-                    // 检查是否超时
-                    if (remainingTime <= 0) {
-                        break;
-                    }
-                }
-            }
-            
-            // 超时处理
-            log.warn("命令执行超时: " + String.join(",", arrArgs));
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("发送命令被中断", e);
-        } finally {
-            stopwatch.stop();
-        }
+    protected byte[] send(long timeOut, String... arrArgs) {
+        return awaitResponse(this.sendAsync(timeOut, arrArgs), String.join(",", arrArgs));
     }
 
     /**
-     * 发送字节命令
+     * 异步发送命令，写出后立即返回
+     * @param timeOut 超时时间
+     * @param arrArgs 命令参数
+     * @return 收到响应时完成的 future，超时以 TimeoutException 失败
+     */
+    protected CompletableFuture<byte[]> sendAsync(long timeOut, String... arrArgs) {
+        ChannelHandlerContext ctx = requireChannel();
+        // 登记与写出由通道队列保证顺序，响应按 FIFO 对应
+        return PendingResponses.of(ctx.channel())
+                .submit(() -> ctx.write(arrArgs), timeOut, String.join(",", arrArgs));
+    }
+
+    /**
+     * 异步发送命令，响应包体按分片流式写入接收器，不在内存中聚合
+     * @param sink 响应接收器
      * @param arrArgs 命令参数
+     * @return 响应接收完毕时完成的 future，超时以 TimeoutException 失败
+     */
+    protected CompletableFuture<byte[]> sendStreamAsync(ResponseSink sink, String... arrArgs) {
+        ChannelHandlerContext ctx = requireChannel();
+        return PendingResponses.of(ctx.channel())
+                .submit(() -> ctx.write(arrArgs), this.transferTimeout, String.join(",", arrArgs), sink);
+    }
+
+    /**
+     * 执行流式命令，阻塞至响应全部写入接收器
+     * @param sink 响应接收器
+     * @param arrArgs 命令参数
+     * @return 响应完整写入返回true，超时或接收器写入失败返回false
+     */
+    protected boolean streamCmd(ResponseSink sink, String... arrArgs) {
+        return this.awaitResponse(this.sendStreamAsync(sink, arrArgs), String.join(",", arrArgs)) != null;
+    }
+
+    /**
+     * 异步发送命令帧，参数可混合字符串与二进制数据
+     * @param timeOut 超时时间
+     * @param frame 命令帧
+     * @return 收到响应时完成的 future，超时以 TimeoutException 失败
+     */
+    protected CompletableFuture<byte[]> sendFrameAsync(long timeOut, CommandFrame frame) {
+        ChannelHandlerContext ctx = requireChannel();
+        return PendingResponses.of(ctx.channel())
+                .submit(() -> ctx.write(frame), timeOut, frame.getName());
+    }
+
+    /**
+     * 发送字节命令
+     * @param arrArgs 已按协议格式化的完整数据
      * @return 响应字节数组
      */
     protected byte[] sendBytes(byte[] arrArgs) {
+        ChannelHandlerContext ctx = requireChannel();
+        CompletableFuture<byte[]> future = PendingResponses.of(ctx.channel())
+                .submit(() -> ctx.write(Unpooled.wrappedBuffer(arrArgs)), retTimeout, "字节命令");
+        return awaitResponse(future, "字节命令");
+    }
+
+    /**
+     * 获取通道上下文，未连接时抛出异常
+     * @return 通道上下文
+     */
+    private ChannelHandlerContext requireChannel() {
         if (this.aiboteChanel == null) {
             throw new RuntimeException("链接错误");
         }
-        
-        CountDownLatch latch = new CountDownLatch(1);
-        
-        this.aiboteChanel.writeAndFlush(arrArgs);
-        
-        StopWatch stopwatch = new StopWatch();
-        stopwatch.start();
-        
+        return this.aiboteChanel;
+    }
+
+    /**
+     * 阻塞等待响应，响应到达时立即唤醒，超时由全局时间轮完成
+     * @param future 已登记的响应 future
+     * @param desc 命令描述，用于日志
+     * @return 响应字节数组，超时或失败返回null
+     */
+    private byte[] awaitResponse(CompletableFuture<byte[]> future, String desc) {
         try {
-            long remainingTime = retTimeout;
-            long startTime = System.currentTimeMillis();
-            
-            while (remainingTime > 0) {
-                byte[] buffer = takeRetBuffer();
-                if (buffer != null) {
-                    return buffer; // 成功获取到响应
-                }
-                
-                // 短暂休眠避免过度占用CPU
-                long waitTime = Math.min(5, remainingTime);
-                Thread.sleep(Math.min(waitTime, 5));
-                
-                remainingTime = retTimeout - (System.currentTimeMillis() - startTime);
-            }
-            
-            // 超时处理
-            log.warn("字节命令执行超时");
+            return future.get();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            log.error("发送字节命令被中断", e);
-        } finally {
-            stopwatch.stop();
+            future.cancel(false);
+            log.error("发送命令被中断: " + desc, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                log.warn("命令执行超时: " + desc);
+            } else {
+                log.error("命令执行失败: " + desc, e.getCause());
+            }
         }
         return null;
     }
 
+    /**
+     * 阻塞等待异步命令的结果，同步方法借此复用异步接口中的参数组装
+     * 超时或失败时记录日志并返回默认值，与同步命令的失败语义一致
+     * @param future 异步命令
+     * @param fallback 超时或失败时的返回值
+     * @param <T> 结果类型
+     * @return 命令结果
+     */
+    protected <T> T awaitResult(CompletableFuture<T> future, T fallback) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            log.error("发送命令被中断", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                log.warn(e.getCause().getMessage());
+            } else {
+                log.error("命令执行失败", e.getCause());
+            }
+        }
+        return fallback;
+    }
+
     /**
      * 执行字节命令
      * @param arrArgs 命令参数
      * @return 响应字节数组
      */
     public byte[] bytesCmd(String... arrArgs) {
-        // 清空之前的响应
-        setRetBuffer(null);
-        
-        this.send(arrArgs);
-        
-        byte[] buffer = takeRetBuffer();
-        if (buffer != null) {
-            return buffer;
-        }
-        return null;
+        return this.send(arrArgs);
     }
 
     /**
@@ -323,16 +295,7 @@ public abstract class AbstractPlatformBot {
      * @return 响应布尔值
      */
     public boolean boolCmd(String... arrArgs) {
-        // 清空之前的响应
-        setRetBuffer(null);
-        
-        this.send(arrArgs);
-        
-        byte[] buffer = takeRetBuffer();
-        if (buffer != null) {
-            return "true".equals(new String(buffer));
-        }
-        return false;
+        return toBool(this.send(arrArgs));
     }
 
     /**
@@ -341,16 +304,7 @@ public abstract class AbstractPlatformBot {
      * @return 响应布尔值
      */
     protected boolean boolDelayCmd(String... arrArgs) {
-        // 清空之前的响应
-        setRetBuffer(null);
-        
-        this.send(this.retDelayTimeout, arrArgs);
-        
-        byte[] buffer = takeRetBuffer();
-        if (buffer != null) {
-            return "true".equals(new String(buffer));
-        }
-        return false;
+        return toBool(this.send(this.retDelayTimeout, arrArgs));
     }
 
     /**
@@ -359,19 +313,16 @@ public abstract class AbstractPlatformBot {
      * @return 响应字符串
      */
     protected String strCmd(String... arrArgs) {
-        // 清空之前的响应
-        setRetBuffer(null);
-        
-        this.send(arrArgs);
-        
-        byte[] buffer = takeRetBuffer();
-        if (buffer != null) {
-            String retStr = new String(buffer);
-            if (!"null".equals(retStr)) {
-                return retStr;
-            }
-        }
-        return null;
+        return toStr(this.send(arrArgs));
+    }
+
+    /**
+     * 执行命令并返回响应视图，用于按整数、坐标等格式解析响应
+     * @param arrArgs 命令参数
+     * @return 响应视图
+     */
+    protected Reply replyCmd(String... arrArgs) {
+        return Reply.of(this.send(arrArgs));
     }
 
     /**
@@ -380,52 +331,125 @@ public abstract class AbstractPlatformBot {
      * @return 响应字符串
      */
     protected String strDelayCmd(String... arrArgs) {
-        // 清空之前的响应
-        setRetBuffer(null);
-        
-        this.send(this.retDelayTimeout, arrArgs);
-        
-        byte[] buffer = takeRetBuffer();
-        if (buffer != null) {
-            String retStr = new String(buffer);
-            if (!"null".equals(retStr)) {
-                return retStr;
-            }
-        }
-        return null;
+        return toStr(this.send(this.retDelayTimeout, arrArgs));
+    }
+
+    /**
+     * 异步执行字节命令
+     * @param arrArgs 命令参数
+     * @return 响应字节数组
+     */
+    public CompletableFuture<byte[]> bytesCmdAsync(String... arrArgs) {
+        return this.sendAsync(this.retTimeout, arrArgs);
+    }
+
+    /**
+     * 异步执行布尔命令
+     * @param arrArgs 命令参数
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> boolCmdAsync(String... arrArgs) {
+        return this.sendAsync(this.retTimeout, arrArgs).thenApply(AbstractPlatformBot::toBool);
+    }
+
+    /**
+     * 异步执行延迟布尔命令
+     * @param arrArgs 命令参数
+     * @return 响应布尔值
+     */
+    protected CompletableFuture<Boolean> boolDelayCmdAsync(String... arrArgs) {
+        return this.sendAsync(this.retDelayTimeout, arrArgs).thenApply(AbstractPlatformBot::toBool);
+    }
+
+    /**
+     * 异步执行字符串命令
+     * @param arrArgs 命令参数
+     * @return 响应字符串
+     */
+    protected CompletableFuture<String> strCmdAsync(String... arrArgs) {
+        return this.sendAsync(this.retTimeout, arrArgs).thenApply(AbstractPlatformBot::toStr);
+    }
+
+    /**
+     * 异步执行延迟字符串命令
+     * @param arrArgs 命令参数
+     * @return 响应字符串
+     */
+    protected CompletableFuture<String> strDelayCmdAsync(String... arrArgs) {
+        return this.sendAsync(this.retDelayTimeout, arrArgs).thenApply(AbstractPlatformBot::toStr);
+    }
+
+    /**
+     * 响应转换为布尔值
+     */
+    private static boolean toBool(byte[] buffer) {
+        return Reply.of(buffer).isTrue();
+    }
+
+    /**
+     * 响应转换为字符串，driver 返回 "null" 时视为空
+     */
+    private static String toStr(byte[] buffer) {
+        return Reply.of(buffer).asUtf8();
     }
 
     /**
      * 发送文件
+     * 文件数据作为二进制参数随命令帧一次写出，不再拼接复制
      * @param functionName 函数名
      * @param androidFilePath Android文件路径
      * @param fileData 文件数据
      * @return 是否发送成功
      */
     protected boolean sendFile(String functionName, String androidFilePath, byte[] fileData) {
-        StringBuilder strData = new StringBuilder();
-        strData.append(functionName.getBytes().length).append("/");
-        strData.append(androidFilePath.getBytes().length).append("/");
-        strData.append(fileData.length).append("/");
-        strData.append(functionName);
-        strData.append(androidFilePath);
-        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-        try {
-            byteArrayOutputStream.write(strData.toString().getBytes(StandardCharsets.UTF_8));
-            byteArrayOutputStream.write(fileData);
-            
-            // 清空之前的响应
-            setRetBuffer(null);
-            
-            this.sendBytes(byteArrayOutputStream.toByteArray());
-            
-            byte[] buffer = takeRetBuffer();
-            if (buffer != null) {
-                return "true".equals(new String(buffer));
-            }
-        } catch (IOException ex) {
-            throw new RuntimeException(ex);
+        CompletableFuture<byte[]> future = this.sendFrameAsync(this.transferTimeout, CommandFrame.of(functionName, androidFilePath, fileData));
+        return toBool(awaitResponse(future, functionName));
+    }
+
+    /**
+     * 发送文件
+     * 先写出协议头，再通过 FileRegion 将文件内容直接从磁盘发送到网络（sendfile），文件不读入堆内存
+     * @param functionName 函数名
+     * @param androidFilePath Android文件路径
+     * @param file 本地文件
+     * @param listener 传输进度回调，可为null
+     * @return 是否发送成功
+     * @throws IOException 本地文件不存在或不可读
+     */
+    protected boolean sendFile(String functionName, String androidFilePath, File file, TransferListener listener) throws IOException {
+        if (!file.isFile() || !file.canRead()) {
+            throw new FileNotFoundException(file.getPath());
         }
-        return false;
+        long length = file.length();
+        ChannelHandlerContext ctx = requireChannel();
+        CompletableFuture<byte[]> future = PendingResponses.of(ctx.channel()).submit(() -> {
+            ChannelProgressivePromise promise = ctx.newProgressivePromise();
+            ctx.write(CommandFrame.withTrailing(length, functionName, androidFilePath)).addListener(f -> {
+                if (!f.isSuccess()) {
+                    // 协议头没有写出，文件内容不能再发送，立即让命令失败并关闭连接
+                    promise.tryFailure(f.cause());
+                    ctx.close();
+                }
+            });
+            if (listener != null) {
+                promise.addListener(new ChannelProgressiveFutureListener() {
+                    @Override
+                    public void operationProgressed(ChannelProgressiveFuture f, long progress, long total) {
+                        listener.onProgress(progress, total);
+                    }
+
+                    @Override
+                    public void operationComplete(ChannelProgressiveFuture f) {
+                        // 最后一次进度回调已报告全部字节
+                    }
+                });
+            }
+            if (promise.isDone()) {
+                // 在 IO 线程上提交时协议头可能已同步写出失败
+                return promise;
+            }
+            return ctx.write(new DefaultFileRegion(file, 0, length), promise);
+        }, this.transferTimeout, functionName);
+        return toBool(awaitResponse(future, functionName));
     }
-}
\ No newline at end of file
+}
@@ -2,18 +2,48 @@ package net.aibote.sdk;
 
 import com.alibaba.fastjson2.JSONArray;
 import com.alibaba.fastjson2.JSONObject;
+import net.aibote.sdk.channel.ResponseSink;
+import net.aibote.sdk.channel.TransferListener;
 import net.aibote.sdk.dto.Point;
 import net.aibote.sdk.options.Region;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 public class AndroidBot extends AbstractPlatformBot {
+
+    /**
+     * 异步接口，同步方法也经由它组装命令，只创建一次
+     */
+    private final AndroidBotAsync async = new AndroidBotAsync(this);
+
+    /**
+     * 获取异步接口，方法写出命令后立即返回 CompletableFuture
+     * 返回的 future 在网络线程上完成，后续处理中不要直接调用同步方法，见 {@link AbstractBotAsync}
+     *
+     * @return AndroidBotAsync
+     */
+    public AndroidBotAsync async() {
+        return async;
+    }
+
+    /**
+     * 创建批量命令，登记的命令一次性写出
+     *
+     * @return CommandBatch
+     */
+    public CommandBatch<AndroidBotAsync> batch() {
+        return new CommandBatch<>(async());
+    }
     /**
      * 截图保存<br />
      * 截图保存在客户端本地了
@@ -66,6 +96,27 @@ public class AndroidBot extends AbstractPlatformBot {
         return this.bytesCmd("takeScreenshot", Integer.toString(region.left), Integer.toString(region.top), Integer.toString(region.right), Integer.toString(region.bottom), Integer.toString(thresholdType), Integer.toString(thresh), Integer.toString(maxval), Float.toString(scale));
     }
 
+    /**
+     * 截图<br />
+     * 截图数据按分片写入接收器，不在内存中聚合
+     *
+     * @param sink          截图数据接收器
+     * @param region        截图区域      [10, 20, 100, 200]，region默认全屏
+     * @param thresholdType 算法类型，参见 {@link #takeScreenshot(Region, int, int, int, float)}
+     * @param thresh        阈值
+     * @param maxval        最大值
+     * @param scale         图片缩放率
+     * @return 完整接收返回true，失败返回false
+     */
+    public boolean takeScreenshot(ResponseSink sink, Region region, int thresholdType, int thresh, int maxval, float scale) {
+        if (thresholdType == 5 || thresholdType == 6) {
+            thresh = 127;
+            maxval = 255;
+        }
+
+        return this.streamCmd(sink, "takeScreenshot", Integer.toString(region.left), Integer.toString(region.top), Integer.toString(region.right), Integer.toString(region.bottom), Integer.toString(thresholdType), Integer.toString(thresh), Integer.toString(maxval), Float.toString(scale));
+    }
+
     /**
      * 获取指定坐标点的色值
      *
@@ -74,7 +125,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<string>} 成功返回#开头的颜色值，失败返回null
      */
     public String getColor(int x, int y) {
-        return this.strCmd("getColor", Integer.toString(x), Integer.toString(y));
+        return awaitResult(async().getColor(x, y), null);
     }
 
     /**
@@ -113,7 +164,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return 成功返回 单坐标点[{x:number, y:number}]，多坐标点[{x1:number, y1:number}, {x2:number, y2:number}...] 失败返回null
      */
     public String findAnimation(int frameRate, Region region) {
-        return strDelayCmd("findAnimation", Integer.toString(frameRate), Integer.toString(region.left), Integer.toString(region.top), Integer.toString(region.right), Integer.toString(region.bottom));
+        return awaitResult(async().findAnimation(frameRate, region), null);
     }
 
 
@@ -181,7 +232,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean press(int x, int y, int duration) {
-        return this.boolCmd("press", Integer.toString(x), Integer.toString(y), Integer.toString(duration));
+        return awaitResult(async().press(x, y, duration), false);
     }
 
 
@@ -194,7 +245,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean move(int x, int y, int duration) {
-        return this.boolCmd("move", Integer.toString(x), Integer.toString(y), Integer.toString(duration));
+        return awaitResult(async().move(x, y, duration), false);
     }
 
     /**
@@ -203,7 +254,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean release() {
-        return this.boolCmd("release");
+        return awaitResult(async().release(), false);
     }
 
 
@@ -215,7 +266,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean click(int x, int y) {
-        return this.boolCmd("click", Integer.toString(x), Integer.toString(y));
+        return awaitResult(async().click(x, y), false);
     }
 
     /**
@@ -226,7 +277,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean doubleClick(int x, int y) {
-        return this.boolCmd("doubleClick", Integer.toString(x), Integer.toString(y));
+        return awaitResult(async().doubleClick(x, y), false);
     }
 
     /**
@@ -238,7 +289,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean longClick(int x, int y, int duration) {
-        return this.boolCmd("longClick", Integer.toString(x), Integer.toString(y), Integer.toString(duration));
+        return awaitResult(async().longClick(x, y, duration), false);
     }
 
     /**
@@ -252,7 +303,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean swipe(int startX, int startY, int endX, int endY, float duration) {
-        return this.boolCmd("swipe", Integer.toString(startX), Integer.toString(startY), Integer.toString(endX), Integer.toString(endY), Float.toString(duration));
+        return awaitResult(async().swipe(startX, startY, endX, endY, duration), false);
     }
 
 
@@ -264,7 +315,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean dispatchGesture(net.aibote.sdk.options.GesturePath gesturePath, float duration) {
-        return this.boolCmd("dispatchGesture", gesturePath.gesturePathStr("\n"), Float.toString(duration));
+        return awaitResult(async().dispatchGesture(gesturePath, duration), false);
     }
 
 
@@ -275,7 +326,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean sendKeys(String text) {
-        return this.boolCmd("sendKeys", text);
+        return awaitResult(async().sendKeys(text), false);
     }
 
     /**
@@ -286,7 +337,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean sendVk(int keyCode) {
-        return this.boolCmd("sendVk", Integer.toString(keyCode));
+        return awaitResult(async().sendVk(keyCode), false);
     }
 
     /**
@@ -295,7 +346,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean back() {
-        return this.boolCmd("back");
+        return awaitResult(async().back(), false);
     }
 
     /**
@@ -304,7 +355,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean home() {
-        return this.boolCmd("home");
+        return awaitResult(async().home(), false);
     }
 
     /**
@@ -313,7 +364,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean recents() {
-        return this.boolCmd("recents");
+        return awaitResult(async().recents(), false);
     }
 
     /**
@@ -322,7 +373,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean powerDialog() {
-        return this.boolCmd("powerDialog");
+        return awaitResult(async().powerDialog(), false);
     }
 
     /**
@@ -487,7 +538,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 总是返回true
      */
     public boolean initYolo(String yoloServerIp, String modelPath, String classesPath) {
-        return this.boolCmd("initYolo", yoloServerIp, modelPath, classesPath);
+        return awaitResult(async().initYolo(yoloServerIp, modelPath, classesPath), false);
     }
 
     /**
@@ -526,7 +577,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<string>} 返回请求数据内容
      */
     public String urlRequest(String url, String requestType, String headers, String postData) {
-        return this.strCmd("urlRequest", url, requestType, headers, postData);
+        return awaitResult(async().urlRequest(url, requestType, headers, postData), null);
     }
 
     /**
@@ -537,7 +588,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 返回true
      */
     public boolean showToast(String text, float duration) {
-        return this.boolCmd("showToast", text, Float.toString(duration));
+        return awaitResult(async().showToast(text, duration), false);
     }
 
     /**
@@ -547,7 +598,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false。非Aibote界面时候调用，需要开启悬浮窗
      */
     public boolean startApp(String name) {
-        return this.boolCmd("startApp", name);
+        return awaitResult(async().startApp(name), false);
     }
 
     /**
@@ -557,7 +608,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 正在运行返回true，否则返回false
      */
     public boolean appIsRunnig(String name) {
-        return this.boolCmd("appIsRunnig", name);
+        return awaitResult(async().appIsRunnig(name), false);
     }
 
     /**
@@ -566,7 +617,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return 成功返回已安装app包名数组(使用 | 分割)，失败返回null
      */
     public String getInstalledPackages() {
-        return this.strCmd("getInstalledPackages");
+        return awaitResult(async().getInstalledPackages(), null);
     }
 
     /**
@@ -575,7 +626,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return 成功返回屏幕大小使用 | 分割
      */
     public String getWindowSize() {
-        return this.strCmd("getWindowSize");
+        return awaitResult(async().getWindowSize(), null);
     }
 
     /**
@@ -585,7 +636,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return 成功返回 图片大小使用 | 分割
      */
     public String getImageSize(String imagePath) {
-        return this.strCmd("getImageSize", imagePath);
+        return awaitResult(async().getImageSize(imagePath), null);
     }
 
     /**
@@ -594,7 +645,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<string>} 成功返回安卓手机ID
      */
     public String getAndroidId() {
-        return this.strCmd("getAndroidId");
+        return awaitResult(async().getAndroidId(), null);
     }
 
     /**
@@ -603,7 +654,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<string>} 成功返回投屏组号
      */
     public String getGroup() {
-        return this.strCmd("getGroup");
+        return awaitResult(async().getGroup(), null);
     }
 
     /**
@@ -612,7 +663,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<string>} 成功返回投屏编号
      */
     public String getIdentifier() {
-        return this.strCmd("getIdentifier");
+        return awaitResult(async().getIdentifier(), null);
     }
 
     /**
@@ -621,7 +672,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<string>} 成功返回投屏标题
      */
     public String getTitle() {
-        return this.strCmd("getTitle");
+        return awaitResult(async().getTitle(), null);
     }
 
     /**
@@ -702,7 +753,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<string>} 成功返回元素内容，失败返回null
      */
     public String getElementDescription(String xpath) {
-        return this.strDelayCmd("getElementDescription", xpath);
+        return awaitResult(async().getElementDescription(xpath), null);
     }
 
     /**
@@ -712,7 +763,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<string>} 成功返回元素内容，失败返回null
      */
     public String getElementText(String xpath) {
-        return this.strCmd("getElementText", xpath);
+        return awaitResult(async().getElementText(xpath), null);
     }
 
     /**
@@ -722,14 +773,14 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 可见 ture，不可见 false
      */
     public boolean elementIsVisible(String xpath) {
-        String windowRect = this.getWindowSize();
+        Point windowSize = this.replyCmd("getWindowSize").asPointPair();
+        if (windowSize == null) return false;
         Region elementRect = this.getElementRect(xpath);
         if (elementRect == null) return false;
 
-        String[] split = windowRect.split("\\|");
         int elementWidth = elementRect.right - elementRect.left;
         int elementHeight = elementRect.bottom - elementRect.top;
-        if (elementRect.top < 0 || elementRect.left < 0 || elementWidth > Integer.parseInt(split[0]) || elementHeight > Integer.parseInt(split[1])) return false;
+        if (elementRect.top < 0 || elementRect.left < 0 || elementWidth > windowSize.x || elementHeight > windowSize.y) return false;
         else return true;
     }
 
@@ -741,7 +792,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean setElementText(String xpath, String text) {
-        return this.boolDelayCmd("setElementText", xpath, text);
+        return awaitResult(async().setElementText(xpath, text), false);
     }
 
     /**
@@ -751,7 +802,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean clickElement(String xpath) {
-        return this.boolDelayCmd("clickElement", xpath);
+        return awaitResult(async().clickElement(xpath), false);
     }
 
     /**
@@ -762,7 +813,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean scrollElement(String xpath, int direction) {
-        return this.boolDelayCmd("scrollElement", xpath, Integer.toString(direction));
+        return awaitResult(async().scrollElement(xpath, direction), false);
     }
 
     /**
@@ -772,7 +823,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean existsElement(String xpath) {
-        return this.boolCmd("existsElement", xpath);
+        return awaitResult(async().existsElement(xpath), false);
     }
 
     /**
@@ -782,7 +833,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean isSelectedElement(String xpath) {
-        return this.boolCmd("isSelectedElement", xpath);
+        return awaitResult(async().isSelectedElement(xpath), false);
     }
 
     /**
@@ -793,8 +844,20 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean pushFile(String windowsFilePath, String androidFilePath) throws IOException {
-        byte[] fileData = FileUtils.readFileToByteArray(new File(windowsFilePath));
-        return this.sendFile("pushFile", androidFilePath, fileData);
+        return this.pushFile(windowsFilePath, androidFilePath, null);
+    }
+
+    /**
+     * 上传文件<br />
+     * 文件内容直接从磁盘发送到网络，不读入内存
+     *
+     * @param windowsFilePath 电脑文件路径，注意电脑路径 "\\"转义问题
+     * @param androidFilePath 安卓文件保存路径, 安卓外部存储根目录 /storage/emulated/0/
+     * @param listener        传输进度回调，可为null
+     * @return 成功返回true 失败返回false
+     */
+    public boolean pushFile(String windowsFilePath, String androidFilePath, TransferListener listener) throws IOException {
+        return this.sendFile("pushFile", androidFilePath, new File(windowsFilePath), listener);
     }
 
     /**
@@ -805,8 +868,27 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<void>}
      */
     public void pullFile(String androidFilePath, String windowsFilePath) throws IOException {
-        byte[] byteData = this.bytesCmd("pullFile", androidFilePath);
-        FileUtils.writeByteArrayToFile(new File(windowsFilePath), byteData, true);
+        Path target = Paths.get(windowsFilePath);
+        boolean success;
+        // 文件内容边接收边写入磁盘，覆盖已有文件
+        try (FileChannel fileChannel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            success = this.streamCmd(ResponseSink.of(fileChannel), "pullFile", androidFilePath);
+        }
+        if (!success) {
+            Files.deleteIfExists(target);
+            throw new IOException("拉取文件失败: " + androidFilePath);
+        }
+    }
+
+    /**
+     * 拉取文件，文件内容按分片写入接收器
+     *
+     * @param androidFilePath 安卓文件路径，安卓外部存储根目录 /storage/emulated/0/
+     * @param sink            文件内容接收器
+     * @return 完整接收返回true，失败返回false
+     */
+    public boolean pullFile(String androidFilePath, ResponseSink sink) {
+        return this.streamCmd(sink, "pullFile", androidFilePath);
     }
 
     /**
@@ -817,7 +899,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回 false
      */
     public boolean downloadFile(String url, String savePath) {
-        return this.boolCmd("downloadFile", url, savePath);
+        return awaitResult(async().downloadFile(url, savePath), false);
     }
 
     /**
@@ -829,7 +911,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回 false
      */
     public boolean writeAndroidFile(String androidFilePath, String text, boolean isAppend) {
-        return this.boolCmd("writeAndroidFile", androidFilePath, text, Boolean.toString(isAppend));
+        return awaitResult(async().writeAndroidFile(androidFilePath, text, isAppend), false);
     }
 
     /**
@@ -839,7 +921,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<string>} 成功返回文件内容，失败返回 null
      */
     public String readAndroidFile(String androidFilePath) {
-        return this.strCmd("readAndroidFile", androidFilePath);
+        return awaitResult(async().readAndroidFile(androidFilePath), null);
     }
 
     /**
@@ -849,7 +931,18 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return 成功返回文件字节数组，失败返回 null
      */
     public byte[] readAndroidFileBytes(String androidFilePath) {
-        return this.bytesCmd("readAndroidFile", androidFilePath);
+        return awaitResult(async().readAndroidFileBytes(androidFilePath), null);
+    }
+
+    /**
+     * 读取安卓文件，文件内容按分片写入接收器
+     *
+     * @param androidFilePath 安卓文件路径，安卓外部存储根目录 /storage/emulated/0/
+     * @param sink            文件内容接收器
+     * @return 完整接收返回true，失败返回false
+     */
+    public boolean readAndroidFileBytes(String androidFilePath, ResponseSink sink) {
+        return this.streamCmd(sink, "readAndroidFile", androidFilePath);
     }
 
     /**
@@ -859,7 +952,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回 false
      */
     public String deleteAndroidFile(String androidFilePath) {
-        return this.strCmd("deleteAndroidFile", androidFilePath);
+        return awaitResult(async().deleteAndroidFile(androidFilePath), null);
     }
 
     /**
@@ -869,7 +962,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回 false
      */
     public String existsAndroidFile(String androidFilePath) {
-        return this.strCmd("existsAndroidFile", androidFilePath);
+        return awaitResult(async().existsAndroidFile(androidFilePath), null);
     }
 
     /**
@@ -879,7 +972,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return 成功返回所有子文件名称，用|分割，失败返回null
      */
     public String getAndroidSubFiles(String androidDirectory) {
-        return this.strCmd("getAndroidSubFiles", androidDirectory);
+        return awaitResult(async().getAndroidSubFiles(androidDirectory), null);
     }
 
     /**
@@ -889,7 +982,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回 false
      */
     public boolean makeAndroidDir(String androidDirectory) {
-        return this.boolCmd("makeAndroidDir", androidDirectory);
+        return awaitResult(async().makeAndroidDir(androidDirectory), false);
     }
 
 
@@ -904,7 +997,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回 false
      */
     public boolean startActivity(String action, String uri, String packageName, String className, String type) {
-        return this.boolCmd("startActivity", action, uri, packageName, className, type);
+        return awaitResult(async().startActivity(action, uri, packageName, className, type), false);
     }
 
     /**
@@ -914,7 +1007,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回 false
      */
     public boolean callPhone(String phoneNumber) {
-        return this.boolCmd("callPhone", phoneNumber);
+        return awaitResult(async().callPhone(phoneNumber), false);
     }
 
     /**
@@ -925,7 +1018,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回 false
      */
     public boolean sendMsg(String phoneNumber, String message) {
-        return this.boolCmd("sendMsg", phoneNumber, message);
+        return awaitResult(async().sendMsg(phoneNumber, message), false);
     }
 
     /**
@@ -934,7 +1027,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<string>} 成功返回当前activity
      */
     public String getActivity() {
-        return this.strCmd("getActivity");
+        return awaitResult(async().getActivity(), null);
     }
 
     /**
@@ -943,7 +1036,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<string>} 成功返回当前包名
      */
     public String getPackage() {
-        return this.strCmd("getPackage");
+        return awaitResult(async().getPackage(), null);
     }
 
     /**
@@ -953,7 +1046,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回 false
      */
     public boolean setClipboardText(String text) {
-        return this.boolCmd("setClipboardText", text);
+        return awaitResult(async().setClipboardText(text), false);
     }
 
     /**
@@ -962,7 +1055,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<string>} 需要打开aibote输入法。成功返回剪切板文本，失败返回null
      */
     public String getClipboardText() {
-        return this.strCmd("getClipboardText");
+        return awaitResult(async().getClipboardText(), null);
     }
 
     /**
@@ -977,7 +1070,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回 false
      */
     public boolean createTextView(int id, String text, int x, int y, int width, int height) {
-        return this.boolCmd("createTextView", Integer.toString(id), text, Integer.toString(x), Integer.toString(y), Integer.toString(width), Integer.toString(height));
+        return awaitResult(async().createTextView(id, text, x, y, width, height), false);
     }
 
     /**
@@ -992,7 +1085,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回 false
      */
     public boolean createEditText(int id, String text, int x, int y, int width, int height) {
-        return this.boolCmd("createEditText", Integer.toString(id), text, Integer.toString(x), Integer.toString(y), Integer.toString(width), Integer.toString(height));
+        return awaitResult(async().createEditText(id, text, x, y, width, height), false);
     }
 
     /**
@@ -1008,7 +1101,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回 false
      */
     public boolean createCheckBox(int id, String text, int x, int y, int width, int height, boolean isSelect) {
-        return this.boolCmd("createCheckBox", Integer.toString(id), text, Integer.toString(x), Integer.toString(y), Integer.toString(width), Integer.toString(height), Boolean.toString(isSelect));
+        return awaitResult(async().createCheckBox(id, text, x, y, width, height, isSelect), false);
     }
 
     /**
@@ -1024,7 +1117,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回 false
      */
     public boolean createListText(int id, String text, int x, int y, int width, int height, String listText) {
-        return this.boolCmd("createListText", Integer.toString(id), text, Integer.toString(x), Integer.toString(y), Integer.toString(width), Integer.toString(height), listText);
+        return awaitResult(async().createListText(id, text, x, y, width, height, listText), false);
     }
 
     /**
@@ -1039,7 +1132,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回 false
      */
     public boolean createWebView(int id, String url, int x, int y, int width, int height) {
-        return this.boolCmd("createWebView", Integer.toString(id), url, Integer.toString(x), Integer.toString(y), Integer.toString(width), Integer.toString(height));
+        return awaitResult(async().createWebView(id, url, x, y, width, height), false);
     }
 
     /**
@@ -1048,7 +1141,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回 false
      */
     public boolean clearScriptControl() {
-        return this.boolCmd("clearScriptControl");
+        return awaitResult(async().clearScriptControl(), false);
     }
 
     /**
@@ -1070,7 +1163,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean setImplicitTimeout(long waitMs, long intervalMs) {
-        return this.boolCmd("setImplicitTimeout", Long.toString(waitMs), Long.toString(intervalMs));
+        return awaitResult(async().setImplicitTimeout(waitMs, intervalMs), false);
     }
 
     /**
@@ -1080,7 +1173,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean setAndroidTimeout(long recvTimeout) {
-        return this.boolCmd("setAndroidTimeout", Long.toString(recvTimeout));
+        return awaitResult(async().setAndroidTimeout(recvTimeout), false);
     }
 
     /**
@@ -1090,7 +1183,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean dispatchGestures(String gesturesPath) {
-        return this.boolCmd("dispatchGestures", gesturesPath);
+        return awaitResult(async().dispatchGestures(gesturesPath), false);
     }
 
     /**
@@ -1124,8 +1217,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return boolean 成功返回true，失败返回false
      */
     public boolean createSwitchButton(int id, String text, int x, int y, int width, int height, boolean isChecked) {
-        return this.boolCmd("createSwitchButton", Integer.toString(id), text, Integer.toString(x), Integer.toString(y),
-                           Integer.toString(width), Integer.toString(height), Boolean.toString(isChecked));
+        return awaitResult(async().createSwitchButton(id, text, x, y, width, height, isChecked), false);
     }
 
     /**
@@ -1134,13 +1226,8 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return int 返回手机旋转的角度
      */
     public int getRotationAngle() {
-        String strRet = this.strCmd("getRotationAngle");
-        try {
-            return Integer.parseInt(strRet);
-        } catch (Exception e) {
-            // 解析失败，返回 0
-            return 0;
-        }
+        // 解析失败，返回 0
+        return this.replyCmd("getRotationAngle").asInt(0);
     }
 
     /**
@@ -1157,7 +1244,7 @@ public class AndroidBot extends AbstractPlatformBot {
      * @return String 返回激活信息
      */
     public String activateFrame(String activateKey) {
-        return this.strCmd("activateFrame", activateKey);
+        return awaitResult(async().activateFrame(activateKey), null);
     }
 
     /**
@@ -0,0 +1,683 @@
+package net.aibote.sdk;
+
+import net.aibote.sdk.options.Region;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AndroidBot 异步接口
+ * 通过 {@link AndroidBot#async()} 获取。方法与 AndroidBot 中单条命令的方法一一对应，
+ * 写出命令后立即返回，不阻塞调用线程；组合方法请使用 {@link #call(java.util.function.Function)}。
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+public class AndroidBotAsync extends AbstractBotAsync<AndroidBot> {
+
+    AndroidBotAsync(AndroidBot bot) {
+        super(bot);
+    }
+
+    /**
+     * 获取指定坐标点的色值
+     *
+     * @param x 横坐标
+     * @param y 纵坐标
+     * @return {Promise.<string>} 成功返回#开头的颜色值，失败返回null
+     */
+    public CompletableFuture<String> getColor(int x, int y) {
+        return bot.strCmdAsync("getColor", Integer.toString(x), Integer.toString(y));
+    }
+
+    /**
+     * 找动态图
+     *
+     * @param frameRate 前后两张图相隔的时间，单位毫秒
+     * @param frameRate 前后两张图相隔的时间，单位毫秒
+     * @return 成功返回 单坐标点[{x:number, y:number}]，多坐标点[{x1:number, y1:number}, {x2:number, y2:number}...] 失败返回null
+     */
+    public CompletableFuture<String> findAnimation(int frameRate, Region region) {
+        return bot.strDelayCmdAsync("findAnimation", Integer.toString(frameRate), Integer.toString(region.left), Integer.toString(region.top), Integer.toString(region.right), Integer.toString(region.bottom));
+    }
+
+    /**
+     * 手指按下
+     *
+     * @param x        横坐标
+     * @param y        纵坐标
+     * @param duration 按下时长，单位毫秒
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> press(int x, int y, int duration) {
+        return bot.boolCmdAsync("press", Integer.toString(x), Integer.toString(y), Integer.toString(duration));
+    }
+
+    /**
+     * 手指移动
+     *
+     * @param x        横坐标
+     * @param y        纵坐标
+     * @param duration 移动时长，单位毫秒
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> move(int x, int y, int duration) {
+        return bot.boolCmdAsync("move", Integer.toString(x), Integer.toString(y), Integer.toString(duration));
+    }
+
+    /**
+     * 手指释放
+     *
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> release() {
+        return bot.boolCmdAsync("release");
+    }
+
+    /**
+     * 点击坐标
+     *
+     * @param x 横坐标
+     * @param y 纵坐标
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> click(int x, int y) {
+        return bot.boolCmdAsync("click", Integer.toString(x), Integer.toString(y));
+    }
+
+    /**
+     * 双击坐标
+     *
+     * @param x 横坐标
+     * @param y 纵坐标
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> doubleClick(int x, int y) {
+        return bot.boolCmdAsync("doubleClick", Integer.toString(x), Integer.toString(y));
+    }
+
+    /**
+     * 长按坐标
+     *
+     * @param x        横坐标
+     * @param y        纵坐标
+     * @param duration 长按时长，单位毫秒
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> longClick(int x, int y, int duration) {
+        return bot.boolCmdAsync("longClick", Integer.toString(x), Integer.toString(y), Integer.toString(duration));
+    }
+
+    /**
+     * 滑动坐标
+     *
+     * @param startX   起始横坐标
+     * @param startY   起始纵坐标
+     * @param endX     结束横坐标
+     * @param endY     结束纵坐标
+     * @param duration 滑动时长，单位毫秒
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> swipe(int startX, int startY, int endX, int endY, float duration) {
+        return bot.boolCmdAsync("swipe", Integer.toString(startX), Integer.toString(startY), Integer.toString(endX), Integer.toString(endY), Float.toString(duration));
+    }
+
+    /**
+     * 执行手势
+     *
+     * @param gesturePath 手势路径
+     * @param duration    手势时长，单位毫秒
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> dispatchGesture(net.aibote.sdk.options.GesturePath gesturePath, float duration) {
+        return bot.boolCmdAsync("dispatchGesture", gesturePath.gesturePathStr("\n"), Float.toString(duration));
+    }
+
+    /**
+     * 发送文本
+     *
+     * @param text 发送的文本，需要打开aibote输入法
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> sendKeys(String text) {
+        return bot.boolCmdAsync("sendKeys", text);
+    }
+
+    /**
+     * 发送按键
+     *
+     * @param keyCode 发送的虚拟按键，需要打开aibote输入法。例如：最近应用列表：187  回车：66
+     *                按键对照表 https://blog.csdn.net/yaoyaozaiye/article/details/122826340
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> sendVk(int keyCode) {
+        return bot.boolCmdAsync("sendVk", Integer.toString(keyCode));
+    }
+
+    /**
+     * 返回
+     *
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> back() {
+        return bot.boolCmdAsync("back");
+    }
+
+    /**
+     * home
+     *
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> home() {
+        return bot.boolCmdAsync("home");
+    }
+
+    /**
+     * 显示最近任务
+     *
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> recents() {
+        return bot.boolCmdAsync("recents");
+    }
+
+    /**
+     * 打开 开/关机 对话框，基于无障碍权限
+     *
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> powerDialog() {
+        return bot.boolCmdAsync("powerDialog");
+    }
+
+    /**
+     * 初始化yolo服务
+     *
+     * @param yoloServerIp yolo服务器IP。端口固定为9528
+     * @param modelPath    模型路径
+     * @param classesPath  种类路径，CPU模式需要此参数
+     * @return {Promise.<boolean>} 总是返回true
+     */
+    public CompletableFuture<Boolean> initYolo(String yoloServerIp, String modelPath, String classesPath) {
+        return bot.boolCmdAsync("initYolo", yoloServerIp, modelPath, classesPath);
+    }
+
+    /**
+     * URL请求
+     *
+     * @param url         请求的地址 http://www.ai-bot.net
+     * @param requestType 请求类型，GET或者POST
+     * @param headers     可选参数，请求头
+     * @param postData    可选参数，用作POST 提交的数据
+     * @return {Promise.<string>} 返回请求数据内容
+     */
+    public CompletableFuture<String> urlRequest(String url, String requestType, String headers, String postData) {
+        return bot.strCmdAsync("urlRequest", url, requestType, headers, postData);
+    }
+
+    /**
+     * Toast消息提示
+     *
+     * @param text     提示的文本
+     * @param duration 显示时长，最大时长3500毫秒
+     * @return {Promise.<boolean>} 返回true
+     */
+    public CompletableFuture<Boolean> showToast(String text, float duration) {
+        return bot.boolCmdAsync("showToast", text, Float.toString(duration));
+    }
+
+    /**
+     * 启动App
+     *
+     * @param name 包名或者app名称
+     * @return {Promise.<boolean>} 成功返回true 失败返回false。非Aibote界面时候调用，需要开启悬浮窗
+     */
+    public CompletableFuture<Boolean> startApp(String name) {
+        return bot.boolCmdAsync("startApp", name);
+    }
+
+    /**
+     * 判断app是否正在运行(包含前后台)
+     *
+     * @param name 包名或者app名称
+     * @return {Promise.<boolean>} 正在运行返回true，否则返回false
+     */
+    public CompletableFuture<Boolean> appIsRunnig(String name) {
+        return bot.boolCmdAsync("appIsRunnig", name);
+    }
+
+    /**
+     * 获取已安装app的包名(不包含系统APP)
+     *
+     * @return 成功返回已安装app包名数组(使用 | 分割)，失败返回null
+     */
+    public CompletableFuture<String> getInstalledPackages() {
+        return bot.strCmdAsync("getInstalledPackages");
+    }
+
+    /**
+     * 屏幕大小
+     *
+     * @return 成功返回屏幕大小使用 | 分割
+     */
+    public CompletableFuture<String> getWindowSize() {
+        return bot.strCmdAsync("getWindowSize");
+    }
+
+    /**
+     * 图片大小
+     *
+     * @param imagePath 图片路径
+     * @return 成功返回 图片大小使用 | 分割
+     */
+    public CompletableFuture<String> getImageSize(String imagePath) {
+        return bot.strCmdAsync("getImageSize", imagePath);
+    }
+
+    /**
+     * 获取安卓ID
+     *
+     * @return {Promise.<string>} 成功返回安卓手机ID
+     */
+    public CompletableFuture<String> getAndroidId() {
+        return bot.strCmdAsync("getAndroidId");
+    }
+
+    /**
+     * 获取投屏组号
+     *
+     * @return {Promise.<string>} 成功返回投屏组号
+     */
+    public CompletableFuture<String> getGroup() {
+        return bot.strCmdAsync("getGroup");
+    }
+
+    /**
+     * 获取投屏编号
+     *
+     * @return {Promise.<string>} 成功返回投屏编号
+     */
+    public CompletableFuture<String> getIdentifier() {
+        return bot.strCmdAsync("getIdentifier");
+    }
+
+    /**
+     * 获取投屏标题
+     *
+     * @return {Promise.<string>} 成功返回投屏标题
+     */
+    public CompletableFuture<String> getTitle() {
+        return bot.strCmdAsync("getTitle");
+    }
+
+    /**
+     * 获取元素描述
+     *
+     * @param xpath 元素路径
+     * @return {Promise.<string>} 成功返回元素内容，失败返回null
+     */
+    public CompletableFuture<String> getElementDescription(String xpath) {
+        return bot.strDelayCmdAsync("getElementDescription", xpath);
+    }
+
+    /**
+     * 获取元素文本
+     *
+     * @param xpath 元素路径
+     * @return {Promise.<string>} 成功返回元素内容，失败返回null
+     */
+    public CompletableFuture<String> getElementText(String xpath) {
+        return bot.strCmdAsync("getElementText", xpath);
+    }
+
+    /**
+     * 设置元素文本
+     *
+     * @param xpath 元素路径
+     * @param text  设置的文本
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> setElementText(String xpath, String text) {
+        return bot.boolDelayCmdAsync("setElementText", xpath, text);
+    }
+
+    /**
+     * 点击元素
+     *
+     * @param xpath 元素路径
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> clickElement(String xpath) {
+        return bot.boolDelayCmdAsync("clickElement", xpath);
+    }
+
+    /**
+     * 滚动元素
+     *
+     * @param xpath     元素路径
+     * @param direction 0 向前滑动， 1 向后滑动
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> scrollElement(String xpath, int direction) {
+        return bot.boolDelayCmdAsync("scrollElement", xpath, Integer.toString(direction));
+    }
+
+    /**
+     * 判断元素是否存在
+     *
+     * @param xpath 元素路径
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> existsElement(String xpath) {
+        return bot.boolCmdAsync("existsElement", xpath);
+    }
+
+    /**
+     * 判断元素是否选中
+     *
+     * @param xpath 元素路径
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> isSelectedElement(String xpath) {
+        return bot.boolCmdAsync("isSelectedElement", xpath);
+    }
+
+    /**
+     * GET 下载url文件
+     *
+     * @param {string} url 文件请求地址
+     * @param {string} savePath 安卓文件路径，安卓外部存储根目录 /storage/emulated/0/
+     * @return {Promise.<boolean>} 成功返回true，失败返回 false
+     */
+    public CompletableFuture<Boolean> downloadFile(String url, String savePath) {
+        return bot.boolCmdAsync("downloadFile", url, savePath);
+    }
+
+    /**
+     * 写入安卓文件
+     *
+     * @param androidFilePath 安卓文件路径，安卓外部存储根目录 /storage/emulated/0/
+     * @param text            写入的内容
+     * @param {boolean}       isAppend 可选参数，是否追加，默认覆盖文件内容
+     * @return {Promise.<boolean>} 成功返回true，失败返回 false
+     */
+    public CompletableFuture<Boolean> writeAndroidFile(String androidFilePath, String text, boolean isAppend) {
+        return bot.boolCmdAsync("writeAndroidFile", androidFilePath, text, Boolean.toString(isAppend));
+    }
+
+    /**
+     * 读取安卓文件
+     *
+     * @param androidFilePath 安卓文件路径，安卓外部存储根目录 /storage/emulated/0/
+     * @return {Promise.<string>} 成功返回文件内容，失败返回 null
+     */
+    public CompletableFuture<String> readAndroidFile(String androidFilePath) {
+        return bot.strCmdAsync("readAndroidFile", androidFilePath);
+    }
+
+    /**
+     * 读取安卓文件
+     *
+     * @param androidFilePath 安卓文件路径，安卓外部存储根目录 /storage/emulated/0/
+     * @return 成功返回文件字节数组，失败返回 null
+     */
+    public CompletableFuture<byte[]> readAndroidFileBytes(String androidFilePath) {
+        return bot.bytesCmdAsync("readAndroidFile", androidFilePath);
+    }
+
+    /**
+     * 删除安卓文件
+     *
+     * @param androidFilePath 安卓文件路径，安卓外部存储根目录 /storage/emulated/0/
+     * @return {Promise.<boolean>} 成功返回true，失败返回 false
+     */
+    public CompletableFuture<String> deleteAndroidFile(String androidFilePath) {
+        return bot.strCmdAsync("deleteAndroidFile", androidFilePath);
+    }
+
+    /**
+     * 判断文件是否存在
+     *
+     * @param androidFilePath 安卓文件路径，安卓外部存储根目录 /storage/emulated/0/
+     * @return {Promise.<boolean>} 成功返回true，失败返回 false
+     */
+    public CompletableFuture<String> existsAndroidFile(String androidFilePath) {
+        return bot.strCmdAsync("existsAndroidFile", androidFilePath);
+    }
+
+    /**
+     * 获取文件夹内的所有文件(不包含深层子目录)
+     *
+     * @param androidDirectory 安卓目录，安卓外部存储根目录 /storage/emulated/0/
+     * @return 成功返回所有子文件名称，用|分割，失败返回null
+     */
+    public CompletableFuture<String> getAndroidSubFiles(String androidDirectory) {
+        return bot.strCmdAsync("getAndroidSubFiles", androidDirectory);
+    }
+
+    /**
+     * 创建安卓文件夹
+     *
+     * @param androidDirectory 安卓目录
+     * @return {Promise.<boolean>} 成功返回true，失败返回 false
+     */
+    public CompletableFuture<Boolean> makeAndroidDir(String androidDirectory) {
+        return bot.boolCmdAsync("makeAndroidDir", androidDirectory);
+    }
+
+    /**
+     * Intent 跳转
+     *
+     * @param action      动作，例如 "android.intent.action.VIEW"
+     * @param uri         跳转链接，可选参数 例如：打开支付宝扫一扫界面，"alipayqr://platformapi/startapp?saId=10000007"
+     * @param packageName 包名，可选参数 "com.xxx.xxxxx"
+     * @param className   类名，可选参数
+     * @param type        类型，可选参数
+     * @return {Promise.<boolean>} 成功返回true，失败返回 false
+     */
+    public CompletableFuture<Boolean> startActivity(String action, String uri, String packageName, String className, String type) {
+        return bot.boolCmdAsync("startActivity", action, uri, packageName, className, type);
+    }
+
+    /**
+     * 拨打电话
+     *
+     * @param phoneNumber 拨打的电话号码
+     * @return {Promise.<boolean>} 成功返回true，失败返回 false
+     */
+    public CompletableFuture<Boolean> callPhone(String phoneNumber) {
+        return bot.boolCmdAsync("callPhone", phoneNumber);
+    }
+
+    /**
+     * 发送短信
+     *
+     * @param phoneNumber 发送的电话号码
+     * @param message     短信内容
+     * @return {Promise.<boolean>} 成功返回true，失败返回 false
+     */
+    public CompletableFuture<Boolean> sendMsg(String phoneNumber, String message) {
+        return bot.boolCmdAsync("sendMsg", phoneNumber, message);
+    }
+
+    /**
+     * 获取当前活动窗口(Activity)
+     *
+     * @return {Promise.<string>} 成功返回当前activity
+     */
+    public CompletableFuture<String> getActivity() {
+        return bot.strCmdAsync("getActivity");
+    }
+
+    /**
+     * 获取当前活动包名(Package)
+     *
+     * @return {Promise.<string>} 成功返回当前包名
+     */
+    public CompletableFuture<String> getPackage() {
+        return bot.strCmdAsync("getPackage");
+    }
+
+    /**
+     * 设置剪切板文本
+     *
+     * @param text 设置的文本
+     * @return {Promise.<boolean>} 成功返回true，失败返回 false
+     */
+    public CompletableFuture<Boolean> setClipboardText(String text) {
+        return bot.boolCmdAsync("setClipboardText", text);
+    }
+
+    /**
+     * 获取剪切板文本
+     *
+     * @return {Promise.<string>} 需要打开aibote输入法。成功返回剪切板文本，失败返回null
+     */
+    public CompletableFuture<String> getClipboardText() {
+        return bot.strCmdAsync("getClipboardText");
+    }
+
+    /**
+     * 创建TextView控件
+     *
+     * @param id     控件ID，不可与其他控件重复
+     * @param text   控件文本
+     * @param x      控件在屏幕上x坐标
+     * @param y      控件在屏幕上y坐标
+     * @param width  控件宽度
+     * @param height 控件高度
+     * @return {Promise.<boolean>} 成功返回true，失败返回 false
+     */
+    public CompletableFuture<Boolean> createTextView(int id, String text, int x, int y, int width, int height) {
+        return bot.boolCmdAsync("createTextView", Integer.toString(id), text, Integer.toString(x), Integer.toString(y), Integer.toString(width), Integer.toString(height));
+    }
+
+    /**
+     * 创建EditText控件
+     *
+     * @param id     控件ID，不可与其他控件重复
+     * @param text   提示文本
+     * @param x      控件在屏幕上x坐标
+     * @param y      控件在屏幕上y坐标
+     * @param width  控件宽度
+     * @param height 控件高度
+     * @return {Promise.<boolean>} 成功返回true，失败返回 false
+     */
+    public CompletableFuture<Boolean> createEditText(int id, String text, int x, int y, int width, int height) {
+        return bot.boolCmdAsync("createEditText", Integer.toString(id), text, Integer.toString(x), Integer.toString(y), Integer.toString(width), Integer.toString(height));
+    }
+
+    /**
+     * 创建CheckBox控件
+     *
+     * @param id        控件ID，不可与其他控件重复
+     * @param text      控件文本
+     * @param x         控件在屏幕上x坐标
+     * @param y         控件在屏幕上y坐标
+     * @param width     控件宽度
+     * @param height    控件高度
+     * @param {boolean} isSelect 是否勾选
+     * @return {Promise.<boolean>} 成功返回true，失败返回 false
+     */
+    public CompletableFuture<Boolean> createCheckBox(int id, String text, int x, int y, int width, int height, boolean isSelect) {
+        return bot.boolCmdAsync("createCheckBox", Integer.toString(id), text, Integer.toString(x), Integer.toString(y), Integer.toString(width), Integer.toString(height), Boolean.toString(isSelect));
+    }
+
+    /**
+     * 创建ListText控件
+     *
+     * @param id         控件ID，不可与其他控件重复
+     * @param text       提示文本
+     * @param x          控件在屏幕上x坐标
+     * @param y          控件在屏幕上y坐标
+     * @param width      控件宽度
+     * @param height     控件高度
+     * @param {string[]} listText 列表文本
+     * @return {Promise.<boolean>} 成功返回true，失败返回 false
+     */
+    public CompletableFuture<Boolean> createListText(int id, String text, int x, int y, int width, int height, String listText) {
+        return bot.boolCmdAsync("createListText", Integer.toString(id), text, Integer.toString(x), Integer.toString(y), Integer.toString(width), Integer.toString(height), listText);
+    }
+
+    /**
+     * 创建WebView控件
+     *
+     * @param id     控件ID，不可与其他控件重复
+     * @param url    加载的链接
+     * @param x      控件在屏幕上x坐标，值为-1时自动填充宽高
+     * @param y      控件在屏幕上y坐标，值为-1时自动填充宽高
+     * @param width  控件宽度，值为-1时自动填充宽高
+     * @param height 控件高度，值为-1时自动填充宽高
+     * @return {Promise.<boolean>} 成功返回true，失败返回 false
+     */
+    public CompletableFuture<Boolean> createWebView(int id, String url, int x, int y, int width, int height) {
+        return bot.boolCmdAsync("createWebView", Integer.toString(id), url, Integer.toString(x), Integer.toString(y), Integer.toString(width), Integer.toString(height));
+    }
+
+    /**
+     * 清除脚本控件
+     *
+     * @return {Promise.<boolean>} 成功返回true，失败返回 false
+     */
+    public CompletableFuture<Boolean> clearScriptControl() {
+        return bot.boolCmdAsync("clearScriptControl");
+    }
+
+    /**
+     * 设置隐式等待
+     *
+     * @param waitMs      等待时间,单位毫秒
+     * @param intervalMs  心跳间隔，单位毫秒。可选参数，默认5毫秒
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> setImplicitTimeout(long waitMs, long intervalMs) {
+        return bot.boolCmdAsync("setImplicitTimeout", Long.toString(waitMs), Long.toString(intervalMs));
+    }
+
+    /**
+     * 设置安卓客户端接收超时，默认为永久等待
+     *
+     * @param recvTimeout 超时时间，单位毫秒
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> setAndroidTimeout(long recvTimeout) {
+        return bot.boolCmdAsync("setAndroidTimeout", Long.toString(recvTimeout));
+    }
+
+    /**
+     * 执行多个手势
+     *
+     * @param gesturesPath 多点手势路径 如: [[duration, [x, y], [x1, y1]...], ...]
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> dispatchGestures(String gesturesPath) {
+        return bot.boolCmdAsync("dispatchGestures", gesturesPath);
+    }
+
+    /**
+     * 创建SwitchButton控件
+     *
+     * @param id        控件ID
+     * @param text      控件文本
+     * @param x         x坐标
+     * @param y         y坐标
+     * @param width     宽度
+     * @param height    高度
+     * @param isChecked 是否打开
+     * @return 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> createSwitchButton(int id, String text, int x, int y, int width, int height, boolean isChecked) {
+        return bot.boolCmdAsync("createSwitchButton", Integer.toString(id), text, Integer.toString(x), Integer.toString(y),
+                           Integer.toString(width), Integer.toString(height), Boolean.toString(isChecked));
+    }
+
+    /**
+     * 激活框架
+     *
+     * @param activateKey 激活密钥
+     * @return 返回激活信息
+     */
+    public CompletableFuture<String> activateFrame(String activateKey) {
+        return bot.strCmdAsync("activateFrame", activateKey);
+    }
+}
@@ -0,0 +1,144 @@
+package net.aibote.sdk;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import net.aibote.sdk.channel.PendingResponses;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * 批量命令
+ * 通过 {@code bot.batch()} 获取，依次登记多条命令后一次性写出（只 flush 一次），
+ * 按登记顺序返回每条命令的结果，单条命令失败不影响其他命令。
+ * 批量内的命令不受 pipelineDepth 限制，整批在同一次写出中发送；
+ * 连接上已有排队等待写出的命令时，批量排在其后，随空位逐条写出。
+ * <pre>{@code
+ * List<CommandBatch.BatchResult> results = winBot.batch()
+ *         .add(a -> a.clickElement(hwnd, xpath, 1))
+ *         .add(a -> a.setElementValue(hwnd, inputXpath, "text"))
+ *         .add(a -> a.getElementValue(hwnd, inputXpath))
+ *         .execute();
+ * }</pre>
+ *
+ * @param <A> 机器人异步接口类型
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+public class CommandBatch<A extends AbstractBotAsync<?>> {
+
+    private final A async;
+    private final List<Function<A, CompletableFuture<?>>> commands = new ArrayList<>();
+
+    CommandBatch(A async) {
+        this.async = async;
+    }
+
+    /**
+     * 登记一条命令
+     * @param command 异步接口上的单条命令，例如 {@code a -> a.clickElement(xpath)}
+     * @return 当前批量命令
+     */
+    public CommandBatch<A> add(Function<A, CompletableFuture<?>> command) {
+        commands.add(command);
+        return this;
+    }
+
+    /**
+     * 获取已登记的命令数
+     * @return 命令数
+     */
+    public int size() {
+        return commands.size();
+    }
+
+    /**
+     * 写出所有命令，不等待响应
+     * @return 全部命令完成时完成的 future，结果按登记顺序排列
+     */
+    public CompletableFuture<List<BatchResult>> executeAsync() {
+        AbstractPlatformBot bot = async.sync();
+        if (bot.aiboteChanel == null) {
+            throw new RuntimeException("链接错误");
+        }
+        PendingResponses pending = PendingResponses.of(bot.aiboteChanel.channel());
+        List<CompletableFuture<?>> futures = new ArrayList<>(commands.size());
+        pending.cork();
+        try {
+            for (Function<A, CompletableFuture<?>> command : commands) {
+                try {
+                    futures.add(command.apply(async));
+                } catch (RuntimeException e) {
+                    futures.add(CompletableFuture.failedFuture(e));
+                }
+            }
+        } finally {
+            pending.uncork();
+        }
+
+        List<CompletableFuture<BatchResult>> results = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            int index = i;
+            results.add(futures.get(i).handle((value, error) -> new BatchResult(index, value, unwrap(error))));
+        }
+        return CompletableFuture.allOf(results.toArray(new CompletableFuture[0]))
+                .thenApply(v -> results.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * 写出所有命令并阻塞等待全部结果
+     * @return 按登记顺序排列的结果
+     */
+    public List<BatchResult> execute() {
+        return executeAsync().join();
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    /**
+     * 单条命令的结果
+     */
+    @Data
+    @AllArgsConstructor
+    public static class BatchResult {
+        /**
+         * 命令在批量中的序号，从0开始
+         */
+        private int index;
+        /**
+         * 命令返回值，失败时为null
+         */
+        private Object value;
+        /**
+         * 失败原因（超时、写出失败等），成功时为null
+         */
+        private Throwable error;
+
+        /**
+         * 命令是否成功
+         * @return 成功返回true
+         */
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        /**
+         * 按期望类型获取返回值
+         * @param <T> 返回值类型
+         * @return 返回值
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T get() {
+            return (T) value;
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package net.aibote.sdk;
 
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Map;
@@ -10,6 +13,33 @@ import java.util.Map;
 @EqualsAndHashCode(callSuper = true)
 public class WebBot extends AbstractPlatformBot {
 
+    /**
+     * 异步接口，同步方法也经由它组装命令，只创建一次
+     */
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final WebBotAsync async = new WebBotAsync(this);
+
+    /**
+     * 获取异步接口，方法写出命令后立即返回 CompletableFuture
+     * 返回的 future 在网络线程上完成，后续处理中不要直接调用同步方法，见 {@link AbstractBotAsync}
+     *
+     * @return WebBotAsync
+     */
+    public WebBotAsync async() {
+        return async;
+    }
+
+    /**
+     * 创建批量命令，登记的命令一次性写出
+     *
+     * @return CommandBatch
+     */
+    public CommandBatch<WebBotAsync> batch() {
+        return new CommandBatch<>(async());
+    }
+
     /**
      * 导航至 url
      *
@@ -17,7 +47,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean navigate(String url) {
-        return boolCmd("goto", url);
+        return awaitResult(async().navigate(url), false);
     }
 
     /**
@@ -27,7 +57,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean newPage(String url) {
-        return boolCmd("newPage", url);
+        return awaitResult(async().newPage(url), false);
     }
 
     /**
@@ -36,7 +66,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean back() {
-        return boolCmd("back");
+        return awaitResult(async().back(), false);
     }
 
     /**
@@ -45,7 +75,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean forward() {
-        return boolCmd("forward");
+        return awaitResult(async().forward(), false);
     }
 
 
@@ -55,7 +85,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean refresh() {
-        return boolCmd("refresh");
+        return awaitResult(async().refresh(), false);
     }
 
     /**
@@ -64,7 +94,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return String
      */
     public String getCurPageId() {
-        return strCmd("getCurPageId");
+        return awaitResult(async().getCurPageId(), null);
     }
 
     /**
@@ -73,7 +103,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return String
      */
     public String getAllPageId() {
-        return strCmd("getAllPageId");
+        return awaitResult(async().getAllPageId(), null);
     }
 
 
@@ -83,7 +113,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean switchPage(String pageId) {
-        return boolCmd("switchPage", pageId);
+        return awaitResult(async().switchPage(pageId), false);
     }
 
     /**
@@ -92,7 +122,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean closePage() {
-        return boolCmd("closePage");
+        return awaitResult(async().closePage(), false);
     }
 
     /**
@@ -101,7 +131,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return String
      */
     public String getCurrentUrl() {
-        return strCmd("getCurrentUrl");
+        return awaitResult(async().getCurrentUrl(), null);
     }
 
 
@@ -111,7 +141,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return String
      */
     public String getTitle() {
-        return strCmd("getTitle");
+        return awaitResult(async().getTitle(), null);
     }
 
     /**
@@ -121,7 +151,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean switchFrame(String xpath) {
-        return boolCmd("switchFrame", xpath);
+        return awaitResult(async().switchFrame(xpath), false);
     }
 
 
@@ -131,7 +161,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean switchMainFrame() {
-        return boolCmd("switchMainFrame");
+        return awaitResult(async().switchMainFrame(), false);
     }
 
     /**
@@ -141,7 +171,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean clickElement(String xpath) {
-        return boolCmd("clickElement", xpath);
+        return awaitResult(async().clickElement(xpath), false);
     }
 
     /**
@@ -152,7 +182,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean setElementValue(String xpath, String value) {
-        return boolCmd("setElementValue", xpath, value);
+        return awaitResult(async().setElementValue(xpath, value), false);
     }
 
 
@@ -163,7 +193,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public String getElementText(String xpath) {
-        return strCmd("getElementText", xpath);
+        return awaitResult(async().getElementText(xpath), null);
     }
 
 
@@ -174,7 +204,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public String getElementOuterHTML(String xpath) {
-        return strCmd("getElementOuterHTML", xpath);
+        return awaitResult(async().getElementOuterHTML(xpath), null);
     }
 
 
@@ -185,7 +215,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public String getElementInnerHTML(String xpath) {
-        return strCmd("getElementInnerHTML", xpath);
+        return awaitResult(async().getElementInnerHTML(xpath), null);
     }
 
     /**
@@ -196,7 +226,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean setElementAttribute(String xpath, String value) {
-        return boolCmd("setElementAttribute", xpath, value);
+        return awaitResult(async().setElementAttribute(xpath, value), false);
     }
 
     /**
@@ -207,7 +237,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public String getElementAttribute(String xpath, String attribute) {
-        return strCmd("getElementAttribute", xpath, attribute);
+        return awaitResult(async().getElementAttribute(xpath, attribute), null);
     }
 
 
@@ -218,7 +248,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public String getElementRect(String xpath) {
-        return strCmd("getElementRect", xpath);
+        return awaitResult(async().getElementRect(xpath), null);
     }
 
 
@@ -229,7 +259,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean isSelected(String xpath) {
-        return boolCmd("isSelected", xpath);
+        return awaitResult(async().isSelected(xpath), false);
     }
 
 
@@ -240,7 +270,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean isDisplayed(String xpath) {
-        return boolCmd("isDisplayed", xpath);
+        return awaitResult(async().isDisplayed(xpath), false);
     }
 
     /**
@@ -250,7 +280,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean isEnabled(String xpath) {
-        return boolCmd("isEnabled", xpath);
+        return awaitResult(async().isEnabled(xpath), false);
     }
 
     /**
@@ -260,7 +290,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean clearElement(String xpath) {
-        return boolCmd("clearElement", xpath);
+        return awaitResult(async().clearElement(xpath), false);
     }
 
     /**
@@ -270,7 +300,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean setElementFocus(String xpath) {
-        return boolCmd("setElementFocus", xpath);
+        return awaitResult(async().setElementFocus(xpath), false);
     }
 
     /**
@@ -281,7 +311,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean uploadFile(String xpath, String uploadFiles) {
-        return boolCmd("uploadFile", xpath, uploadFiles);
+        return awaitResult(async().uploadFile(xpath, uploadFiles), false);
     }
 
     /**
@@ -292,7 +322,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 总是返回true
      */
     public boolean showXpath() {
-        return boolCmd("showXpath");
+        return awaitResult(async().showXpath(), false);
     }
 
     /**
@@ -303,7 +333,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean sendKeys(String xpath, String txt) {
-        return boolCmd("sendKeys", xpath, txt);
+        return awaitResult(async().sendKeys(xpath, txt), false);
     }
 
 
@@ -314,7 +344,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean sendVk(String vk) {
-        return boolCmd("sendVk", vk);
+        return awaitResult(async().sendVk(vk), false);
     }
 
     /**
@@ -326,7 +356,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean clickMouse(String x, String y, String opt) {
-        return boolCmd("clickMouse", x, y, opt);
+        return awaitResult(async().clickMouse(x, y, opt), false);
     }
 
     /**
@@ -337,7 +367,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean moveMouse(String x, String y) {
-        return boolCmd("moveMouse", x, y);
+        return awaitResult(async().moveMouse(x, y), false);
     }
 
     /**
@@ -350,13 +380,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean wheelMouse(String deltaX, String deltaY, String x, String y) {
-        if (StringUtils.isBlank(x)) {
-            x = "0";
-        }
-        if (StringUtils.isBlank(y)) {
-            y = "0";
-        }
-        return boolCmd("wheelMouse", deltaX, deltaY, x, y);
+        return awaitResult(async().wheelMouse(deltaX, deltaY, x, y), false);
     }
 
     /**
@@ -367,7 +391,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return
      */
     public boolean clickMouseByXpath(String xpath, String opt) {
-        return boolCmd("clickMouseByXpath", xpath, opt);
+        return awaitResult(async().clickMouseByXpath(xpath, opt), false);
     }
 
     /**
@@ -377,7 +401,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean moveMouseByXpath(String xpath) {
-        return boolCmd("moveMouseByXpath", xpath);
+        return awaitResult(async().moveMouseByXpath(xpath), false);
     }
 
     /**
@@ -389,7 +413,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean wheelMouseByXpath(String xpath, String deltaX, String deltaY) {
-        return boolCmd("wheelMouseByXpath", xpath, deltaX, deltaY);
+        return awaitResult(async().wheelMouseByXpath(xpath, deltaX, deltaY), false);
     }
 
 
@@ -415,7 +439,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean clickAlert(boolean acceptOrCancel, String promptText) {
-        return boolCmd("clickAlert", Boolean.toString(acceptOrCancel), promptText);
+        return awaitResult(async().clickAlert(acceptOrCancel, promptText), false);
     }
 
 
@@ -425,7 +449,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return String
      */
     public String getAlertText() {
-        return strCmd("getAlertText");
+        return awaitResult(async().getAlertText(), null);
     }
 
     /**
@@ -435,7 +459,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return 成功返回json格式的字符串，失败返回null
      */
     public String getCookies(String url) {
-        return strCmd("getCookies", url);
+        return awaitResult(async().getCookies(url), null);
     }
 
     /**
@@ -444,7 +468,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return 成功返回json格式的字符串，失败返回null
      */
     public String getAllCookies() {
-        return strCmd("getAllCookies");
+        return awaitResult(async().getAllCookies(), null);
     }
 
     public boolean setCookie(String name, String value, String url) {
@@ -524,7 +548,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return
      */
     public boolean setCookie(String name, String value, String url, String domain, String path, boolean secure, boolean httpOnly, String sameSite, int expires, String priority, boolean sameParty, String sourceScheme, int sourcePort, String partitionKey) {
-        return boolCmd("setCookie", name, value, url, domain, path, Boolean.toString(secure), Boolean.toString(httpOnly), sameSite, Integer.toString(expires), priority, Boolean.toString(sameParty), sourceScheme, Integer.toString(sourcePort), partitionKey);
+        return awaitResult(async().setCookie(name, value, url, domain, path, secure, httpOnly, sameSite, expires, priority, sameParty, sourceScheme, sourcePort, partitionKey), false);
     }
 
     /**
@@ -534,7 +558,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean deleteCookies(String name) {
-        return boolCmd("deleteCookies", name);
+        return awaitResult(async().deleteCookies(name), false);
     }
 
     /**
@@ -545,7 +569,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean deleteCookies(String name, String url) {
-        return boolCmd("deleteCookies", name, url);
+        return awaitResult(async().deleteCookies(name, url), false);
     }
 
     /**
@@ -556,7 +580,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean deleteCookies(String name, String url, String domain) {
-        return boolCmd("deleteCookies", name, url, domain);
+        return awaitResult(async().deleteCookies(name, url, domain), false);
     }
 
     /**
@@ -567,7 +591,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean deleteCookies(String name, String url, String domain, String path) {
-        return boolCmd("deleteCookies", name, url, domain, path);
+        return awaitResult(async().deleteCookies(name, url, domain, path), false);
     }
 
     /**
@@ -576,7 +600,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean deleteAllCookies() {
-        return boolCmd("deleteAllCookies");
+        return awaitResult(async().deleteAllCookies(), false);
     }
 
     /**
@@ -587,7 +611,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return
      */
     public String executeScript(String command) {
-        return strCmd("executeScript", command);
+        return awaitResult(async().executeScript(command), null);
     }
 
     /**
@@ -597,7 +621,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return {left:number, top:number, width:number, height:number, windowState:string}
      */
     public String getWindowPos() {
-        return strCmd("getWindowPos");
+        return awaitResult(async().getWindowPos(), null);
     }
 
     /**
@@ -611,7 +635,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return
      */
     public boolean setWindowPos(String windowState, float left, float top, int width, float height) {
-        return boolCmd("setWindowPos", Float.toString(left), Float.toString(top), Float.toString(width), Float.toString(height));
+        return awaitResult(async().setWindowPos(windowState, left, top, width, height), false);
     }
 
     /**
@@ -620,7 +644,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return String 返回WebDriver 驱动程序的命令行["extendParam"] 字段的参数
      */
     public String getExtendParam() {
-        return strCmd("getExtendParam");
+        return awaitResult(async().getExtendParam(), null);
     }
 
     /**
@@ -639,7 +663,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean mobileEmulation(int width, int height, String userAgent, String platform, String platformVersion, String acceptLanguage, String timezoneId, float latitude, float longitude, float accuracy) {
-        return boolCmd("mobileEmulation", Integer.toString(width), Integer.toString(height), userAgent, platform, platformVersion, acceptLanguage, timezoneId, Float.toString(latitude), Float.toString(longitude), Float.toString(accuracy));
+        return awaitResult(async().mobileEmulation(width, height, userAgent, platform, platformVersion, acceptLanguage, timezoneId, latitude, longitude, accuracy), false);
     }
 
     /**
@@ -649,7 +673,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return 成功返回true，失败返回false
      */
     public boolean setDownloadDir(String downloadDir) {
-        return boolCmd("setDownloadDir", downloadDir);
+        return awaitResult(async().setDownloadDir(downloadDir), false);
     }
 
     /**
@@ -658,7 +682,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean closeBrowser() {
-        return boolCmd("closeBrowser");
+        return awaitResult(async().closeBrowser(), false);
     }
 
     /**
@@ -667,7 +691,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean closeDriver() {
-        return boolCmd("closeDriver");
+        return awaitResult(async().closeDriver(), false);
     }
 
     /**
@@ -678,7 +702,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return
      */
     public boolean touchStart(int x, int y) {
-        return boolCmd("touchStart", Integer.toString(x), Integer.toString(y));
+        return awaitResult(async().touchStart(x, y), false);
     }
 
     /**
@@ -689,7 +713,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return
      */
     public boolean touchMove(int x, int y) {
-        return boolCmd("touchMove", Integer.toString(x), Integer.toString(y));
+        return awaitResult(async().touchMove(x, y), false);
     }
 
     /**
@@ -700,7 +724,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return
      */
     public boolean touchEnd(int x, int y) {
-        return boolCmd("touchEnd", Integer.toString(x), Integer.toString(y));
+        return awaitResult(async().touchEnd(x, y), false);
     }
 
     /**
@@ -710,7 +734,7 @@ public class WebBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 返回激活信息
      */
     public boolean activateFrame(String activateKey) {
-        return boolCmd("'activateFrame'", activateKey);
+        return awaitResult(async().activateFrame(activateKey), false);
     }
 
 }
@@ -0,0 +1,640 @@
+package net.aibote.sdk;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * WebBot 异步接口
+ * 通过 {@link WebBot#async()} 获取。方法与 WebBot 中单条命令的方法一一对应，
+ * 写出命令后立即返回，不阻塞调用线程；组合方法请使用 {@link #call(java.util.function.Function)}。
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+public class WebBotAsync extends AbstractBotAsync<WebBot> {
+
+    WebBotAsync(WebBot bot) {
+        super(bot);
+    }
+
+    /**
+     * 导航至 url
+     *
+     * @param url 网址
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> navigate(String url) {
+        return bot.boolCmdAsync("goto", url);
+    }
+
+    /**
+     * 新建tab页面并跳转到指定url
+     *
+     * @param url 网址
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> newPage(String url) {
+        return bot.boolCmdAsync("newPage", url);
+    }
+
+    /**
+     * 返回
+     *
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> back() {
+        return bot.boolCmdAsync("back");
+    }
+
+    /**
+     * 前进
+     *
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> forward() {
+        return bot.boolCmdAsync("forward");
+    }
+
+    /**
+     * 刷新
+     *
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> refresh() {
+        return bot.boolCmdAsync("refresh");
+    }
+
+    /**
+     * 获取当前页面id
+     *
+     * @return 响应字符串
+     */
+    public CompletableFuture<String> getCurPageId() {
+        return bot.strCmdAsync("getCurPageId");
+    }
+
+    /**
+     * 获取所有页面id
+     *
+     * @return 响应字符串
+     */
+    public CompletableFuture<String> getAllPageId() {
+        return bot.strCmdAsync("getAllPageId");
+    }
+
+    /**
+     * 切换指定页面
+     *
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> switchPage(String pageId) {
+        return bot.boolCmdAsync("switchPage", pageId);
+    }
+
+    /**
+     * 关闭当前页面
+     *
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> closePage() {
+        return bot.boolCmdAsync("closePage");
+    }
+
+    /**
+     * 获取当前url
+     *
+     * @return 响应字符串
+     */
+    public CompletableFuture<String> getCurrentUrl() {
+        return bot.strCmdAsync("getCurrentUrl");
+    }
+
+    /**
+     * 获取当前标题
+     *
+     * @return 响应字符串
+     */
+    public CompletableFuture<String> getTitle() {
+        return bot.strCmdAsync("getTitle");
+    }
+
+    /**
+     * 切换frame
+     *
+     * @param xpath xpath路径
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> switchFrame(String xpath) {
+        return bot.boolCmdAsync("switchFrame", xpath);
+    }
+
+    /**
+     * 切换到主frame
+     *
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> switchMainFrame() {
+        return bot.boolCmdAsync("switchMainFrame");
+    }
+
+    /**
+     * 点击元素
+     *
+     * @param xpath xpath路径
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> clickElement(String xpath) {
+        return bot.boolCmdAsync("clickElement", xpath);
+    }
+
+    /**
+     * 设置编辑框值
+     *
+     * @param xpath xpath路径
+     * @param value 目标值
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> setElementValue(String xpath, String value) {
+        return bot.boolCmdAsync("setElementValue", xpath, value);
+    }
+
+    /**
+     * 获取文本
+     *
+     * @param xpath xpath路径
+     * @return 响应字符串
+     */
+    public CompletableFuture<String> getElementText(String xpath) {
+        return bot.strCmdAsync("getElementText", xpath);
+    }
+
+    /**
+     * 获取outerHTML
+     *
+     * @param xpath xpath路径
+     * @return 响应字符串
+     */
+    public CompletableFuture<String> getElementOuterHTML(String xpath) {
+        return bot.strCmdAsync("getElementOuterHTML", xpath);
+    }
+
+    /**
+     * 获取innerHTML
+     *
+     * @param xpath xpath路径
+     * @return 响应字符串
+     */
+    public CompletableFuture<String> getElementInnerHTML(String xpath) {
+        return bot.strCmdAsync("getElementInnerHTML", xpath);
+    }
+
+    /**
+     * 设置属性值
+     *
+     * @param xpath xpath路径
+     * @param value 属性值
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> setElementAttribute(String xpath, String value) {
+        return bot.boolCmdAsync("setElementAttribute", xpath, value);
+    }
+
+    /**
+     * 获取指定属性的值
+     *
+     * @param xpath     xpath路径
+     * @param attribute 属性名
+     * @return 响应字符串
+     */
+    public CompletableFuture<String> getElementAttribute(String xpath, String attribute) {
+        return bot.strCmdAsync("getElementAttribute", xpath, attribute);
+    }
+
+    /**
+     * 获取矩形位置
+     *
+     * @param xpath xpath路径
+     * @return 响应字符串
+     */
+    public CompletableFuture<String> getElementRect(String xpath) {
+        return bot.strCmdAsync("getElementRect", xpath);
+    }
+
+    /**
+     * 判断元素是否选中
+     *
+     * @param xpath xpath路径
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> isSelected(String xpath) {
+        return bot.boolCmdAsync("isSelected", xpath);
+    }
+
+    /**
+     * 判断元素是否可见
+     *
+     * @param xpath xpath路径
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> isDisplayed(String xpath) {
+        return bot.boolCmdAsync("isDisplayed", xpath);
+    }
+
+    /**
+     * 判断元素是否可用
+     *
+     * @param xpath xpath路径
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> isEnabled(String xpath) {
+        return bot.boolCmdAsync("isEnabled", xpath);
+    }
+
+    /**
+     * 清空元素
+     *
+     * @param xpath xpath路径
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> clearElement(String xpath) {
+        return bot.boolCmdAsync("clearElement", xpath);
+    }
+
+    /**
+     * 设置元素焦点
+     *
+     * @param xpath xpath路径
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> setElementFocus(String xpath) {
+        return bot.boolCmdAsync("setElementFocus", xpath);
+    }
+
+    /**
+     * 通过元素上传文件
+     *
+     * @param xpath       xpath路径
+     * @param uploadFiles 上传的文件路径
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> uploadFile(String xpath, String uploadFiles) {
+        return bot.boolCmdAsync("uploadFile", xpath, uploadFiles);
+    }
+
+    /**
+     * 显示元素xpath路径，页面加载完毕再调用。
+     * 调用此函数后，可在页面移动鼠标会显示元素区域。移动并按下ctrl键，会在浏览器控制台打印相对xpath 和 绝对xpath路径
+     * ifrmae 内的元素，需要先调用 switchFrame 切入进去，再调用showXpath函数
+     *
+     * @return {Promise.<boolean>} 总是返回true
+     */
+    public CompletableFuture<Boolean> showXpath() {
+        return bot.boolCmdAsync("showXpath");
+    }
+
+    /**
+     * 输入文本
+     *
+     * @param xpath xpath路径
+     * @param txt   文本内容
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> sendKeys(String xpath, String txt) {
+        return bot.boolCmdAsync("sendKeys", xpath, txt);
+    }
+
+    /**
+     * 发送Vk虚拟键
+     *
+     * @param vk 虚拟键
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> sendVk(String vk) {
+        return bot.boolCmdAsync("sendVk", vk);
+    }
+
+    /**
+     * 单击鼠标
+     *
+     * @param x   x 横坐标，非Windows坐标，页面左上角为起始坐标
+     * @param y   y 纵坐标，非Windows坐标，页面左上角为起始坐标
+     * @param opt 功能键。单击左键:1  单击右键:2  按下左键:3  弹起左键:4  按下右键:5  弹起右键:6  双击左键：7
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> clickMouse(String x, String y, String opt) {
+        return bot.boolCmdAsync("clickMouse", x, y, opt);
+    }
+
+    /**
+     * 移动鼠标
+     *
+     * @param x x 横坐标，非Windows坐标，页面左上角为起始坐标
+     * @param y y 纵坐标，非Windows坐标，页面左上角为起始坐标
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> moveMouse(String x, String y) {
+        return bot.boolCmdAsync("moveMouse", x, y);
+    }
+
+    /**
+     * 滚动鼠标
+     *
+     * @param deltaX deltaX 水平滚动条移动的距离
+     * @param deltaY deltaY 垂直滚动条移动的距离
+     * @param x      可选参数，鼠标横坐标位置， 默认为0
+     * @param y      可选参数，鼠标纵坐标位置， 默认为0
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> wheelMouse(String deltaX, String deltaY, String x, String y) {
+        if (StringUtils.isBlank(x)) {
+            x = "0";
+        }
+        if (StringUtils.isBlank(y)) {
+            y = "0";
+        }
+        return bot.boolCmdAsync("wheelMouse", deltaX, deltaY, x, y);
+    }
+
+    /**
+     * 通过xpath 点击鼠标
+     *
+     * @param xpath xpath路径
+     * @param opt   功能键。单击左键:1  单击右键:2  按下左键:3  弹起左键:4  按下右键:5  弹起右键:6  双击左键：7
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> clickMouseByXpath(String xpath, String opt) {
+        return bot.boolCmdAsync("clickMouseByXpath", xpath, opt);
+    }
+
+    /**
+     * xpath移动鼠标(元素中心点)
+     *
+     * @param xpath xpath路径
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> moveMouseByXpath(String xpath) {
+        return bot.boolCmdAsync("moveMouseByXpath", xpath);
+    }
+
+    /**
+     * xpath滚动鼠标
+     *
+     * @param xpath  元素路径
+     * @param deltaX 水平滚动条移动的距离
+     * @param deltaY 垂直滚动条移动的距离
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> wheelMouseByXpath(String xpath, String deltaX, String deltaY) {
+        return bot.boolCmdAsync("wheelMouseByXpath", xpath, deltaX, deltaY);
+    }
+
+    /**
+     * 点击警告框
+     *
+     * @param acceptOrCancel true接受, false取消
+     * @param promptText     可选参数，输入prompt警告框文本
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> clickAlert(boolean acceptOrCancel, String promptText) {
+        return bot.boolCmdAsync("clickAlert", Boolean.toString(acceptOrCancel), promptText);
+    }
+
+    /**
+     * 截图
+     *
+     * @return 响应字符串
+     */
+    public CompletableFuture<String> getAlertText() {
+        return bot.strCmdAsync("getAlertText");
+    }
+
+    /**
+     * 获取指定url匹配的cookies
+     *
+     * @param url 指定的url http://或https:// 起头
+     * @return 成功返回json格式的字符串，失败返回null
+     */
+    public CompletableFuture<String> getCookies(String url) {
+        return bot.strCmdAsync("getCookies", url);
+    }
+
+    /**
+     * 获取指定url匹配的cookies
+     *
+     * @return 成功返回json格式的字符串，失败返回null
+     */
+    public CompletableFuture<String> getAllCookies() {
+        return bot.strCmdAsync("getAllCookies");
+    }
+
+    /**
+     * 设置cookie  name、value和url必填参数，其他参数可选
+     *
+     * @param name         String
+     * @param value        String
+     * @param url          String
+     * @param domain       String
+     * @param path         String
+     * @param secure       boolean
+     * @param httpOnly     boolean
+     * @param sameSite     String
+     * @param expires      String
+     * @param priority     String
+     * @param sameParty    boolean
+     * @param sourceScheme String
+     * @param sourcePort   String
+     * @param partitionKey String
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> setCookie(String name, String value, String url, String domain, String path, boolean secure, boolean httpOnly, String sameSite, int expires, String priority, boolean sameParty, String sourceScheme, int sourcePort, String partitionKey) {
+        return bot.boolCmdAsync("setCookie", name, value, url, domain, path, Boolean.toString(secure), Boolean.toString(httpOnly), sameSite, Integer.toString(expires), priority, Boolean.toString(sameParty), sourceScheme, Integer.toString(sourcePort), partitionKey);
+    }
+
+    /**
+     * 删除指定cookies
+     *
+     * @param name 要删除的 Cookie 的名称。
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> deleteCookies(String name) {
+        return bot.boolCmdAsync("deleteCookies", name);
+    }
+
+    /**
+     * 删除指定cookies
+     *
+     * @param name 要删除的 Cookie 的名称。
+     * @param url  url
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> deleteCookies(String name, String url) {
+        return bot.boolCmdAsync("deleteCookies", name, url);
+    }
+
+    /**
+     * 删除指定cookies
+     *
+     * @param name 要删除的 Cookie 的名称。
+     * @param url  url
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> deleteCookies(String name, String url, String domain) {
+        return bot.boolCmdAsync("deleteCookies", name, url, domain);
+    }
+
+    /**
+     * 删除指定cookies
+     *
+     * @param name 要删除的 Cookie 的名称。
+     * @param url  url
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> deleteCookies(String name, String url, String domain, String path) {
+        return bot.boolCmdAsync("deleteCookies", name, url, domain, path);
+    }
+
+    /**
+     * 删除所有cookies
+     *
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> deleteAllCookies() {
+        return bot.boolCmdAsync("deleteAllCookies");
+    }
+
+    /**
+     * 注入JavaScript <br />
+     * 假如注入代码为函数且有return语句，则返回retrun 的值，否则返回null;  注入示例：(function () {return "aibote rpa"})();
+     *
+     * @param command 注入的js代码
+     * @return 响应字符串
+     */
+    public CompletableFuture<String> executeScript(String command) {
+        return bot.strCmdAsync("executeScript", command);
+    }
+
+    /**
+     * 获取窗口位置和状态 <br />
+     * 成功返回矩形位置和窗口状态，失败返回null
+     *
+     * @return {left:number, top:number, width:number, height:number, windowState:string}
+     */
+    public CompletableFuture<String> getWindowPos() {
+        return bot.strCmdAsync("getWindowPos");
+    }
+
+    /**
+     * 设置窗口位置和状态
+     *
+     * @param windowState 窗口状态，正常:"normal"  最小化:"minimized"  最大化:"maximized"  全屏:"fullscreen"
+     * @param left        可选参数，浏览器窗口位置，此参数仅windowState 值为 "normal" 时有效
+     * @param top         可选参数，浏览器窗口位置，此参数仅windowState 值为 "normal" 时有效
+     * @param width       可选参数，浏览器窗口位置，此参数仅windowState 值为 "normal" 时有效
+     * @param height      可选参数，浏览器窗口位置，此参数仅windowState 值为 "normal" 时有效
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> setWindowPos(String windowState, float left, float top, int width, float height) {
+        return bot.boolCmdAsync("setWindowPos", Float.toString(left), Float.toString(top), Float.toString(width), Float.toString(height));
+    }
+
+    /**
+     * 获取WebDriver.exe 命令扩展参数，一般用作脚本远程部署场景，WebDriver.exe驱动程序传递参数给脚本服务端
+     *
+     * @return 返回WebDriver 驱动程序的命令行["extendParam"] 字段的参数
+     */
+    public CompletableFuture<String> getExtendParam() {
+        return bot.strCmdAsync("getExtendParam");
+    }
+
+    /**
+     * 手机浏览器仿真
+     *
+     * @param width           宽度
+     * @param height          高度
+     * @param userAgent       用户代理
+     * @param platform        系统，例如 "Android"、"IOS"、"iPhone"
+     * @param platformVersion 系统版本号，例如 "9.0"，应当与userAgent提供的版本号对应
+     * @param acceptLanguage  可选参数 - 语言，例如 "zh-CN"、"en"
+     * @param timezoneId      可选参数 - 时区，时区标识，例如"Asia/Shanghai"、"Europe/Berlin"、"Europe/London" 时区应当与 语言、经纬度 对应
+     * @param latitude        可选参数 - 纬度，例如 31.230416
+     * @param longitude       可选参数 - 经度，例如 121.473701
+     * @param accuracy        可选参数 - 准确度，例如 1111
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> mobileEmulation(int width, int height, String userAgent, String platform, String platformVersion, String acceptLanguage, String timezoneId, float latitude, float longitude, float accuracy) {
+        return bot.boolCmdAsync("mobileEmulation", Integer.toString(width), Integer.toString(height), userAgent, platform, platformVersion, acceptLanguage, timezoneId, Float.toString(latitude), Float.toString(longitude), Float.toString(accuracy));
+    }
+
+    /**
+     * 设置浏览器下载目录
+     *
+     * @param downloadDir 存放下载的目录
+     * @return 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> setDownloadDir(String downloadDir) {
+        return bot.boolCmdAsync("setDownloadDir", downloadDir);
+    }
+
+    /**
+     * 关闭浏览器
+     *
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> closeBrowser() {
+        return bot.boolCmdAsync("closeBrowser");
+    }
+
+    /**
+     * 关闭WebDriver.exe驱动程序
+     *
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> closeDriver() {
+        return bot.boolCmdAsync("closeDriver");
+    }
+
+    /**
+     * 仿真模式 开始触屏
+     *
+     * @param x x坐标
+     * @param y y坐标
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> touchStart(int x, int y) {
+        return bot.boolCmdAsync("touchStart", Integer.toString(x), Integer.toString(y));
+    }
+
+    /**
+     * 仿真模式 移动触屏
+     *
+     * @param x x坐标
+     * @param y y坐标
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> touchMove(int x, int y) {
+        return bot.boolCmdAsync("touchMove", Integer.toString(x), Integer.toString(y));
+    }
+
+    /**
+     * 仿真模式 结束触屏
+     *
+     * @param x x坐标
+     * @param y y坐标
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> touchEnd(int x, int y) {
+        return bot.boolCmdAsync("touchEnd", Integer.toString(x), Integer.toString(y));
+    }
+
+    /**
+     * 激活框架
+     *
+     * @param {string} activateKey, 激活密钥，联系管理员
+     * @return {Promise.<boolean>} 返回激活信息
+     */
+    public CompletableFuture<Boolean> activateFrame(String activateKey) {
+        return bot.boolCmdAsync("'activateFrame'", activateKey);
+    }
+}
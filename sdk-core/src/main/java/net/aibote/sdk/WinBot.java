@@ -3,8 +3,11 @@ package net.aibote.sdk;
 import com.alibaba.fastjson2.JSON;
 import com.alibaba.fastjson2.JSONArray;
 import com.alibaba.fastjson2.JSONObject;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import net.aibote.sdk.dto.OCRResult;
 import net.aibote.sdk.dto.Point;
 import net.aibote.sdk.options.Mode;
@@ -20,6 +23,33 @@ import java.util.*;
 @Data
 public class WinBot extends AbstractPlatformBot {
 
+    /**
+     * 异步接口，同步方法也经由它组装命令，只创建一次
+     */
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final WinBotAsync async = new WinBotAsync(this);
+
+    /**
+     * 获取异步接口，方法写出命令后立即返回 CompletableFuture
+     * 返回的 future 在网络线程上完成，后续处理中不要直接调用同步方法，见 {@link AbstractBotAsync}
+     *
+     * @return WinBotAsync
+     */
+    public WinBotAsync async() {
+        return async;
+    }
+
+    /**
+     * 创建批量命令，登记的命令一次性写出
+     *
+     * @return CommandBatch
+     */
+    public CommandBatch<WinBotAsync> batch() {
+        return new CommandBatch<>(async());
+    }
+
     /**
      * 查找窗口句柄
      *
@@ -28,7 +58,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return String 成功返回窗口句柄，失败返回null
      */
     public String findWindow(String className, String windowName) {
-        return strCmd("findWindow", className, windowName);
+        return awaitResult(async().findWindow(className, windowName), null);
     }
 
     /**
@@ -39,7 +69,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return String 成功返回窗口句柄，失败返回null
      */
     public String findWindows(String className, String windowName) {
-        return strCmd("findWindows", className, windowName);
+        return awaitResult(async().findWindows(className, windowName), null);
     }
 
     /**
@@ -51,7 +81,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return String 成功返回窗口句柄，失败返回null
      */
     public String findSubWindow(String curHwnd, String className, String windowName) {
-        return strCmd("findSubWindow", curHwnd, className, windowName);
+        return awaitResult(async().findSubWindow(curHwnd, className, windowName), null);
     }
 
     /**
@@ -61,7 +91,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return String 成功返回窗口句柄，失败返回null
      */
     public String findParentWindow(String curHwnd) {
-        return strCmd("findParentWindow", curHwnd);
+        return awaitResult(async().findParentWindow(curHwnd), null);
     }
 
     /**
@@ -70,7 +100,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return 成功返回窗口句柄，失败返回null
      */
     public String findDesktopWindow() {
-        return strCmd("findDesktopWindow");
+        return awaitResult(async().findDesktopWindow(), null);
     }
 
     /**
@@ -80,7 +110,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return String 成功返回窗口句柄，失败返回null
      */
     public String getWindowName(String hwnd) {
-        return strCmd("getWindowName", hwnd);
+        return awaitResult(async().getWindowName(hwnd), null);
     }
 
     /**
@@ -91,7 +121,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return boolean  成功返回true，失败返回false
      */
     public boolean showWindow(String hwnd, boolean isShow) {
-        return boolCmd("showWindow", hwnd, String.valueOf(isShow));
+        return awaitResult(async().showWindow(hwnd, isShow), false);
     }
 
     /**
@@ -102,7 +132,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return boolean  成功返回true，失败返回false
      */
     public boolean setWindowTop(String hwnd, boolean isTop) {
-        return boolCmd("setWindowTop", hwnd, String.valueOf(isTop));
+        return awaitResult(async().setWindowTop(hwnd, isTop), false);
     }
 
     /**
@@ -112,7 +142,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return 0|0|0|0
      */
     public String getWindowPos(String hwnd) {
-        return strCmd("getWindowPos", hwnd);
+        return awaitResult(async().getWindowPos(hwnd), null);
     }
 
     /**
@@ -126,7 +156,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return boolean 成功返回true 失败返回 false
      */
     public boolean setWindowPos(String hwnd, int left, int top, int width, int height) {
-        return boolCmd("setWindowPos", hwnd, Integer.toString(left), Integer.toString(top), Integer.toString(width), Integer.toString(height));
+        return awaitResult(async().setWindowPos(hwnd, left, top, width, height), false);
     }
 
     /**
@@ -141,7 +171,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return boolean 总是返回true
      */
     public boolean moveMouse(String hwnd, int x, int y, Mode mode, String elementHwnd) {
-        return boolCmd("moveMouse", hwnd, Integer.toString(x), Integer.toString(y), mode.boolValueStr(), elementHwnd);
+        return awaitResult(async().moveMouse(hwnd, x, y, mode, elementHwnd), false);
     }
 
     /**
@@ -154,7 +184,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return boolean 总是返回true
      */
     public boolean moveMouseRelative(String hwnd, int x, int y, Mode mode) {
-        return boolCmd("moveMouseRelative", hwnd, Integer.toString(x), Integer.toString(y), mode.boolValueStr());
+        return awaitResult(async().moveMouseRelative(hwnd, x, y, mode), false);
     }
 
     /**
@@ -168,7 +198,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return boolean 总是返回true
      */
     public boolean rollMouse(String hwnd, int x, int y, int dwData, Mode mode) {
-        return boolCmd("rollMouse", hwnd, Integer.toString(x), Integer.toString(y), Integer.toString(dwData), mode.boolValueStr());
+        return awaitResult(async().rollMouse(hwnd, x, y, dwData, mode), false);
     }
 
     /**
@@ -184,7 +214,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return boolean 总是返回true。
      */
     public boolean clickMouse(String hwnd, int x, int y, int mouseType, Mode mode, String elementHwnd) {
-        return boolCmd("clickMouse", hwnd, Integer.toString(x), Integer.toString(y), Integer.toString(mouseType), mode.boolValueStr(), elementHwnd);
+        return awaitResult(async().clickMouse(hwnd, x, y, mouseType, mode, elementHwnd), false);
     }
 
     /**
@@ -194,7 +224,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return boolean 总是返回true
      */
     public boolean sendKeys(String txt) {
-        return boolCmd("sendKeys", txt);
+        return awaitResult(async().sendKeys(txt), false);
     }
 
     /**
@@ -205,7 +235,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return boolean 总是返回true
      */
     public boolean sendKeysByHwnd(String hwnd, String txt) {
-        return boolCmd("sendKeysByHwnd", hwnd, txt);
+        return awaitResult(async().sendKeysByHwnd(hwnd, txt), false);
     }
 
     /**
@@ -216,7 +246,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return boolean 总是返回true
      */
     public boolean sendVk(int vk, int keyState) {
-        return boolCmd("sendVk", Integer.toString(vk), Integer.toString(keyState));
+        return awaitResult(async().sendVk(vk, keyState), false);
     }
 
     /**
@@ -228,7 +258,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return boolean 总是返回true
      */
     public boolean sendVkByHwnd(String hwnd, int vk, int keyState) {
-        return boolCmd("sendVkByHwnd", hwnd, Integer.toString(vk), Integer.toString(keyState));
+        return awaitResult(async().sendVkByHwnd(hwnd, vk, keyState), false);
     }
 
     /**
@@ -267,7 +297,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return 成功返回#开头的颜色值，失败返回null
      */
     public String getColor(String hwnd, int x, int y, boolean mode) {
-        return strCmd("getColor", hwnd, Integer.toString(x), Integer.toString(y), Boolean.toString(mode));
+        return awaitResult(async().getColor(hwnd, x, y, mode), null);
     }
 
     /**
@@ -312,7 +342,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return 成功返回 单坐标点[{x:number, y:number}]，多坐标点[{x1:number, y1:number}, {x2:number, y2:number}...] 失败返回null
      */
     public String findAnimation(String hwnd, int frameRate, Region region, Mode mode) {
-        return strDelayCmd("findAnimation", hwnd, Integer.toString(frameRate), Integer.toString(region.left), Integer.toString(region.top), Integer.toString(region.right), Integer.toString(region.bottom), mode.boolValueStr());
+        return awaitResult(async().findAnimation(hwnd, frameRate, region, mode), null);
     }
 
     /**
@@ -383,7 +413,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return boolean 成功返回true，失败返回false
      */
     public boolean extractImageByVideo(String videoPath, String saveFolder, int jumpFrame) {
-        return this.boolCmd("extractImageByVideo", videoPath, saveFolder, Integer.toString(jumpFrame));
+        return awaitResult(async().extractImageByVideo(videoPath, saveFolder, jumpFrame), false);
     }
 
     /**
@@ -395,7 +425,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return boolean 成功返回true，失败返回false
      */
     public boolean cropImage(String imagePath, String saveFolder, Region region) {
-        return this.boolCmd("cropImage", imagePath, saveFolder, Integer.toString(region.left), Integer.toString(region.top), Integer.toString(region.right), Integer.toString(region.bottom));
+        return awaitResult(async().cropImage(imagePath, saveFolder, region), false);
     }
 
     /**
@@ -608,7 +638,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 总是返回true
      */
     public boolean initYolo(String yoloServerIp, String modelPath, String classesPath) {
-        return this.boolCmd("initYolo", yoloServerIp, modelPath, classesPath);
+        return awaitResult(async().initYolo(yoloServerIp, modelPath, classesPath), false);
     }
 
     /**
@@ -648,7 +678,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return 成功返回元素名称
      */
     public String getElementName(String hwnd, String xpath) {
-        return this.strDelayCmd("getElementName", hwnd, xpath);
+        return awaitResult(async().getElementName(hwnd, xpath), null);
     }
 
     /**
@@ -659,7 +689,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return 成功返回元素文本
      */
     public String getElementValue(String hwnd, String xpath) {
-        return this.strDelayCmd("getElementValue", hwnd, xpath);
+        return awaitResult(async().getElementValue(hwnd, xpath), null);
     }
 
     /**
@@ -694,7 +724,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return 成功返回元素窗口句柄，失败返回null
      */
     public String getElementWindow(String hwnd, String xpath) {
-        return this.strDelayCmd("getElementWindow", hwnd, xpath);
+        return awaitResult(async().getElementWindow(hwnd, xpath), null);
     }
 
     /**
@@ -707,7 +737,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回 false
      */
     public boolean clickElement(String hwnd, String xpath, String opt) {
-        return this.boolDelayCmd("clickElement", hwnd, xpath, opt);
+        return awaitResult(async().clickElement(hwnd, xpath, opt), false);
     }
 
     /**
@@ -718,7 +748,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回 false
      */
     public boolean invokeElement(String hwnd, String xpath) {
-        return this.boolDelayCmd("invokeElement", hwnd, xpath);
+        return awaitResult(async().invokeElement(hwnd, xpath), false);
     }
 
     /**
@@ -729,7 +759,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回 false
      */
     public boolean setElementFocus(String hwnd, String xpath) {
-        return this.boolDelayCmd("setElementFocus", hwnd, xpath);
+        return awaitResult(async().setElementFocus(hwnd, xpath), false);
     }
 
     /**
@@ -742,7 +772,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回 false
      */
     public boolean setElementValue(String hwnd, String xpath, String value) {
-        return this.boolDelayCmd("setElementValue", hwnd, xpath, value);
+        return awaitResult(async().setElementValue(hwnd, xpath, value), false);
     }
 
     /**
@@ -755,7 +785,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return 成功返回true 失败返回 false
      */
     public boolean setElementScroll(String hwnd, String xpath, float horizontalPercent, float verticalPercent) {
-        return this.boolDelayCmd("setElementScroll", hwnd, xpath, Float.toString(horizontalPercent), Float.toString(verticalPercent));
+        return awaitResult(async().setElementScroll(hwnd, xpath, horizontalPercent, verticalPercent), false);
     }
 
     /**
@@ -779,7 +809,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return 成功返回true 失败返回 false
      */
     public boolean closeWindow(String hwnd, String xpath) {
-        return boolCmd("closeWindow", hwnd, xpath);
+        return awaitResult(async().closeWindow(hwnd, xpath), false);
     }
 
     /**
@@ -792,7 +822,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean setWindowState(String hwnd, String xpath, int state) {
-        return boolCmd("setWindowState", hwnd, xpath, Integer.toString(state));
+        return awaitResult(async().setWindowState(hwnd, xpath, state), false);
     }
 
     /**
@@ -802,7 +832,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean setClipboardText(String text) {
-        return boolCmd("setClipboardText", text);
+        return awaitResult(async().setClipboardText(text), false);
     }
 
     /**
@@ -811,7 +841,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return
      */
     public String getClipboardText() {
-        return strCmd("getClipboardText");
+        return awaitResult(async().getClipboardText(), null);
     }
 
     /**
@@ -823,7 +853,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true,失败返回false
      */
     public boolean startProcess(String commandLine, boolean showWindow, boolean isWait) {
-        return boolCmd("startProcess", commandLine, Boolean.toString(showWindow), Boolean.toString(isWait));
+        return awaitResult(async().startProcess(commandLine, showWindow, isWait), false);
     }
 
     /**
@@ -834,7 +864,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<string>} 返回cmd执行结果
      */
     public String executeCommand(String command, int waitTimeout) {
-        return strCmd("executeCommand", command, Integer.toString(waitTimeout));
+        return awaitResult(async().executeCommand(command, waitTimeout), null);
     }
 
     /**
@@ -846,7 +876,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 总是返回true
      */
     public boolean downloadFile(String url, String filePath, boolean isWait) {
-        return boolCmd("downloadFile", url, filePath, Boolean.toString(isWait));
+        return awaitResult(async().downloadFile(url, filePath, isWait), false);
     }
 
     /**
@@ -879,7 +909,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回false
      */
     public boolean saveExcel(JSONObject excelObject) {
-        return boolCmd("saveExcel", excelObject.getString("book"), excelObject.getString("path"));
+        return awaitResult(async().saveExcel(excelObject), false);
     }
 
     /**
@@ -892,7 +922,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回false
      */
     public boolean writeExcelNum(JSONObject sheetObject, int row, int col, int value) {
-        return boolCmd("writeExcelNum", sheetObject.toJSONString(), Integer.toString(row), Integer.toString(col), Integer.toString(value));
+        return awaitResult(async().writeExcelNum(sheetObject, row, col, value), false);
     }
 
     /**
@@ -905,7 +935,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回false
      */
     public boolean writeExcelStr(JSONObject sheetObject, int row, int col, String strValue) {
-        return boolCmd("writeExcelStr", sheetObject.toJSONString(), Integer.toString(row), Integer.toString(col), strValue);
+        return awaitResult(async().writeExcelStr(sheetObject, row, col, strValue), false);
     }
 
     /**
@@ -930,7 +960,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<number>} 返回读取到的数字
      */
     public String readExcelStr(JSONObject sheetObject, int row, int col) {
-        return strCmd("readExcelStr", sheetObject.toJSONString(), Integer.toString(row), Integer.toString(col));
+        return awaitResult(async().readExcelStr(sheetObject, row, col), null);
     }
 
     /**
@@ -942,7 +972,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回false
      */
     public boolean removeExcelRow(JSONObject sheetObject, int rowFirst, int rowLast) {
-        return boolCmd("removeExcelRow", sheetObject.toJSONString(), Integer.toString(rowFirst), Integer.toString(rowLast));
+        return awaitResult(async().removeExcelRow(sheetObject, rowFirst, rowLast), false);
     }
 
     /**
@@ -954,7 +984,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回false
      */
     public boolean removeExcelCol(JSONObject sheetObject, int rowFirst, int rowLast) {
-        return boolCmd("removeExcelCol", sheetObject.toJSONString(), Integer.toString(rowFirst), Integer.toString(rowLast));
+        return awaitResult(async().removeExcelCol(sheetObject, rowFirst, rowLast), false);
     }
 
     /**
@@ -1072,7 +1102,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true 失败返回false
      */
     public boolean removeExcelCol(String speechKey, String speechRegion) {
-        return boolCmd("initSpeechService", speechKey, speechRegion);
+        return awaitResult(async().removeExcelCol(speechKey, speechRegion), false);
     }
 
     /**
@@ -1083,7 +1113,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<string || null>} 成功返回转换后的音频文本，失败返回null
      */
     public String audioFileToText(String filePath, String language) {
-        return strCmd("audioFileToText", filePath, language);
+        return awaitResult(async().audioFileToText(filePath, language), null);
     }
 
     /**
@@ -1093,7 +1123,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<string || null>} 成功返回转换后的音频文本，失败返回null
      */
     public String microphoneToText(String language) {
-        return strCmd("microphoneToText", language);
+        return awaitResult(async().microphoneToText(language), null);
     }
 
     /**
@@ -1105,7 +1135,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回false
      */
     public boolean textToBullhorn(String ssmlPathOrText, String language, String voiceName) {
-        return boolCmd("textToBullhorn", ssmlPathOrText, language, voiceName);
+        return awaitResult(async().textToBullhorn(ssmlPathOrText, language, voiceName), false);
     }
 
     /**
@@ -1118,7 +1148,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回false
      */
     public boolean textToAudioFile(String ssmlPathOrText, String language, String voiceName, String audioPath) {
-        return boolCmd("textToAudioFile", ssmlPathOrText, language, voiceName);
+        return awaitResult(async().textToAudioFile(ssmlPathOrText, language, voiceName, audioPath), false);
     }
 
     /**
@@ -1129,7 +1159,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<string || null>} 成功返回翻译后的语言文本，失败返回null
      */
     public String microphoneTranslationText(String sourceLanguage, String targetLanguage) {
-        return strCmd("microphoneTranslationText", sourceLanguage, targetLanguage);
+        return awaitResult(async().microphoneTranslationText(sourceLanguage, targetLanguage), null);
     }
 
     /**
@@ -1141,7 +1171,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<string || null>}成功返回翻译后的语言文本，失败返回null
      */
     public String audioFileTranslationText(String audioPath, String sourceLanguage, String targetLanguage) {
-        return strCmd("audioFileTranslationText", audioPath, sourceLanguage, targetLanguage);
+        return awaitResult(async().audioFileTranslationText(audioPath, sourceLanguage, targetLanguage), null);
     }
 
     /**
@@ -1153,7 +1183,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回false
      */
     public boolean initMetahuman(String metahumanModePath, float metahumanScaleValue, boolean isUpdateMetahuman, boolean enableRandomImage) {
-        return boolCmd("initMetahuman", metahumanModePath, Float.toString(metahumanScaleValue), Boolean.toString(isUpdateMetahuman), Boolean.toString(enableRandomImage));
+        return awaitResult(async().initMetahuman(metahumanModePath, metahumanScaleValue, isUpdateMetahuman, enableRandomImage), false);
     }
 
     /**
@@ -1205,7 +1235,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回false
      */
     public boolean metahumanSpeechByFile(String audioPath, boolean waitPlaySound) {
-        return boolCmd("metahumanSpeechByFile", audioPath, Boolean.toString(waitPlaySound));
+        return awaitResult(async().metahumanSpeechByFile(audioPath, waitPlaySound), false);
     }
 
 
@@ -1218,7 +1248,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回false
      */
     public boolean metahumanSpeechByFileEx(String audioPath, boolean enableRandomParam, boolean waitPlaySound) {
-        return boolCmd("metahumanSpeechByFileEx", audioPath, Boolean.toString(enableRandomParam), Boolean.toString(waitPlaySound));
+        return awaitResult(async().metahumanSpeechByFileEx(audioPath, enableRandomParam, waitPlaySound), false);
     }
 
     /**
@@ -1231,7 +1261,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return
      */
     public boolean metahumanInsertVideo(String videoFilePath, String audioFilePath, boolean waitPlayVideo) {
-        return boolCmd("metahumanInsertVideo", videoFilePath, audioFilePath, Boolean.toString(waitPlayVideo));
+        return awaitResult(async().metahumanInsertVideo(videoFilePath, audioFilePath, waitPlayVideo), false);
     }
 
     /**
@@ -1245,7 +1275,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 总是返回true。此函数依赖 initMetahuman函数运行，否则程序会崩溃
      */
     public boolean replaceBackground(String bgFilePath, int replaceRed, int replaceGreen, int replaceBlue, int simValue) {
-        return boolCmd("replaceBackground", bgFilePath, Integer.toString(replaceRed), Integer.toString(replaceGreen), Integer.toString(replaceBlue), Integer.toString(simValue));
+        return awaitResult(async().replaceBackground(bgFilePath, replaceRed, replaceGreen, replaceBlue, simValue), false);
     }
 
     /**
@@ -1262,7 +1292,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 总是返回true。此函数依赖 initMetahuman函数运行，否则程序会崩溃
      */
     public boolean showSpeechText(int originY, String fontType, int fontSize, int fontRed, int fontGreen, int fontBlue, boolean italic, boolean underline) {
-        return boolCmd("showSpeechText", Integer.toString(originY), fontType, Integer.toString(fontSize), Integer.toString(fontRed), Integer.toString(fontGreen), Integer.toString(fontBlue), Boolean.toString(italic), Boolean.toString(underline));
+        return awaitResult(async().showSpeechText(originY, fontType, fontSize, fontRed, fontGreen, fontBlue, italic, underline), false);
     }
 
     /**
@@ -1280,7 +1310,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回false
      */
     public boolean makeMetahumanVideoClone(String saveVideoFolder, String text, String language, String voiceName, String bgFilePath, int simValue, String voiceStyle, int quality, int speechRate) {
-        return boolCmd("makeMetahumanVideoClone", saveVideoFolder, text, language, voiceName, bgFilePath, Integer.toString(simValue), voiceStyle, Integer.toString(quality), Integer.toString(speechRate));
+        return awaitResult(async().makeMetahumanVideoClone(saveVideoFolder, text, language, voiceName, bgFilePath, simValue, voiceStyle, quality, speechRate), false);
     }
 
     /**
@@ -1290,7 +1320,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 总是返回true
      */
     public boolean metahumanSpeechBreak() {
-        return boolCmd("metahumanSpeechBreak");
+        return awaitResult(async().metahumanSpeechBreak(), false);
     }
 
     /**
@@ -1303,7 +1333,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回false
      */
     public boolean metahumanSpeechClone(String saveAudioPath, String text, String language, String waitPlaySound) {
-        return boolCmd("metahumanSpeechClone", saveAudioPath, text, language, waitPlaySound);
+        return awaitResult(async().metahumanSpeechClone(saveAudioPath, text, language, waitPlaySound), false);
     }
 
     /**
@@ -1354,7 +1384,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回false
      */
     public boolean initSpeechCloneService(String apiKey, String voiceId) {
-        return boolCmd("initSpeechCloneService", apiKey, voiceId);
+        return awaitResult(async().initSpeechCloneService(apiKey, voiceId), false);
     }
 
     /**
@@ -1367,7 +1397,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回false
      */
     public boolean metahumanSpeechClone(String saveAudioPath, String text, String language, boolean waitPlaySound) {
-        return boolCmd("metahumanSpeechClone", saveAudioPath, text, language, Boolean.toString(waitPlaySound));
+        return awaitResult(async().metahumanSpeechClone(saveAudioPath, text, language, waitPlaySound), false);
     }
 
     /**
@@ -1381,7 +1411,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回false
      */
     public boolean makeMetahumanVideoClone(String saveVideoFolder, String text, String language, String bgFilePath, int simValue) {
-        return boolCmd("makeMetahumanVideoClone", saveVideoFolder, text, language, bgFilePath, Integer.toString(simValue));
+        return awaitResult(async().makeMetahumanVideoClone(saveVideoFolder, text, language, bgFilePath, simValue), false);
     }
 
     /**
@@ -1393,7 +1423,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回false
      */
     public boolean makeMetahumanSpeechFileClone(String saveAudioPath, String text, String language) {
-        return boolCmd("makeMetahumanSpeechFileClone", saveAudioPath, text, language);
+        return awaitResult(async().makeMetahumanSpeechFileClone(saveAudioPath, text, language), false);
     }
 
     /**
@@ -1402,7 +1432,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<string>} 返回WindowsDriver驱动程序的命令行参数(不包含ip和port)
      */
     public String getExtendParam() {
-        return strCmd("getExtendParam");
+        return awaitResult(async().getExtendParam(), null);
     }
 
     /**
@@ -1411,7 +1441,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<string>} 成功返回Windows ID
      */
     public String getWindowsId() {
-        return strCmd("getWindowsId");
+        return awaitResult(async().getWindowsId(), null);
     }
 
     /**
@@ -1422,7 +1452,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回false。调用不会立刻生效，加载完素材会自动切换
      */
     public boolean switchAction(String callApiKey, String actionVideoOrImage) {
-        return boolCmd("switchAction", callApiKey, actionVideoOrImage);
+        return awaitResult(async().switchAction(callApiKey, actionVideoOrImage), false);
     }
 
     /**
@@ -1435,7 +1465,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 成功返回true，失败返回false
      */
     public boolean trainHumanModel(String callApiKey, String trainVideoOrImagePath, String srcMetahumanModelPath, String saveHumanModelFolder) {
-        return boolCmd("trainHumanModel", callApiKey, trainVideoOrImagePath, srcMetahumanModelPath, saveHumanModelFolder);
+        return awaitResult(async().trainHumanModel(callApiKey, trainVideoOrImagePath, srcMetahumanModelPath, saveHumanModelFolder), false);
     }
 
     /**
@@ -1447,7 +1477,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 失败返回false,成功返回true。 切换到与原模型无关音色的模型，切记更换参考音频和文本
      */
     public boolean switchCloneAudioModel(String cloneServerIp, String gptWeightsPath, String sovitsWeightsPath) {
-        return this.boolCmd("switchCloneAudioModel", cloneServerIp, gptWeightsPath, sovitsWeightsPath);
+        return awaitResult(async().switchCloneAudioModel(cloneServerIp, gptWeightsPath, sovitsWeightsPath), false);
     }
 
     /**
@@ -1457,7 +1487,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 失败返回false,成功返回true。重启服务会中断连接，实际并未准确返回值。重启后模型加载需要时间，调用此函数需显示等待几秒，再去访问声音克隆服务
      */
     public boolean restartCloneAudioServer(String cloneServerIp) {
-        return this.boolCmd("restartCloneAudioServer", cloneServerIp);
+        return awaitResult(async().restartCloneAudioServer(cloneServerIp), false);
     }
 
     /**
@@ -1486,7 +1516,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 失败返回false,成功返回true
      */
     public boolean playAudio(String audioPath, boolean isWait) {
-        return this.boolCmd("playAudio", audioPath, Boolean.toString(isWait));
+        return awaitResult(async().playAudio(audioPath, isWait), false);
     }
 
     /**
@@ -1498,7 +1528,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 总是返回true，函数仅添加播放音频文件到队列不处理返回
      */
     public boolean playAudioEx(String audioPath, boolean enableRandomParam, boolean isWait) {
-        return this.boolCmd("playAudioEx", audioPath, Boolean.toString(enableRandomParam), Boolean.toString(isWait));
+        return awaitResult(async().playAudioEx(audioPath, enableRandomParam, isWait), false);
     }
 
     /**
@@ -1525,7 +1555,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 失败返回false,成功返回true。
      */
     public boolean setMediaVolumeScale(float volumeScale) {
-        return this.boolCmd("setMediaVolumeScale", Float.toString(volumeScale));
+        return awaitResult(async().setMediaVolumeScale(volumeScale), false);
     }
 
     /**
@@ -1536,7 +1566,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 失败返回false,成功返回true 并生成 与 audioPath 同目录下的 .lab 后缀文件。(音频文件+lab文件可以直接驱动数字人)
      */
     public boolean makeCloneLab(String labServerIp, String audioPath) {
-        return this.boolCmd("makeCloneLab", labServerIp, audioPath);
+        return awaitResult(async().makeCloneLab(labServerIp, audioPath), false);
     }
 
     /**
@@ -1547,7 +1577,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return {Promise.<boolean>} 失败返回null, 成功返回识别到的内容
      */
     public boolean cloneAudioToText(String labServerIp, String audioPath) {
-        return this.boolCmd("cloneAudioToText", labServerIp, audioPath);
+        return awaitResult(async().cloneAudioToText(labServerIp, audioPath), false);
     }
 
     /**
@@ -1556,7 +1586,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return boolean
      */
     public boolean closeDriver() {
-        return boolCmd("closeDriver");
+        return awaitResult(async().closeDriver(), false);
     }
 
     // ==================== HID 相关方法 ====================
@@ -1570,7 +1600,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return boolean 成功返回 true，失败返回 false
      */
     public boolean initHid() {
-        return this.boolCmd("initHid");
+        return awaitResult(async().initHid(), false);
     }
 
     /**
@@ -1581,7 +1611,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return String HID 设备数据数组（使用 "|" 分隔的设备 ID）
      */
     public String getHidData() {
-        return this.strCmd("getHidData");
+        return awaitResult(async().getHidData(), null);
     }
 
     /**
@@ -1594,7 +1624,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return String 成功返回 "true"，失败返回 "false"
      */
     public String hidPress(String androidId, int angle, int x, int y) {
-        return this.strCmd("hidPress", androidId, Integer.toString(angle), Integer.toString(x), Integer.toString(y));
+        return awaitResult(async().hidPress(androidId, angle, x, y), null);
     }
 
     /**
@@ -1608,7 +1638,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return String 成功返回 "true"，失败返回 "false"
      */
     public String hidMove(String androidId, int angle, int x, int y, int duration) {
-        return this.strCmd("hidMove", androidId, Integer.toString(angle), Integer.toString(x), Integer.toString(y), Integer.toString(duration));
+        return awaitResult(async().hidMove(androidId, angle, x, y, duration), null);
     }
 
     /**
@@ -1619,7 +1649,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return String 成功返回 "true"，失败返回 "false"
      */
     public String hidRelease(String androidId, int angle) {
-        return this.strCmd("hidRelease", androidId, Integer.toString(angle));
+        return awaitResult(async().hidRelease(androidId, angle), null);
     }
 
     /**
@@ -1632,7 +1662,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return String 成功返回 "true"，失败返回 "false"
      */
     public String hidClick(String androidId, int angle, int x, int y) {
-        return this.strCmd("hidClick", androidId, Integer.toString(angle), Integer.toString(x), Integer.toString(y));
+        return awaitResult(async().hidClick(androidId, angle, x, y), null);
     }
 
     /**
@@ -1645,7 +1675,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return String 成功返回 "true"，失败返回 "false"
      */
     public String hidDoubleClick(String androidId, int angle, int x, int y) {
-        return this.strCmd("hidDoubleClick", androidId, Integer.toString(angle), Integer.toString(x), Integer.toString(y));
+        return awaitResult(async().hidDoubleClick(androidId, angle, x, y), null);
     }
 
     /**
@@ -1659,7 +1689,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return String 成功返回 "true"，失败返回 "false"
      */
     public String hidLongClick(String androidId, int angle, int x, int y, int duration) {
-        return this.strCmd("hidLongClick", androidId, Integer.toString(angle), Integer.toString(x), Integer.toString(y), Integer.toString(duration));
+        return awaitResult(async().hidLongClick(androidId, angle, x, y, duration), null);
     }
 
     /**
@@ -1675,7 +1705,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return String 成功返回 "true"，失败返回 "false"
      */
     public String hidSwipe(String androidId, int angle, int startX, int startY, int endX, int endY, int duration) {
-        return this.strCmd("hidSwipe", androidId, Integer.toString(angle), Integer.toString(startX), Integer.toString(startY), Integer.toString(endX), Integer.toString(endY), Integer.toString(duration));
+        return awaitResult(async().hidSwipe(androidId, angle, startX, startY, endX, endY, duration), null);
     }
 
     /**
@@ -1688,7 +1718,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return String 成功返回 "true"，失败返回 "false"
      */
     public String hidDispatchGesture(String androidId, int angle, Object gesturePath, int duration) {
-        return this.strCmd("hidDispatchGesture", androidId, Integer.toString(angle), gesturePath.toString(), Integer.toString(duration));
+        return awaitResult(async().hidDispatchGesture(androidId, angle, gesturePath, duration), null);
     }
 
     /**
@@ -1700,7 +1730,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return String 成功返回 "true"，失败返回 "false"
      */
     public String hidDispatchGestures(String androidId, int angle, Object gesturesPath) {
-        return this.strCmd("hidDispatchGestures", androidId, Integer.toString(angle), gesturesPath.toString());
+        return awaitResult(async().hidDispatchGestures(androidId, angle, gesturesPath), null);
     }
 
     /**
@@ -1710,7 +1740,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return String 成功返回 "true"，失败返回 "false"
      */
     public String hidBack(String androidId) {
-        return this.strCmd("hidBack", androidId);
+        return awaitResult(async().hidBack(androidId), null);
     }
 
     /**
@@ -1720,7 +1750,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return String 成功返回 "true"，失败返回 "false"
      */
     public String hidHome(String androidId) {
-        return this.strCmd("hidHome", androidId);
+        return awaitResult(async().hidHome(androidId), null);
     }
 
     /**
@@ -1730,7 +1760,7 @@ public class WinBot extends AbstractPlatformBot {
      * @return String 成功返回 "true"，失败返回 "false"
      */
     public String hidRecents(String androidId) {
-        return this.strCmd("hidRecents", androidId);
+        return awaitResult(async().hidRecents(androidId), null);
     }
 
 }
@@ -0,0 +1,1089 @@
+package net.aibote.sdk;
+
+import com.alibaba.fastjson2.JSONObject;
+import net.aibote.sdk.options.Mode;
+import net.aibote.sdk.options.Region;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * WinBot 异步接口
+ * 通过 {@link WinBot#async()} 获取。方法与 WinBot 中单条命令的方法一一对应，
+ * 写出命令后立即返回，不阻塞调用线程；组合方法请使用 {@link #call(java.util.function.Function)}。
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+public class WinBotAsync extends AbstractBotAsync<WinBot> {
+
+    WinBotAsync(WinBot bot) {
+        super(bot);
+    }
+
+    /**
+     * 查找窗口句柄
+     *
+     * @param className  窗口类名
+     * @param windowName 窗口名
+     * @return 成功返回窗口句柄，失败返回null
+     */
+    public CompletableFuture<String> findWindow(String className, String windowName) {
+        return bot.strCmdAsync("findWindow", className, windowName);
+    }
+
+    /**
+     * 查找窗口句柄数组，  以 “|” 分割
+     *
+     * @param className  窗口类名
+     * @param windowName 窗口名
+     * @return 成功返回窗口句柄，失败返回null
+     */
+    public CompletableFuture<String> findWindows(String className, String windowName) {
+        return bot.strCmdAsync("findWindows", className, windowName);
+    }
+
+    /**
+     * 查找窗口句柄
+     *
+     * @param curHwnd    当前窗口句柄
+     * @param className  窗口类名
+     * @param windowName 窗口名
+     * @return 成功返回窗口句柄，失败返回null
+     */
+    public CompletableFuture<String> findSubWindow(String curHwnd, String className, String windowName) {
+        return bot.strCmdAsync("findSubWindow", curHwnd, className, windowName);
+    }
+
+    /**
+     * 查找父窗口句柄
+     *
+     * @param curHwnd 当前窗口句柄
+     * @return 成功返回窗口句柄，失败返回null
+     */
+    public CompletableFuture<String> findParentWindow(String curHwnd) {
+        return bot.strCmdAsync("findParentWindow", curHwnd);
+    }
+
+    /**
+     * 查找桌面窗口句柄
+     *
+     * @return 成功返回窗口句柄，失败返回null
+     */
+    public CompletableFuture<String> findDesktopWindow() {
+        return bot.strCmdAsync("findDesktopWindow");
+    }
+
+    /**
+     * 获取窗口名称
+     *
+     * @param hwnd 当前窗口句柄
+     * @return 成功返回窗口句柄，失败返回null
+     */
+    public CompletableFuture<String> getWindowName(String hwnd) {
+        return bot.strCmdAsync("getWindowName", hwnd);
+    }
+
+    /**
+     * 显示/隐藏窗口
+     *
+     * @param hwnd   当前窗口句柄
+     * @param isShow 是否显示
+     * @return 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> showWindow(String hwnd, boolean isShow) {
+        return bot.boolCmdAsync("showWindow", hwnd, String.valueOf(isShow));
+    }
+
+    /**
+     * 显示/隐藏窗口
+     *
+     * @param hwnd  当前窗口句柄
+     * @param isTop 是否置顶
+     * @return 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> setWindowTop(String hwnd, boolean isTop) {
+        return bot.boolCmdAsync("setWindowTop", hwnd, String.valueOf(isTop));
+    }
+
+    /**
+     * 获取窗口位置。 用“|”分割
+     *
+     * @param hwnd 当前窗口句柄
+     * @return 0|0|0|0
+     */
+    public CompletableFuture<String> getWindowPos(String hwnd) {
+        return bot.strCmdAsync("getWindowPos", hwnd);
+    }
+
+    /**
+     * 设置窗口位置
+     *
+     * @param hwnd   当前窗口句柄
+     * @param left   左上角横坐标
+     * @param top    左上角纵坐标
+     * @param width  width 窗口宽度
+     * @param height height 窗口高度
+     * @return 成功返回true 失败返回 false
+     */
+    public CompletableFuture<Boolean> setWindowPos(String hwnd, int left, int top, int width, int height) {
+        return bot.boolCmdAsync("setWindowPos", hwnd, Integer.toString(left), Integer.toString(top), Integer.toString(width), Integer.toString(height));
+    }
+
+    /**
+     * 移动鼠标 <br />
+     * 如果mode值为true且目标控件有单独的句柄，则需要通过getElementWindow获得元素句柄，指定elementHwnd的值(极少应用窗口由父窗口响应消息，则无需指定)
+     *
+     * @param hwnd        窗口句柄
+     * @param x           横坐标
+     * @param y           纵坐标
+     * @param mode        操作模式，后台 true，前台 false。默认前台操作。
+     * @param elementHwnd 元素句柄
+     * @return 总是返回true
+     */
+    public CompletableFuture<Boolean> moveMouse(String hwnd, int x, int y, Mode mode, String elementHwnd) {
+        return bot.boolCmdAsync("moveMouse", hwnd, Integer.toString(x), Integer.toString(y), mode.boolValueStr(), elementHwnd);
+    }
+
+    /**
+     * 移动鼠标(相对坐标)
+     *
+     * @param hwnd 窗口句柄
+     * @param x    相对横坐标
+     * @param y    相对纵坐标
+     * @param mode 操作模式，后台 true，前台 false。默认前台操作
+     * @return 总是返回true
+     */
+    public CompletableFuture<Boolean> moveMouseRelative(String hwnd, int x, int y, Mode mode) {
+        return bot.boolCmdAsync("moveMouseRelative", hwnd, Integer.toString(x), Integer.toString(y), mode.boolValueStr());
+    }
+
+    /**
+     * 滚动鼠标
+     *
+     * @param hwnd   窗口句柄
+     * @param x      横坐标
+     * @param y      纵坐标
+     * @param dwData 鼠标滚动次数,负数下滚鼠标,正数上滚鼠标
+     * @param mode   操作模式，后台 true，前台 false。默认前台操作
+     * @return 总是返回true
+     */
+    public CompletableFuture<Boolean> rollMouse(String hwnd, int x, int y, int dwData, Mode mode) {
+        return bot.boolCmdAsync("rollMouse", hwnd, Integer.toString(x), Integer.toString(y), Integer.toString(dwData), mode.boolValueStr());
+    }
+
+    /**
+     * 鼠标点击<br />
+     * 如果mode值为true且目标控件有单独的句柄，则需要通过getElementWindow获得元素句柄，指定elementHwnd的值(极少应用窗口由父窗口响应消息，则无需指定)
+     *
+     * @param hwnd        窗口句柄
+     * @param x           横坐标
+     * @param y           纵坐标
+     * @param mouseType   单击左键:1 单击右键:2 按下左键:3 弹起左键:4 按下右键:5 弹起右键:6 双击左键:7 双击右键:8
+     * @param mode        操作模式，后台 true，前台 false。默认前台操作。
+     * @param elementHwnd 元素句柄
+     * @return 总是返回true。
+     */
+    public CompletableFuture<Boolean> clickMouse(String hwnd, int x, int y, int mouseType, Mode mode, String elementHwnd) {
+        return bot.boolCmdAsync("clickMouse", hwnd, Integer.toString(x), Integer.toString(y), Integer.toString(mouseType), mode.boolValueStr(), elementHwnd);
+    }
+
+    /**
+     * 输入文本
+     *
+     * @param txt 输入的文本
+     * @return 总是返回true
+     */
+    public CompletableFuture<Boolean> sendKeys(String txt) {
+        return bot.boolCmdAsync("sendKeys", txt);
+    }
+
+    /**
+     * 后台输入文本
+     *
+     * @param hwnd 窗口句柄，如果目标控件有单独的句柄，需要通过getElementWindow获得句柄
+     * @param txt  输入的文本
+     * @return 总是返回true
+     */
+    public CompletableFuture<Boolean> sendKeysByHwnd(String hwnd, String txt) {
+        return bot.boolCmdAsync("sendKeysByHwnd", hwnd, txt);
+    }
+
+    /**
+     * 输入虚拟键值(VK)
+     *
+     * @param vk       VK键值，例如：回车对应 VK键值 13
+     * @param keyState 按下弹起:1 按下:2 弹起:3
+     * @return 总是返回true
+     */
+    public CompletableFuture<Boolean> sendVk(int vk, int keyState) {
+        return bot.boolCmdAsync("sendVk", Integer.toString(vk), Integer.toString(keyState));
+    }
+
+    /**
+     * 后台输入虚拟键值(VK)
+     *
+     * @param hwnd     窗口句柄，如果目标控件有单独的句柄，需要通过getElementWindow获得句柄
+     * @param vk       VK键值，例如：回车对应 VK键值 13
+     * @param keyState 按下弹起:1 按下:2 弹起:3
+     * @return 总是返回true
+     */
+    public CompletableFuture<Boolean> sendVkByHwnd(String hwnd, int vk, int keyState) {
+        return bot.boolCmdAsync("sendVkByHwnd", hwnd, Integer.toString(vk), Integer.toString(keyState));
+    }
+
+    /**
+     * 获取指定坐标点的色值
+     *
+     * @param hwnd 窗口句柄
+     * @param x    横坐标
+     * @param y    纵坐标
+     * @param mode 操作模式，后台 true，前台 false。默认前台操作
+     * @return 成功返回#开头的颜色值，失败返回null
+     */
+    public CompletableFuture<String> getColor(String hwnd, int x, int y, boolean mode) {
+        return bot.strCmdAsync("getColor", hwnd, Integer.toString(x), Integer.toString(y), Boolean.toString(mode));
+    }
+
+    /**
+     * 找动态图
+     *
+     * @param hwnd      窗口句柄
+     * @param frameRate 前后两张图相隔的时间，单位毫秒
+     * @param mode      操作模式，后台 true，前台 false。默认前台操作
+     * @return 成功返回 单坐标点[{x:number, y:number}]，多坐标点[{x1:number, y1:number}, {x2:number, y2:number}...] 失败返回null
+     */
+    public CompletableFuture<String> findAnimation(String hwnd, int frameRate, Region region, Mode mode) {
+        return bot.strDelayCmdAsync("findAnimation", hwnd, Integer.toString(frameRate), Integer.toString(region.left), Integer.toString(region.top), Integer.toString(region.right), Integer.toString(region.bottom), mode.boolValueStr());
+    }
+
+    /**
+     * 提取视频帧
+     *
+     * @param videoPath  视频路径
+     * @param saveFolder 提取的图片保存的文件夹目录
+     * @param jumpFrame  跳帧，默认为1 不跳帧
+     * @return 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> extractImageByVideo(String videoPath, String saveFolder, int jumpFrame) {
+        return bot.boolCmdAsync("extractImageByVideo", videoPath, saveFolder, Integer.toString(jumpFrame));
+    }
+
+    /**
+     * 裁剪图片
+     *
+     * @param imagePath  图片路径
+     * @param saveFolder 裁剪后保存的图片路径
+     * @param region     区域
+     * @return 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> cropImage(String imagePath, String saveFolder, Region region) {
+        return bot.boolCmdAsync("cropImage", imagePath, saveFolder, Integer.toString(region.left), Integer.toString(region.top), Integer.toString(region.right), Integer.toString(region.bottom));
+    }
+
+    /**
+     * 初始化yolo服务
+     *
+     * @param yoloServerIp yolo服务器IP。端口固定为9528
+     * @param modelPath    模型路径
+     * @param classesPath  种类路径，CPU模式需要此参数
+     * @return {Promise.<boolean>} 总是返回true
+     */
+    public CompletableFuture<Boolean> initYolo(String yoloServerIp, String modelPath, String classesPath) {
+        return bot.boolCmdAsync("initYolo", yoloServerIp, modelPath, classesPath);
+    }
+
+    /**
+     * 获取指定元素名称
+     *
+     * @param hwnd  窗口句柄。如果是java窗口并且窗口句柄和元素句柄不一致，需要使用getElementWindow获取窗口句柄。
+     * @param xpath 元素路径 getElementWindow参数的xpath，Aibote Tool应当使用正常模式下获取的XPATH路径，不要 “勾选java窗口” 复选按钮。对话框子窗口，需要获取对应的窗口句柄操作
+     * @return 成功返回元素名称
+     */
+    public CompletableFuture<String> getElementName(String hwnd, String xpath) {
+        return bot.strDelayCmdAsync("getElementName", hwnd, xpath);
+    }
+
+    /**
+     * 获取指定元素文本
+     *
+     * @param hwnd  窗口句柄
+     * @param xpath 元素路径
+     * @return 成功返回元素文本
+     */
+    public CompletableFuture<String> getElementValue(String hwnd, String xpath) {
+        return bot.strDelayCmdAsync("getElementValue", hwnd, xpath);
+    }
+
+    /**
+     * 获取元素窗口句柄
+     *
+     * @param hwnd  窗口句柄
+     * @param xpath 元素路径
+     * @return 成功返回元素窗口句柄，失败返回null
+     */
+    public CompletableFuture<String> getElementWindow(String hwnd, String xpath) {
+        return bot.strDelayCmdAsync("getElementWindow", hwnd, xpath);
+    }
+
+    /**
+     * 点击元素
+     *
+     * @param hwnd  窗口句柄。如果是java窗口并且窗口句柄和元素句柄不一致，需要使用getElementWindow获取窗口句柄。
+     *              getElementWindow参数的xpath，Aibote Tool应当使用正常模式下获取的XPATH路径，不要 “勾选java窗口” 复选按钮。对话框子窗口，需要获取对应的窗口句柄操作
+     * @param xpath 元素路径
+     * @param opt   单击左键:1 单击右键:2 按下左键:3 弹起左键:4 按下右键:5 弹起右键:6 双击左键:7 双击右键:8
+     * @return {Promise.<boolean>} 成功返回true 失败返回 false
+     */
+    public CompletableFuture<Boolean> clickElement(String hwnd, String xpath, String opt) {
+        return bot.boolDelayCmdAsync("clickElement", hwnd, xpath, opt);
+    }
+
+    /**
+     * 执行元素默认操作(一般是点击操作)
+     *
+     * @param {string|number} hwnd  窗口句柄。
+     * @param {string}        xpath 元素路径
+     * @return {Promise.<boolean>} 成功返回true 失败返回 false
+     */
+    public CompletableFuture<Boolean> invokeElement(String hwnd, String xpath) {
+        return bot.boolDelayCmdAsync("invokeElement", hwnd, xpath);
+    }
+
+    /**
+     * 设置指定元素作为焦点
+     *
+     * @param {string|number} hwnd  窗口句柄
+     * @param {string}        xpath 元素路径
+     * @return {Promise.<boolean>} 成功返回true 失败返回 false
+     */
+    public CompletableFuture<Boolean> setElementFocus(String hwnd, String xpath) {
+        return bot.boolDelayCmdAsync("setElementFocus", hwnd, xpath);
+    }
+
+    /**
+     * 设置元素文本
+     *
+     * @param hwnd  窗口句柄。如果是java窗口并且窗口句柄和元素句柄不一致，需要使用getElementWindow获取窗口句柄。
+     *              getElementWindow参数的xpath，Aibote Tool应当使用正常模式下获取的XPATH路径，不要 “勾选java窗口” 复选按钮。对话框子窗口，需要获取对应的窗口句柄操作
+     * @param xpath 元素路径
+     * @param value 要设置的内容
+     * @return {Promise.<boolean>} 成功返回true 失败返回 false
+     */
+    public CompletableFuture<Boolean> setElementValue(String hwnd, String xpath, String value) {
+        return bot.boolDelayCmdAsync("setElementValue", hwnd, xpath, value);
+    }
+
+    /**
+     * 滚动元素
+     *
+     * @param hwnd              窗口句柄
+     * @param xpath             元素路径
+     * @param horizontalPercent 水平百分比 -1不滚动
+     * @param verticalPercent   垂直百分比 -1不滚动
+     * @return 成功返回true 失败返回 false
+     */
+    public CompletableFuture<Boolean> setElementScroll(String hwnd, String xpath, float horizontalPercent, float verticalPercent) {
+        return bot.boolDelayCmdAsync("setElementScroll", hwnd, xpath, Float.toString(horizontalPercent), Float.toString(verticalPercent));
+    }
+
+    /**
+     * 关闭窗口
+     *
+     * @param hwnd  窗口句柄
+     * @param xpath 元素路径
+     * @return 成功返回true 失败返回 false
+     */
+    public CompletableFuture<Boolean> closeWindow(String hwnd, String xpath) {
+        return bot.boolCmdAsync("closeWindow", hwnd, xpath);
+    }
+
+    /**
+     * 设置窗口状态
+     *
+     * @param hwnd  hwnd  窗口句柄。如果是java窗口并且窗口句柄和元素句柄不一致，需要使用getElementWindow获取窗口句柄。
+     *              getElementWindow参数的xpath，Aibote Tool应当使用正常模式下获取的XPATH路径，不要 “勾选java窗口” 复选按钮。对话框子窗口，需要获取对应的窗口句柄操作
+     * @param xpath 元素路径
+     * @param state 0正常 1最大化 2 最小化
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> setWindowState(String hwnd, String xpath, int state) {
+        return bot.boolCmdAsync("setWindowState", hwnd, xpath, Integer.toString(state));
+    }
+
+    /**
+     * 设置剪贴板
+     *
+     * @param text 文字内容
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> setClipboardText(String text) {
+        return bot.boolCmdAsync("setClipboardText", text);
+    }
+
+    /**
+     * 获取剪贴板内容
+     *
+     * @return 响应字符串
+     */
+    public CompletableFuture<String> getClipboardText() {
+        return bot.strCmdAsync("getClipboardText");
+    }
+
+    /**
+     * 启动指定程序
+     *
+     * @param commandLine 启动命令行
+     * @param showWindow  是否显示窗口。可选参数,默认显示窗口
+     * @param isWait      是否等待程序结束。可选参数,默认不等待
+     * @return {Promise.<boolean>} 成功返回true,失败返回false
+     */
+    public CompletableFuture<Boolean> startProcess(String commandLine, boolean showWindow, boolean isWait) {
+        return bot.boolCmdAsync("startProcess", commandLine, Boolean.toString(showWindow), Boolean.toString(isWait));
+    }
+
+    /**
+     * 执行cmd命令
+     *
+     * @param command     cmd命令，不能含 "cmd"字串
+     * @param waitTimeout 可选参数，等待结果返回超时，单位毫秒，默认300毫秒
+     * @return {Promise.<string>} 返回cmd执行结果
+     */
+    public CompletableFuture<String> executeCommand(String command, int waitTimeout) {
+        return bot.strCmdAsync("executeCommand", command, Integer.toString(waitTimeout));
+    }
+
+    /**
+     * 指定url下载文件
+     *
+     * @param url      文件地址
+     * @param filePath 文件保存的路径
+     * @param isWait   是否等待.为true时,等待下载完成
+     * @return {Promise.<boolean>} 总是返回true
+     */
+    public CompletableFuture<Boolean> downloadFile(String url, String filePath, boolean isWait) {
+        return bot.boolCmdAsync("downloadFile", url, filePath, Boolean.toString(isWait));
+    }
+
+    /**
+     * 保存excel文档
+     *
+     * @param excelObject excel对象
+     * @return {Promise.<boolean>} 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> saveExcel(JSONObject excelObject) {
+        return bot.boolCmdAsync("saveExcel", excelObject.getString("book"), excelObject.getString("path"));
+    }
+
+    /**
+     * 写入数字到excel表格
+     *
+     * @param sheetObject sheet对象
+     * @param row         行
+     * @param col         列
+     * @param value       写入的值
+     * @return {Promise.<boolean>} 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> writeExcelNum(JSONObject sheetObject, int row, int col, int value) {
+        return bot.boolCmdAsync("writeExcelNum", sheetObject.toJSONString(), Integer.toString(row), Integer.toString(col), Integer.toString(value));
+    }
+
+    /**
+     * 写入字符串到excel表格
+     *
+     * @param sheetObject sheet对象
+     * @param row         行
+     * @param col         列
+     * @param strValue    写入的值
+     * @return {Promise.<boolean>} 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> writeExcelStr(JSONObject sheetObject, int row, int col, String strValue) {
+        return bot.boolCmdAsync("writeExcelStr", sheetObject.toJSONString(), Integer.toString(row), Integer.toString(col), strValue);
+    }
+
+    /**
+     * 读取excel表格数字
+     *
+     * @param sheetObject sheet对象
+     * @param row         行
+     * @param col         列
+     * @return {Promise.<number>} 返回读取到的数字
+     */
+    public CompletableFuture<String> readExcelStr(JSONObject sheetObject, int row, int col) {
+        return bot.strCmdAsync("readExcelStr", sheetObject.toJSONString(), Integer.toString(row), Integer.toString(col));
+    }
+
+    /**
+     * 删除excel表格行
+     *
+     * @param sheetObject sheet对象
+     * @param rowFirst    起始行
+     * @param rowLast     结束行
+     * @return {Promise.<boolean>} 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> removeExcelRow(JSONObject sheetObject, int rowFirst, int rowLast) {
+        return bot.boolCmdAsync("removeExcelRow", sheetObject.toJSONString(), Integer.toString(rowFirst), Integer.toString(rowLast));
+    }
+
+    /**
+     * 删除excel表格列
+     *
+     * @param sheetObject sheet对象
+     * @param rowFirst    起始列
+     * @param rowLast     结束列
+     * @return {Promise.<boolean>} 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> removeExcelCol(JSONObject sheetObject, int rowFirst, int rowLast) {
+        return bot.boolCmdAsync("removeExcelCol", sheetObject.toJSONString(), Integer.toString(rowFirst), Integer.toString(rowLast));
+    }
+
+    /**
+     * 初始化语音服务(不支持win7)
+     *
+     * @param speechKey,    微软语音API密钥
+     * @param speechRegion, 区域
+     * @return {Promise.<boolean>} 成功返回true 失败返回false
+     */
+    public CompletableFuture<Boolean> removeExcelCol(String speechKey, String speechRegion) {
+        return bot.boolCmdAsync("initSpeechService", speechKey, speechRegion);
+    }
+
+    /**
+     * 音频文件转文本
+     *
+     * @param filePath, 音频文件路径
+     * @param language, 语言，参考开发文档 语言和发音人
+     * @return {Promise.<string || null>} 成功返回转换后的音频文本，失败返回null
+     */
+    public CompletableFuture<String> audioFileToText(String filePath, String language) {
+        return bot.strCmdAsync("audioFileToText", filePath, language);
+    }
+
+    /**
+     * 麦克风输入流转换文本
+     *
+     * @param language, 语言，参考开发文档 语言和发音人
+     * @return {Promise.<string || null>} 成功返回转换后的音频文本，失败返回null
+     */
+    public CompletableFuture<String> microphoneToText(String language) {
+        return bot.strCmdAsync("microphoneToText", language);
+    }
+
+    /**
+     * 文本合成音频到扬声器
+     *
+     * @param ssmlPathOrText，要转换语音的文本或者".xml"格式文件路径
+     * @param language，语言，参考开发文档                    语言和发音人
+     * @param voiceName，发音人，参考开发文档                  语言和发音人
+     * @return {Promise.<boolean>} 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> textToBullhorn(String ssmlPathOrText, String language, String voiceName) {
+        return bot.boolCmdAsync("textToBullhorn", ssmlPathOrText, language, voiceName);
+    }
+
+    /**
+     * 文本合成音频并保存到文件
+     *
+     * @param ssmlPathOrText，要转换语音的文本或者".xml"格式文件路径
+     * @param language，语言，参考开发文档                    语言和发音人
+     * @param voiceName，发音人，参考开发文档                  语言和发音人
+     * @param audioPath，保存音频文件路径
+     * @return {Promise.<boolean>} 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> textToAudioFile(String ssmlPathOrText, String language, String voiceName, String audioPath) {
+        return bot.boolCmdAsync("textToAudioFile", ssmlPathOrText, language, voiceName);
+    }
+
+    /**
+     * 麦克风音频翻译成目标语言文本
+     *
+     * @param sourceLanguage，要翻译的语言，参考开发文档 语言和发音人
+     * @param targetLanguage，翻译后的语言，参考开发文档 语言和发音人
+     * @return {Promise.<string || null>} 成功返回翻译后的语言文本，失败返回null
+     */
+    public CompletableFuture<String> microphoneTranslationText(String sourceLanguage, String targetLanguage) {
+        return bot.strCmdAsync("microphoneTranslationText", sourceLanguage, targetLanguage);
+    }
+
+    /**
+     * 音频文件翻译成目标语言文本
+     *
+     * @param audioPath，                   要翻译的音频文件路径
+     * @param sourceLanguage，要翻译的语言，参考开发文档 语言和发音人
+     * @param targetLanguage，翻译后的语言，参考开发文档 语言和发音人
+     * @return {Promise.<string || null>}成功返回翻译后的语言文本，失败返回null
+     */
+    public CompletableFuture<String> audioFileTranslationText(String audioPath, String sourceLanguage, String targetLanguage) {
+        return bot.strCmdAsync("audioFileTranslationText", audioPath, sourceLanguage, targetLanguage);
+    }
+
+    /**
+     * 初始化数字人，第一次初始化需要一些时间
+     *
+     * @param metahumanModePath,   数字人模型路径
+     * @param metahumanScaleValue, 数字人缩放倍数，1为原始大小。为0.5时放大一倍，2则缩小一半
+     * @param isUpdateMetahuman,   是否强制更新，默认fasle。为true时强制更新会拖慢初始化速度
+     * @return {Promise.<boolean>} 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> initMetahuman(String metahumanModePath, float metahumanScaleValue, boolean isUpdateMetahuman, boolean enableRandomImage) {
+        return bot.boolCmdAsync("initMetahuman", metahumanModePath, Float.toString(metahumanScaleValue), Boolean.toString(isUpdateMetahuman), Boolean.toString(enableRandomImage));
+    }
+
+    /**
+     * 数字人说话文件缓存模式
+     *
+     * @param {string}  audioPath, 音频路径， 同名的 .lab文件需要和音频文件在同一目录下
+     * @param {boolean} waitPlaySound，等待音频播报完毕， true等待/false不等待
+     * @return {Promise.<boolean>} 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> metahumanSpeechByFile(String audioPath, boolean waitPlaySound) {
+        return bot.boolCmdAsync("metahumanSpeechByFile", audioPath, Boolean.toString(waitPlaySound));
+    }
+
+    /**
+     * 数字人说话文件缓存模式(Ex) metahumanSpeechByFileEx 不能与 PlayAudioEx 同步执行
+     *
+     * @param {string}  audioPath, 音频路径， 同名的 .lab文件需要和音频文件在同一目录下。若.lab文件不存在，则自动生成.lab文件。生成.lab文件产生的费用，请联系管理员
+     * @param {boolean} enableRandomParam, 是否启用随机去重参数
+     * @param {boolean} waitPlaySound，等待音频播报完毕，默认为 false等待。为false时 多次调用此函数会添加到队列按顺序播报
+     * @return {Promise.<boolean>} 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> metahumanSpeechByFileEx(String audioPath, boolean enableRandomParam, boolean waitPlaySound) {
+        return bot.boolCmdAsync("metahumanSpeechByFileEx", audioPath, Boolean.toString(enableRandomParam), Boolean.toString(waitPlaySound));
+    }
+
+    /**
+     * 数字人插入视频
+     *
+     * @param videoFilePath  插入的视频文件路径
+     * @param audioFilePath  插入的视频文件路径
+     * @param audioFilePath, 插入的音频文件路径
+     * @param waitPlayVideo  等待视频播放完毕,true等待/false不等待
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> metahumanInsertVideo(String videoFilePath, String audioFilePath, boolean waitPlayVideo) {
+        return bot.boolCmdAsync("metahumanInsertVideo", videoFilePath, audioFilePath, Boolean.toString(waitPlayVideo));
+    }
+
+    /**
+     * 替换数字人背景
+     *
+     * @param bgFilePath   数字人背景 图片/视频 路径。仅替换绿幕背景的数字人模型
+     * @param replaceRed   数字人背景的三通道之一的 R通道色值。默认-1 自动提取
+     * @param replaceGreen 数字人背景的三通道之一的 G通道色值。默认-1 自动提取
+     * @param replaceBlue  数字人背景的三通道之一的 B通道色值。默认-1 自动提取
+     * @param simValue     相似度。 默认为0，此处参数用作微调RBG值。取值应当大于等于0
+     * @return {Promise.<boolean>} 总是返回true。此函数依赖 initMetahuman函数运行，否则程序会崩溃
+     */
+    public CompletableFuture<Boolean> replaceBackground(String bgFilePath, int replaceRed, int replaceGreen, int replaceBlue, int simValue) {
+        return bot.boolCmdAsync("replaceBackground", bgFilePath, Integer.toString(replaceRed), Integer.toString(replaceGreen), Integer.toString(replaceBlue), Integer.toString(simValue));
+    }
+
+    /**
+     * 显示数字人说话的文本
+     *
+     * @param originY   第一个字显示的起始Y坐标点。 默认0 自适应高度
+     * @param fontType  字体样式，支持操作系统已安装的字体。例如"Arial"、"微软雅黑"、"楷体"
+     * @param fontSize  字体的大小。默认30
+     * @param fontRed   字体颜色三通道之一的 R通道色值。默认可填入 128
+     * @param fontGreen 字体颜色三通道之一的 G通道色值。默认可填入 255
+     * @param fontBlue  字体颜色三通道之一的 B通道色值。默认可填入 0
+     * @param italic    是否斜体,默认false
+     * @param underline 是否有下划线,默认false
+     * @return {Promise.<boolean>} 总是返回true。此函数依赖 initMetahuman函数运行，否则程序会崩溃
+     */
+    public CompletableFuture<Boolean> showSpeechText(int originY, String fontType, int fontSize, int fontRed, int fontGreen, int fontBlue, boolean italic, boolean underline) {
+        return bot.boolCmdAsync("showSpeechText", Integer.toString(originY), fontType, Integer.toString(fontSize), Integer.toString(fontRed), Integer.toString(fontGreen), Integer.toString(fontBlue), Boolean.toString(italic), Boolean.toString(underline));
+    }
+
+    /**
+     * 生成数字人短视频，此函数需要调用 initSpeechService 初始化语音服务
+     *
+     * @param saveVideoFolder, 保存的视频目录
+     * @param text             要转换语音的文本
+     * @param language         语言，参考开发文档 语言和发音人
+     * @param voiceName        发音人，参考开发文档 语言和发音人
+     * @param bgFilePath       数字人背景 图片/视频 路径，扣除绿幕会自动获取绿幕的RGB值，null 则不替换背景。仅替换绿幕背景的数字人模型
+     * @param simValue         相似度，默认为0。此处参数用作绿幕扣除微调RBG值。取值应当大于等于0
+     * @param voiceStyle       语音风格，默认General常规风格，其他风格参考开发文档 语言和发音人
+     * @param quality          音质，0低品质  1中品质  2高品质， 默认为0低品质
+     * @param speechRate       语速，默认为0，取值范围 -100 至 200
+     * @return {Promise.<boolean>} 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> makeMetahumanVideoClone(String saveVideoFolder, String text, String language, String voiceName, String bgFilePath, int simValue, String voiceStyle, int quality, int speechRate) {
+        return bot.boolCmdAsync("makeMetahumanVideoClone", saveVideoFolder, text, language, voiceName, bgFilePath, Integer.toString(simValue), voiceStyle, Integer.toString(quality), Integer.toString(speechRate));
+    }
+
+    /**
+     * 打断数字人说话，一般用作人机对话场景。
+     * metahumanSpeech和metahumanSpeechCache的 waitPlaySound 参数 设置为false时，此函数才有意义
+     *
+     * @return {Promise.<boolean>} 总是返回true
+     */
+    public CompletableFuture<Boolean> metahumanSpeechBreak() {
+        return bot.boolCmdAsync("metahumanSpeechBreak");
+    }
+
+    /**
+     * 数字人使用克隆声音说话，此函数需要调用 initSpeechCloneService 初始化语音服务
+     *
+     * @param {string}  saveAudioPath, 保存的发音文件路径。这里是路径，不是目录！
+     * @param {string}  text,要转换语音的文本
+     * @param {string}  language，语言，中文：zh-cn，其他语言：other-languages
+     * @param {boolean} waitPlaySound，等待音频播报完毕，
+     * @return {Promise.<boolean>} 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> metahumanSpeechClone(String saveAudioPath, String text, String language, String waitPlaySound) {
+        return bot.boolCmdAsync("metahumanSpeechClone", saveAudioPath, text, language, waitPlaySound);
+    }
+
+    /**
+     * 初始化数字人声音克隆服务
+     *
+     * @param {string} apiKey, API密钥
+     * @param {string} voiceId, 声音ID
+     * @return {Promise.<boolean>} 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> initSpeechCloneService(String apiKey, String voiceId) {
+        return bot.boolCmdAsync("initSpeechCloneService", apiKey, voiceId);
+    }
+
+    /**
+     * 数字人使用克隆声音说话，此函数需要调用 initSpeechCloneService 初始化语音服务
+     *
+     * @param {string}  saveAudioPath, 保存的发音文件路径。这里是路径，不是目录！
+     * @param {string}  text,要转换语音的文本
+     * @param {string}  language，语言，中文：zh-cn，其他语言：other-languages
+     * @param {boolean} waitPlaySound，等待音频播报完毕，  true等待/false不等待
+     * @return {Promise.<boolean>} 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> metahumanSpeechClone(String saveAudioPath, String text, String language, boolean waitPlaySound) {
+        return bot.boolCmdAsync("metahumanSpeechClone", saveAudioPath, text, language, Boolean.toString(waitPlaySound));
+    }
+
+    /**
+     * 使用克隆声音生成数字人短视频，此函数需要调用 initSpeechCloneService 初始化语音服务
+     *
+     * @param {string} saveVideoFolder, 保存的视频和音频文件目录
+     * @param {string} text,要转换语音的文本
+     * @param {string} language，语言，中文：zh-cn，其他语言：other-languages
+     * @param {string} bgFilePath,数字人背景 图片/视频 路径，扣除绿幕会自动获取绿幕的RGB值，null 则不替换背景。仅替换绿幕背景的数字人模型
+     * @param {number} simValue, 相似度，默认为0。此处参数用作绿幕扣除微调RBG值。取值应当大于等于0
+     * @return {Promise.<boolean>} 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> makeMetahumanVideoClone(String saveVideoFolder, String text, String language, String bgFilePath, int simValue) {
+        return bot.boolCmdAsync("makeMetahumanVideoClone", saveVideoFolder, text, language, bgFilePath, Integer.toString(simValue));
+    }
+
+    /**
+     * 生成数字人说话文件(声音克隆)，生成MP3文件和 lab文件，提供给 metahumanSpeechByFile 和使用
+     *
+     * @param {string} saveAudioPath, 保存的发音文件路径。这里是路径，不是目录！
+     * @param {string} text,要转换语音的文本
+     * @param {string} language，语言，中文：zh-cn，其他语言：other-languages
+     * @return {Promise.<boolean>} 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> makeMetahumanSpeechFileClone(String saveAudioPath, String text, String language) {
+        return bot.boolCmdAsync("makeMetahumanSpeechFileClone", saveAudioPath, text, language);
+    }
+
+    /**
+     * 获取WindowsDriver.exe 命令扩展参数，一般用作脚本远程部署场景，WindowsDriver.exe驱动程序传递参数给脚本服务端
+     *
+     * @return {Promise.<string>} 返回WindowsDriver驱动程序的命令行参数(不包含ip和port)
+     */
+    public CompletableFuture<String> getExtendParam() {
+        return bot.strCmdAsync("getExtendParam");
+    }
+
+    /**
+     * 获取Windows ID
+     *
+     * @return {Promise.<string>} 成功返回Windows ID
+     */
+    public CompletableFuture<String> getWindowsId() {
+        return bot.strCmdAsync("getWindowsId");
+    }
+
+    /**
+     * 切换新的人物形象动作，此函数无需训练数字人模型，直接切换各种人物形象动作和场景。
+     *
+     * @param {string} callApiKey, 调用函数的密钥
+     * @param {string} actionVideoOrImage, 闭嘴的人物视频或者图片
+     * @return {Promise.<boolean>} 成功返回true，失败返回false。调用不会立刻生效，加载完素材会自动切换
+     */
+    public CompletableFuture<Boolean> switchAction(String callApiKey, String actionVideoOrImage) {
+        return bot.boolCmdAsync("switchAction", callApiKey, actionVideoOrImage);
+    }
+
+    /**
+     * 训练数字人，训练时长为10-30分钟
+     *
+     * @param {string} callApiKey, 调用函数的密钥
+     * @param {string} trainVideoOrImagePath, 闭嘴的人物视频或者图片 素材
+     * @param {string} srcMetahumanModelPath, 预训练数字人模型路径
+     * @param {string} saveHumanModelFolder, 保存训练完成的模型目录
+     * @return {Promise.<boolean>} 成功返回true，失败返回false
+     */
+    public CompletableFuture<Boolean> trainHumanModel(String callApiKey, String trainVideoOrImagePath, String srcMetahumanModelPath, String saveHumanModelFolder) {
+        return bot.boolCmdAsync("trainHumanModel", callApiKey, trainVideoOrImagePath, srcMetahumanModelPath, saveHumanModelFolder);
+    }
+
+    /**
+     * 切换声音克隆模型
+     *
+     * @param {string} cloneServerIp, 克隆声音服务端
+     * @param {string} gptWeightsPath, gpt 模型权重路径。指克隆服务所在的电脑/服务器 路径
+     * @param {string} sovitsWeightsPath, sovits 模型权重路径。指克隆服务所在的电脑/服务器 路径
+     * @return {Promise.<boolean>} 失败返回false,成功返回true。 切换到与原模型无关音色的模型，切记更换参考音频和文本
+     */
+    public CompletableFuture<Boolean> switchCloneAudioModel(String cloneServerIp, String gptWeightsPath, String sovitsWeightsPath) {
+        return bot.boolCmdAsync("switchCloneAudioModel", cloneServerIp, gptWeightsPath, sovitsWeightsPath);
+    }
+
+    /**
+     * 重启声音克隆服务
+     *
+     * @param {string} cloneServerIp, 克隆声音服务端
+     * @return {Promise.<boolean>} 失败返回false,成功返回true。重启服务会中断连接，实际并未准确返回值。重启后模型加载需要时间，调用此函数需显示等待几秒，再去访问声音克隆服务
+     */
+    public CompletableFuture<Boolean> restartCloneAudioServer(String cloneServerIp) {
+        return bot.boolCmdAsync("restartCloneAudioServer", cloneServerIp);
+    }
+
+    /**
+     * 播报音频文件
+     *
+     * @param {string}  audioPath, 音频文件路径
+     * @param {boolean} isWait, 是否等待.为true时,等待播放完毕
+     * @return {Promise.<boolean>} 失败返回false,成功返回true
+     */
+    public CompletableFuture<Boolean> playAudio(String audioPath, boolean isWait) {
+        return bot.boolCmdAsync("playAudio", audioPath, Boolean.toString(isWait));
+    }
+
+    /**
+     * 播报音频文件(EX)，playAudioEx 不能与 metahumanSpeechByFileEx 同步执行
+     *
+     * @param {string}  audioPath, 音频文件路径
+     * @param {boolean} enableRandomParam, 是否启用随机去重参数
+     * @param {boolean} isWait, 是否等待.为true时,等待播放完毕
+     * @return {Promise.<boolean>} 总是返回true，函数仅添加播放音频文件到队列不处理返回
+     */
+    public CompletableFuture<Boolean> playAudioEx(String audioPath, boolean enableRandomParam, boolean isWait) {
+        return bot.boolCmdAsync("playAudioEx", audioPath, Boolean.toString(enableRandomParam), Boolean.toString(isWait));
+    }
+
+    /**
+     * 调节 playMedia 音量大小(底层用的内存共享，支持多进程控制)
+     *
+     * @param {number} volumeScale, 音量缩放（0.5调低一半，1.0为原始音量大小）。默认为原始大小
+     * @return {Promise.<boolean>} 失败返回false,成功返回true。
+     */
+    public CompletableFuture<Boolean> setMediaVolumeScale(float volumeScale) {
+        return bot.boolCmdAsync("setMediaVolumeScale", Float.toString(volumeScale));
+    }
+
+    /**
+     * 生成lab文件，需要部署服务端
+     *
+     * @param {string} labServerIp, lab服务端IP
+     * @param {string} audioPath, 音频文件
+     * @return {Promise.<boolean>} 失败返回false,成功返回true 并生成 与 audioPath 同目录下的 .lab 后缀文件。(音频文件+lab文件可以直接驱动数字人)
+     */
+    public CompletableFuture<Boolean> makeCloneLab(String labServerIp, String audioPath) {
+        return bot.boolCmdAsync("makeCloneLab", labServerIp, audioPath);
+    }
+
+    /**
+     * 语音识别，需要部署服务端
+     *
+     * @param {string} labServerIp, lab服务端IP
+     * @param {string} audioPath, 音频文件
+     * @return {Promise.<boolean>} 失败返回null, 成功返回识别到的内容
+     */
+    public CompletableFuture<Boolean> cloneAudioToText(String labServerIp, String audioPath) {
+        return bot.boolCmdAsync("cloneAudioToText", labServerIp, audioPath);
+    }
+
+    /**
+     * 关闭驱动
+     *
+     * @return 响应布尔值
+     */
+    public CompletableFuture<Boolean> closeDriver() {
+        return bot.boolCmdAsync("closeDriver");
+    }
+
+    /**
+     * 初始化 HID（硬件输入设备）
+     *
+     * 用于与 Android 设备通过 USB 进行直接交互。
+     * 此方法应在 AndroidBot.initHid() 之前调用。
+     *
+     * @return 成功返回 true，失败返回 false
+     */
+    public CompletableFuture<Boolean> initHid() {
+        return bot.boolCmdAsync("initHid");
+    }
+
+    /**
+     * 获取 HID 数据
+     *
+     * 获取初始化后的 HID 设备数据，用于 AndroidBot 验证初始化是否成功。
+     *
+     * @return HID 设备数据数组（使用 "|" 分隔的设备 ID）
+     */
+    public CompletableFuture<String> getHidData() {
+        return bot.strCmdAsync("getHidData");
+    }
+
+    /**
+     * HID 按下操作（由 AndroidBot 调用）
+     *
+     * @param androidId 安卓设备 ID
+     * @param angle     屏幕旋转角度
+     * @param x         横坐标
+     * @param y         纵坐标
+     * @return 成功返回 "true"，失败返回 "false"
+     */
+    public CompletableFuture<String> hidPress(String androidId, int angle, int x, int y) {
+        return bot.strCmdAsync("hidPress", androidId, Integer.toString(angle), Integer.toString(x), Integer.toString(y));
+    }
+
+    /**
+     * HID 移动操作
+     *
+     * @param androidId 安卓设备 ID
+     * @param angle     屏幕旋转角度
+     * @param x         横坐标
+     * @param y         纵坐标
+     * @param duration  移动时长，单位毫秒
+     * @return 成功返回 "true"，失败返回 "false"
+     */
+    public CompletableFuture<String> hidMove(String androidId, int angle, int x, int y, int duration) {
+        return bot.strCmdAsync("hidMove", androidId, Integer.toString(angle), Integer.toString(x), Integer.toString(y), Integer.toString(duration));
+    }
+
+    /**
+     * HID 释放操作
+     *
+     * @param androidId 安卓设备 ID
+     * @param angle     屏幕旋转角度
+     * @return 成功返回 "true"，失败返回 "false"
+     */
+    public CompletableFuture<String> hidRelease(String androidId, int angle) {
+        return bot.strCmdAsync("hidRelease", androidId, Integer.toString(angle));
+    }
+
+    /**
+     * HID 单击操作
+     *
+     * @param androidId 安卓设备 ID
+     * @param angle     屏幕旋转角度
+     * @param x         横坐标
+     * @param y         纵坐标
+     * @return 成功返回 "true"，失败返回 "false"
+     */
+    public CompletableFuture<String> hidClick(String androidId, int angle, int x, int y) {
+        return bot.strCmdAsync("hidClick", androidId, Integer.toString(angle), Integer.toString(x), Integer.toString(y));
+    }
+
+    /**
+     * HID 双击操作
+     *
+     * @param androidId 安卓设备 ID
+     * @param angle     屏幕旋转角度
+     * @param x         横坐标
+     * @param y         纵坐标
+     * @return 成功返回 "true"，失败返回 "false"
+     */
+    public CompletableFuture<String> hidDoubleClick(String androidId, int angle, int x, int y) {
+        return bot.strCmdAsync("hidDoubleClick", androidId, Integer.toString(angle), Integer.toString(x), Integer.toString(y));
+    }
+
+    /**
+     * HID 长按操作
+     *
+     * @param androidId 安卓设备 ID
+     * @param angle     屏幕旋转角度
+     * @param x         横坐标
+     * @param y         纵坐标
+     * @param duration  长按时长，单位毫秒
+     * @return 成功返回 "true"，失败返回 "false"
+     */
+    public CompletableFuture<String> hidLongClick(String androidId, int angle, int x, int y, int duration) {
+        return bot.strCmdAsync("hidLongClick", androidId, Integer.toString(angle), Integer.toString(x), Integer.toString(y), Integer.toString(duration));
+    }
+
+    /**
+     * HID 滑动操作
+     *
+     * @param androidId 安卓设备 ID
+     * @param angle     屏幕旋转角度
+     * @param startX    起始横坐标
+     * @param startY    起始纵坐标
+     * @param endX      结束横坐标
+     * @param endY      结束纵坐标
+     * @param duration  滑动时长，单位毫秒
+     * @return 成功返回 "true"，失败返回 "false"
+     */
+    public CompletableFuture<String> hidSwipe(String androidId, int angle, int startX, int startY, int endX, int endY, int duration) {
+        return bot.strCmdAsync("hidSwipe", androidId, Integer.toString(angle), Integer.toString(startX), Integer.toString(startY), Integer.toString(endX), Integer.toString(endY), Integer.toString(duration));
+    }
+
+    /**
+     * HID 手势操作
+     *
+     * @param androidId   安卓设备 ID
+     * @param angle       屏幕旋转角度
+     * @param gesturePath 手势路径
+     * @param duration    手势时长，单位毫秒
+     * @return 成功返回 "true"，失败返回 "false"
+     */
+    public CompletableFuture<String> hidDispatchGesture(String androidId, int angle, Object gesturePath, int duration) {
+        return bot.strCmdAsync("hidDispatchGesture", androidId, Integer.toString(angle), gesturePath.toString(), Integer.toString(duration));
+    }
+
+    /**
+     * HID 多手势操作
+     *
+     * @param androidId    安卓设备 ID
+     * @param angle        屏幕旋转角度
+     * @param gesturesPath 多个手势路径
+     * @return 成功返回 "true"，失败返回 "false"
+     */
+    public CompletableFuture<String> hidDispatchGestures(String androidId, int angle, Object gesturesPath) {
+        return bot.strCmdAsync("hidDispatchGestures", androidId, Integer.toString(angle), gesturesPath.toString());
+    }
+
+    /**
+     * HID 返回键
+     *
+     * @param androidId 安卓设备 ID
+     * @return 成功返回 "true"，失败返回 "false"
+     */
+    public CompletableFuture<String> hidBack(String androidId) {
+        return bot.strCmdAsync("hidBack", androidId);
+    }
+
+    /**
+     * HID Home 键
+     *
+     * @param androidId 安卓设备 ID
+     * @return 成功返回 "true"，失败返回 "false"
+     */
+    public CompletableFuture<String> hidHome(String androidId) {
+        return bot.strCmdAsync("hidHome", androidId);
+    }
+
+    /**
+     * HID 显示最近任务
+     *
+     * @param androidId 安卓设备 ID
+     * @return 成功返回 "true"，失败返回 "false"
+     */
+    public CompletableFuture<String> hidRecents(String androidId) {
+        return bot.strCmdAsync("hidRecents", androidId);
+    }
+}
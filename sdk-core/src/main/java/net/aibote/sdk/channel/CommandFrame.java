@@ -0,0 +1,81 @@
+package net.aibote.sdk.channel;
+
+/**
+ * 命令帧
+ * 参数可以是字符串或二进制数据（byte[]），由服务端编码器按 len/len/len\ndata 格式一次性编码，
+ * 二进制参数直接作为组合缓冲区的分量写出，不复制文件内容。
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+public final class CommandFrame {
+
+    private final Object[] args;
+
+    /**
+     * 随后单独写出的二进制参数长度，-1 表示没有
+     */
+    private final long trailingLength;
+
+    private CommandFrame(Object[] args, long trailingLength) {
+        this.args = args;
+        this.trailingLength = trailingLength;
+    }
+
+    /**
+     * 创建命令帧
+     * @param args 命令参数，支持 String（null 视为空字符串）和 byte[]
+     * @return 命令帧
+     */
+    public static CommandFrame of(Object... args) {
+        for (Object arg : args) {
+            if (arg != null && !(arg instanceof String) && !(arg instanceof byte[])) {
+                throw new IllegalArgumentException("不支持的参数类型: " + arg.getClass().getName());
+            }
+        }
+        return new CommandFrame(args, -1);
+    }
+
+    /**
+     * 创建只包含协议头与文本参数的命令帧，最后一个二进制参数（例如 FileRegion）由调用方随后单独写出
+     * @param trailingLength 随后写出的二进制参数长度
+     * @param args 文本参数
+     * @return 命令帧
+     */
+    public static CommandFrame withTrailing(long trailingLength, String... args) {
+        if (trailingLength < 0) {
+            throw new IllegalArgumentException("非法的数据长度: " + trailingLength);
+        }
+        return new CommandFrame(args, trailingLength);
+    }
+
+    /**
+     * 获取命令参数
+     * @return 参数数组
+     */
+    public Object[] getArgs() {
+        return args;
+    }
+
+    /**
+     * 获取随后单独写出的二进制参数长度
+     * @return 长度，-1 表示没有
+     */
+    public long getTrailingLength() {
+        return trailingLength;
+    }
+
+    /**
+     * 获取命令名称（首个参数），用于日志
+     * @return 命令名称
+     */
+    public String getName() {
+        return args.length > 0 && args[0] instanceof String ? (String) args[0] : "";
+    }
+
+    @Override
+    public String toString() {
+        return "CommandFrame(" + getName() + ", args=" + args.length + ")";
+    }
+}
@@ -0,0 +1,103 @@
+package net.aibote.sdk.channel;
+
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 全局命令超时调度器
+ * 所有机器人、所有服务端（Win/Web/Android）共享一个时间轮，
+ * 命令响应到达时取消对应的超时任务，不再为每条命令创建线程。
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+public final class CommandTimer {
+
+    private static final CommandTimer INSTANCE = new CommandTimer();
+
+    // 10ms 一格，512 格约 5 秒一圈，覆盖常见的响应超时
+    private static final long TICK_MILLIS = 10;
+    private static final int TICKS_PER_WHEEL = 512;
+
+    private final HashedWheelTimer timer = new HashedWheelTimer(
+            new DefaultThreadFactory("Aibote-CommandTimer", true), TICK_MILLIS, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL);
+
+    private final LongAdder scheduled = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+
+    private CommandTimer() {
+    }
+
+    /**
+     * 获取单例实例
+     * @return CommandTimer单例
+     */
+    public static CommandTimer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 为 future 设置超时，超时后以 {@link TimeoutException} 失败；future 先完成时取消超时任务
+     * @param future 待完成的 future
+     * @param timeoutMillis 超时时间（毫秒）
+     * @param desc 超时描述，用于异常信息
+     * @param <T> 结果类型
+     * @return 传入的 future
+     */
+    public <T> CompletableFuture<T> withTimeout(CompletableFuture<T> future, long timeoutMillis, String desc) {
+        scheduled.increment();
+        Timeout timeout = timer.newTimeout(t -> {
+            if (future.completeExceptionally(new TimeoutException("命令执行超时: " + desc))) {
+                expired.increment();
+            }
+        }, timeoutMillis, TimeUnit.MILLISECONDS);
+        future.whenComplete((result, error) -> {
+            if (timeout.cancel()) {
+                cancelled.increment();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 获取时间轮统计信息
+     * @return 统计快照
+     */
+    public TimerStats getStats() {
+        return new TimerStats(timer.pendingTimeouts(), scheduled.sum(), expired.sum(), cancelled.sum());
+    }
+
+    /**
+     * 时间轮统计快照
+     */
+    @Data
+    @AllArgsConstructor
+    public static class TimerStats {
+        /**
+         * 尚未到期也未取消的超时任务数
+         */
+        private long pending;
+        /**
+         * 累计登记的超时任务数
+         */
+        private long scheduled;
+        /**
+         * 累计到期（命令超时）的任务数
+         */
+        private long expired;
+        /**
+         * 累计因响应到达而取消的任务数
+         */
+        private long cancelled;
+    }
+}
@@ -0,0 +1,416 @@
+package net.aibote.sdk.channel;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import lombok.extern.slf4j.Slf4j;
+import net.aibote.sdk.exception.BackpressureException;
+import net.aibote.sdk.exception.CommandException;
+import net.aibote.utils.config.ConfigManager;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 通道级在途命令队列
+ * 绑定在Netty通道属性上，同一连接上的所有机器人实例共享。
+ * driver 按请求顺序返回响应，因此按 FIFO 顺序将响应与已写出的命令一一对应；
+ * 同时在途的命令数受流水线深度限制，超出的命令在本地排队，有空位时再写出。
+ * 写出动作只调用 write，由本类统一 flush；批量发送期间（{@link #cork()}）暂停 flush，结束时一次性写出。
+ * 连接出站缓冲区超过高水位（不可写）时，按配置让命令在积压队列中等待可写（仍受命令超时约束），
+ * 或直接以 {@link BackpressureException} 失败。
+ * 已写出的命令超时或取消后仍留在队列中，由其迟到的响应弹出，保证后续响应不会错位；
+ * 排在这样的命令之后的命令也超时，说明驱动已不再响应，视为失去同步：
+ * 所有在途和排队中的命令立即失败并关闭连接。
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+@Slf4j
+public class PendingResponses {
+
+    private static final AttributeKey<PendingResponses> KEY = AttributeKey.valueOf("aibote.pendingResponses");
+
+    /**
+     * 当前线程正在批量提交的连接，只有该线程在该连接上提交的命令不受流水线深度限制
+     */
+    private static final ThreadLocal<BatchScope> BATCH = new ThreadLocal<>();
+
+    /**
+     * 已写出、等待响应的命令，按写出顺序排列
+     */
+    private final Queue<PendingCommand> inFlight = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 因流水线已满而等待写出的命令
+     */
+    private final Queue<PendingCommand> backlog = new ArrayDeque<>();
+
+    /**
+     * 保证登记顺序与写出顺序一致
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Channel channel;
+
+    private final int pipelineDepth;
+
+    // 不可写时是否快速失败，否则排队等待可写
+    private final boolean failFast;
+
+    // 已写出且尚未完成的命令数，受 lock 保护
+    private int outstanding;
+
+    // 暂停 flush 的嵌套层数，受 lock 保护
+    private int corked;
+
+    private PendingResponses(Channel channel, int pipelineDepth, boolean failFast) {
+        this.channel = channel;
+        this.pipelineDepth = Math.max(1, pipelineDepth);
+        this.failFast = failFast;
+    }
+
+    /**
+     * 获取通道对应的在途命令队列，不存在时按配置的流水线深度创建
+     * @param channel Netty通道
+     * @return 在途命令队列
+     */
+    public static PendingResponses of(Channel channel) {
+        Attribute<PendingResponses> attr = channel.attr(KEY);
+        PendingResponses pending = attr.get();
+        if (pending == null) {
+            int depth = ConfigManager.getInstance().getCommunicationConfig().getPipelineDepth();
+            boolean failFast = "fail".equalsIgnoreCase(ConfigManager.getInstance().getPerformanceConfig().getBackpressurePolicy());
+            PendingResponses created = new PendingResponses(channel, depth, failFast);
+            pending = attr.setIfAbsent(created);
+            if (pending == null) {
+                pending = created;
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * 提交一条命令。登记与写出在同一把锁内完成，确保队列顺序与线路上的顺序一致；
+     * 流水线已满时命令进入本地积压队列，由先前命令完成时补写。
+     * 超时由全局 {@link CommandTimer} 负责，超时后 future 以 TimeoutException 失败
+     * @param writer 写出命令的动作，只调用 write，不要 flush
+     * @param timeoutMillis 超时时间（毫秒），从提交时开始计算
+     * @param desc 命令描述
+     * @return 收到响应时完成的 future
+     */
+    public CompletableFuture<byte[]> submit(Supplier<ChannelFuture> writer, long timeoutMillis, String desc) {
+        return submit(writer, timeoutMillis, desc, null);
+    }
+
+    /**
+     * 提交一条响应以流式方式接收的命令
+     * 响应包体由解码器按分片写入接收器，完成时 future 以空数组完成；接收器写入失败时 future 以该异常失败
+     * @param writer 写出命令的动作，只调用 write，不要 flush
+     * @param timeoutMillis 超时时间（毫秒），从提交时开始计算
+     * @param desc 命令描述
+     * @param sink 响应接收器，为null时按普通命令聚合响应
+     * @return 响应接收完毕时完成的 future
+     */
+    public CompletableFuture<byte[]> submit(Supplier<ChannelFuture> writer, long timeoutMillis, String desc, ResponseSink sink) {
+        PendingCommand command = new PendingCommand(writer, new CompletableFuture<>(), sink, desc);
+        if (!channel.isActive()) {
+            command.future.completeExceptionally(new CommandException("连接已断开"));
+            return command.future;
+        }
+        if (failFast && !channel.isWritable()) {
+            command.future.completeExceptionally(new BackpressureException(desc));
+            return command.future;
+        }
+        CommandTimer.getInstance().withTimeout(command.future, timeoutMillis, desc);
+        lock.lock();
+        try {
+            // 批量内的命令不受流水线深度限制，保证整批一次写出；其他线程的命令仍受限制
+            if ((outstanding < pipelineDepth || isBatching()) && backlog.isEmpty() && channel.isWritable()) {
+                writeLocked(command);
+                flushLocked();
+            } else {
+                backlog.offer(command);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return command.future;
+    }
+
+    /**
+     * 暂停 flush，之后提交的命令只写入出站缓冲区，直到对应的 {@link #uncork()} 时一次性写出
+     * 暂停期间当前线程提交的命令视为同一批，不受流水线深度限制（积压队列非空或连接不可写时仍进入积压队列），
+     * 其他线程或其他机器人实例同时提交的命令仍受限制；
+     * 可嵌套调用，必须在同一线程上与 uncork 成对使用
+     */
+    public void cork() {
+        lock.lock();
+        try {
+            corked++;
+        } finally {
+            lock.unlock();
+        }
+        BatchScope scope = BATCH.get();
+        if (scope == null) {
+            BATCH.set(new BatchScope(this));
+        } else if (scope.pending == this) {
+            scope.depth++;
+        }
+    }
+
+    /**
+     * 恢复 flush，最外层调用时将暂存的命令一次性写出
+     */
+    public void uncork() {
+        BatchScope scope = BATCH.get();
+        if (scope != null && scope.pending == this && --scope.depth == 0) {
+            BATCH.remove();
+        }
+        lock.lock();
+        try {
+            if (corked > 0 && --corked == 0) {
+                channel.flush();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 使用收到的响应完成队首命令
+     * @param data 响应数据
+     * @return 队首命令仍在等待并成功完成时返回true；队首已超时或队列为空返回false
+     */
+    public boolean complete(byte[] data) {
+        PendingCommand command = inFlight.poll();
+        return command != null && command.future.complete(data);
+    }
+
+    /**
+     * 以异常结束队首命令，例如流式接收器写入失败
+     * @param cause 失败原因
+     * @return 队首命令仍在等待并成功置为失败时返回true
+     */
+    public boolean fail(Throwable cause) {
+        PendingCommand command = inFlight.poll();
+        return command != null && command.future.completeExceptionally(cause);
+    }
+
+    /**
+     * 连接可写状态变化时调用，恢复可写后补写积压的命令
+     */
+    public void writabilityChanged() {
+        if (channel.isWritable()) {
+            release(false);
+        }
+    }
+
+    /**
+     * 以异常结束所有在途和排队中的命令，用于连接断开或被驱逐时
+     * @param cause 失败原因
+     * @return 被置为失败的命令数
+     */
+    public int failAll(Throwable cause) {
+        lock.lock();
+        try {
+            int failed = 0;
+            PendingCommand command;
+            // 先清空积压队列，避免释放空位时把它们写到已断开的连接上
+            while ((command = backlog.poll()) != null) {
+                if (command.future.completeExceptionally(cause)) {
+                    failed++;
+                }
+            }
+            while ((command = inFlight.poll()) != null) {
+                if (command.future.completeExceptionally(cause)) {
+                    failed++;
+                }
+            }
+            return failed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 获取队首命令登记的流式接收器，供解码器在读到协议头时决定是否流式接收
+     * @return 接收器，队首为普通命令或队列为空时返回null
+     */
+    public ResponseSink headSink() {
+        PendingCommand command = inFlight.peek();
+        return command != null ? command.sink : null;
+    }
+
+    /**
+     * 队首命令是否仍在等待响应（未超时、未取消）
+     * @return 仍在等待返回true
+     */
+    public boolean isHeadWaiting() {
+        PendingCommand command = inFlight.peek();
+        return command != null && !command.future.isDone();
+    }
+
+    /**
+     * 是否有已写出的命令仍在自身超时时间内等待响应
+     * @return 有返回true
+     */
+    public boolean isAwaitingResponse() {
+        for (PendingCommand command : inFlight) {
+            if (!command.future.isDone()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取在途（已写出或排队中）的命令数
+     * @return 命令数
+     */
+    public int getInFlightCount() {
+        lock.lock();
+        try {
+            return outstanding + backlog.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 获取流水线深度
+     * @return 同时写出的最大命令数
+     */
+    public int getPipelineDepth() {
+        return pipelineDepth;
+    }
+
+    /**
+     * 写出命令，调用方必须持有 lock
+     */
+    private void writeLocked(PendingCommand command) {
+        outstanding++;
+        inFlight.offer(command);
+        command.future.whenComplete((result, error) -> {
+            // 响应、写出失败和 failAll 都会先把命令移出队列；仍在队列中说明是超时或取消，留待迟到的响应弹出
+            if (error != null) {
+                command.stale = true;
+                if (error instanceof TimeoutException && hasStaleBefore(command)) {
+                    lostSync(command);
+                }
+            }
+            release(true);
+        });
+        command.writer.get().addListener(f -> {
+            if (!f.isSuccess()) {
+                // 写出失败的命令不会有响应，移出队列以免后续响应错位
+                inFlight.remove(command);
+                command.future.completeExceptionally(new CommandException("命令写出失败", f.cause()));
+            }
+        });
+    }
+
+    /**
+     * 队列中排在指定命令之前是否有超时或取消后仍未收到响应的命令
+     */
+    private boolean hasStaleBefore(PendingCommand command) {
+        for (PendingCommand queued : inFlight) {
+            if (queued == command) {
+                return false;
+            }
+            if (queued.stale) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 排在未响应命令之后的命令也超时，失败所有命令并关闭连接
+     */
+    private void lostSync(PendingCommand command) {
+        int failed = failAll(new CommandException("命令未收到响应，连接失去同步: " + command.desc));
+        log.warn("命令未收到响应，连接失去同步，关闭连接: {} {}，同时失败{}条命令", channel, command.desc, failed);
+        channel.close();
+    }
+
+    /**
+     * 当前线程是否正在该连接上批量提交
+     */
+    private boolean isBatching() {
+        BatchScope scope = BATCH.get();
+        return scope != null && scope.pending == this;
+    }
+
+    /**
+     * 未暂停时 flush，调用方必须持有 lock
+     */
+    private void flushLocked() {
+        if (corked == 0) {
+            channel.flush();
+        }
+    }
+
+    /**
+     * 命令完成（响应、超时或取消）后释放流水线空位，并在连接可写时补写积压的命令
+     */
+    private void release(boolean completed) {
+        lock.lock();
+        try {
+            if (completed) {
+                outstanding--;
+            }
+            boolean written = false;
+            while (outstanding < pipelineDepth && !backlog.isEmpty() && channel.isWritable()) {
+                PendingCommand next = backlog.poll();
+                if (!next.future.isDone()) {
+                    writeLocked(next);
+                    written = true;
+                }
+            }
+            if (written) {
+                flushLocked();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 待写出的命令
+     */
+    private static final class PendingCommand {
+        private final Supplier<ChannelFuture> writer;
+        private final CompletableFuture<byte[]> future;
+        private final ResponseSink sink;
+        private final String desc;
+        // 超时或取消后仍在等待迟到的响应
+        private volatile boolean stale;
+
+        private PendingCommand(Supplier<ChannelFuture> writer, CompletableFuture<byte[]> future, ResponseSink sink, String desc) {
+            this.writer = writer;
+            this.future = future;
+            this.sink = sink;
+            this.desc = desc;
+        }
+    }
+
+    /**
+     * 线程的批量提交范围
+     */
+    private static final class BatchScope {
+        private final PendingResponses pending;
+        private int depth = 1;
+
+        private BatchScope(PendingResponses pending) {
+            this.pending = pending;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package net.aibote.sdk.channel;
+
+import net.aibote.sdk.dto.Point;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * driver 响应视图
+ * 直接在收到的字节上判断 "true"/"null"、解析整数和 "x|y" 坐标，不生成中间字符串；
+ * 只有 {@link #asUtf8()} 会按 UTF-8 解码出字符串。
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+public final class Reply {
+
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+
+    private final byte[] bytes;
+
+    private Reply(byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    /**
+     * 包装响应字节，不复制
+     * @param bytes 响应字节，可以为null
+     * @return 响应视图
+     */
+    public static Reply of(byte[] bytes) {
+        return new Reply(bytes);
+    }
+
+    /**
+     * 获取原始响应字节
+     * @return 响应字节，可能为null
+     */
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    /**
+     * 响应是否为 "true"
+     * @return 是返回true，无响应或其他内容返回false
+     */
+    public boolean isTrue() {
+        return matches(TRUE);
+    }
+
+    /**
+     * 响应是否为空：无响应或 driver 返回 "null"
+     * @return 为空返回true
+     */
+    public boolean isNull() {
+        return bytes == null || matches(NULL);
+    }
+
+    /**
+     * 按十进制整数解析响应
+     * @param defaultValue 为空或不是整数时的返回值
+     * @return 整数值
+     */
+    public int asInt(int defaultValue) {
+        if (bytes == null) {
+            return defaultValue;
+        }
+        long value = parseInt(0, bytes.length);
+        return value == Long.MIN_VALUE ? defaultValue : (int) value;
+    }
+
+    /**
+     * 按 UTF-8 解码响应
+     * @return 字符串，为空时返回null
+     */
+    public String asUtf8() {
+        return isNull() ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 解析 "x|y" 格式的坐标响应
+     * @return 坐标，为空或格式不对时返回null
+     */
+    public Point asPointPair() {
+        if (bytes == null) {
+            return null;
+        }
+        int sep = indexOf((byte) '|');
+        if (sep < 0) {
+            return null;
+        }
+        long x = parseInt(0, sep);
+        long y = parseInt(sep + 1, bytes.length);
+        if (x == Long.MIN_VALUE || y == Long.MIN_VALUE) {
+            return null;
+        }
+        return new Point((int) x, (int) y);
+    }
+
+    private boolean matches(byte[] expected) {
+        if (bytes == null || bytes.length != expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (bytes[i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int indexOf(byte b) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 解析 [from, to) 区间内的十进制整数，允许前导负号
+     * @return 整数值，格式不对或越界时返回 Long.MIN_VALUE
+     */
+    private long parseInt(int from, int to) {
+        boolean negative = from < to && bytes[from] == '-';
+        int i = negative ? from + 1 : from;
+        if (i >= to) {
+            return Long.MIN_VALUE;
+        }
+        long value = 0;
+        for (; i < to; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return Long.MIN_VALUE;
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                return Long.MIN_VALUE;
+            }
+        }
+        value = negative ? -value : value;
+        return value > Integer.MAX_VALUE ? Long.MIN_VALUE : value;
+    }
+}
@@ -0,0 +1,49 @@
+package net.aibote.sdk.channel;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.function.Consumer;
+
+/**
+ * 大响应流式接收器
+ * 登记了接收器的命令，其响应包体由解码器按到达的分片直接写入接收器，不在内存中聚合，
+ * 单个设备的堆内存占用与文件大小无关。
+ * 接收器在 Netty IO 线程上被调用，写入应尽量快速；传入的 ByteBuffer 仅在调用期间有效。
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+@FunctionalInterface
+public interface ResponseSink {
+
+    /**
+     * 写入一个响应分片
+     * @param chunk 分片数据，仅在调用期间有效
+     * @throws IOException 写入失败，命令将以该异常失败，剩余数据被丢弃
+     */
+    void write(ByteBuffer chunk) throws IOException;
+
+    /**
+     * 写入到文件或其他可写通道
+     * @param channel 目标通道，由调用方负责关闭
+     * @return 接收器
+     */
+    static ResponseSink of(WritableByteChannel channel) {
+        return chunk -> {
+            while (chunk.hasRemaining()) {
+                channel.write(chunk);
+            }
+        };
+    }
+
+    /**
+     * 交给回调处理
+     * @param consumer 分片回调
+     * @return 接收器
+     */
+    static ResponseSink of(Consumer<ByteBuffer> consumer) {
+        return consumer::accept;
+    }
+}
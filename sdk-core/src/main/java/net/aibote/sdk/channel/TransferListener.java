@@ -0,0 +1,20 @@
+package net.aibote.sdk.channel;
+
+/**
+ * 文件传输进度回调
+ * 在 Netty IO 线程上被调用，回调中不要执行耗时操作
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+@FunctionalInterface
+public interface TransferListener {
+
+    /**
+     * 传输进度更新
+     * @param transferred 已写出的字节数
+     * @param total 文件总字节数
+     */
+    void onProgress(long transferred, long total);
+}
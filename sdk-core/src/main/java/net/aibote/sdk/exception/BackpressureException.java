@@ -0,0 +1,25 @@
+package net.aibote.sdk.exception;
+
+/**
+ * 背压异常
+ *
+ * 连接出站缓冲区已超过高水位（设备接收过慢）且配置为快速失败时抛出
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+public class BackpressureException extends AiboteException {
+
+    public static final int ERROR_CODE = 1003;
+    public static final String ERROR_MESSAGE = "连接出站缓冲区已满";
+
+    /**
+     * 创建背压异常
+     *
+     * @param message 具体错误描述
+     */
+    public BackpressureException(String message) {
+        super(ERROR_CODE, ERROR_MESSAGE + ": " + message);
+    }
+}
@@ -0,0 +1,25 @@
+package net.aibote.sdk.exception;
+
+/**
+ * 任务拒绝异常
+ *
+ * 派发队列已满，按拒绝策略拒绝新任务或丢弃排队中的任务时抛出
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+public class TaskRejectedException extends AiboteException {
+
+    public static final int ERROR_CODE = 1004;
+    public static final String ERROR_MESSAGE = "任务派发队列已满";
+
+    /**
+     * 创建任务拒绝异常
+     *
+     * @param message 具体错误描述
+     */
+    public TaskRejectedException(String message) {
+        super(ERROR_CODE, ERROR_MESSAGE + ": " + message);
+    }
+}
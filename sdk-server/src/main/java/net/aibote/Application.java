@@ -1,11 +1,16 @@
 package net.aibote;
 
 import lombok.extern.slf4j.Slf4j;
+import net.aibote.server.GracefulShutdown;
 import net.aibote.server.impl.AndroidServer;
 import net.aibote.server.impl.WebServer;
+import net.aibote.server.impl.UnifiedServer;
 import net.aibote.server.impl.WinServer;
 import net.aibote.task.TaskEngine;
 import net.aibote.task.impl.NotepadAutomationTask;
+import net.aibote.utils.config.ConfigManager;
+
+import java.util.List;
 
 /**
  * Aibote4J 应用启动类
@@ -79,13 +84,15 @@ public class Application {
             log.info("接收到关闭信号，开始优雅关闭...");
             
             try {
-                // 关闭客户端管理器
-                net.aibote.handler.ClientManager.getInstance().shutdown();
-                log.info("客户端管理器已关闭");
-                
-                // 等待一段时间让剩余请求处理完成
-                Thread.sleep(2000);
-                
+                long timeout = ConfigManager.getInstance().getCommunicationConfig().getShutdownTimeout();
+                GracefulShutdown.ShutdownReport report = new GracefulShutdown(List.of(
+                        AndroidServer.getInstance(), WebServer.getInstance(),
+                        WinServer.getInstance(), UnifiedServer.getInstance()), timeout).run();
+                if (report.isClean()) {
+                    log.info("关闭完成，耗时{}毫秒，无未完成工作", report.getElapsedMillis());
+                } else {
+                    log.warn("关闭完成，截止时仍未完成：{}", report);
+                }
             } catch (Exception e) {
                 log.error("关闭过程中出现异常", e);
             }
@@ -109,6 +116,12 @@ public class Application {
         // 启动Windows服务端
         startServer("Windows", WinServer.getInstance(), 16999);
         
+        // 启动统一端口服务端（可选）
+        int unifiedPort = ConfigManager.getInstance().getCommunicationConfig().getUnifiedPort();
+        if (unifiedPort > 0) {
+            startServer("Unified", UnifiedServer.getInstance(), unifiedPort);
+        }
+        
         log.info("所有服务端启动完成");
     }
     
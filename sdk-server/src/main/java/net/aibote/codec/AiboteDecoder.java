@@ -3,15 +3,74 @@ package net.aibote.codec;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.CorruptedFrameException;
+import io.netty.handler.codec.TooLongFrameException;
+import io.netty.util.ByteProcessor;
+import net.aibote.sdk.channel.PendingResponses;
+import net.aibote.sdk.channel.ResponseSink;
 
-import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 
 public class AiboteDecoder extends ByteToMessageDecoder {
+
+    /**
+     * 协议头最大长度：10位十进制长度 + '/'
+     */
+    private static final int MAX_HEADER_LENGTH = 11;
+
+    /**
+     * 默认单帧最大长度（64M），保护服务器内存
+     */
+    public static final int DEFAULT_MAX_FRAME_LENGTH = 64 * 1024 * 1024;
+
+    private final int maxFrameLength;
+
+    private static final byte[] EMPTY_BYTES = new byte[0];
+
+    private final LengthParser lengthParser = new LengthParser();
+
+    /**
+     * 当前帧的包体长度，-1 表示尚未读到协议头
+     */
+    private int frameLength = -1;
+
+    /**
+     * 当前帧的流式接收器，null 表示按普通帧聚合
+     */
+    private ResponseSink sink;
+
+    /**
+     * 流式帧尚未接收的字节数
+     */
+    private int streamRemaining;
+
+    /**
+     * 流式接收过程中接收器抛出的异常
+     */
+    private Throwable sinkError;
+
+    /**
+     * 帧已损坏，后续数据无法再对齐，全部丢弃直到连接关闭
+     */
+    private boolean corrupted;
+
+    public AiboteDecoder() {
+        this(DEFAULT_MAX_FRAME_LENGTH);
+    }
+
+    public AiboteDecoder(int maxFrameLength) {
+        this.maxFrameLength = maxFrameLength;
+        // 大帧分多次到达时以组合方式累积，避免扩容时反复复制
+        setCumulator(COMPOSITE_CUMULATOR);
+    }
+
     /**
      * 服务端收到客户端发来的协议内容，进行解码
-     * 只要不out.add ， 本次通讯累计的字节都会累加到in中。
-     * 另外使用getBytes获取，如果是readBytes，则会增量获取数据。 get不会移动指针
+     * 协议格式: len/data。先从 readerIndex 处扫描长度头，头部不完整时等待更多数据；
+     * 读到头部后记住包体长度，包体到齐后以 retained slice 传递给 handler，不复制数据。
+     * 队首命令登记了 {@link ResponseSink} 时，包体分片到达即写入接收器，不等待整帧。
+     * 协议头非法或包体超长时丢弃已累积的数据并抛出异常，由连接上的 exceptionCaught 让未完成命令失败并关闭连接。
      *
      * @param ctx the {@link ChannelHandlerContext} which this {@link ByteToMessageDecoder} belongs to
      * @param in  the {@link ByteBuf} from which to read data
@@ -19,31 +78,125 @@ public class AiboteDecoder extends ByteToMessageDecoder {
      */
     @Override
     protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+        if (corrupted) {
+            in.skipBytes(in.readableBytes());
+            return;
+        }
+        if (frameLength < 0) {
+            if (!readHeader(ctx, in)) {
+                return;
+            }
+            if (sink != null) {
+                streamRemaining = frameLength;
+            }
+        }
+        if (sink != null) {
+            stream(ctx, in);
+            return;
+        }
+        if (in.readableBytes() < frameLength) {
+            return;
+        }
+        out.add(in.readRetainedSlice(frameLength));
+        frameLength = -1;
+    }
+
+    /**
+     * 流式帧：已到达的包体分片直接交给接收器并从累积缓冲区中丢弃，包体接收完毕后直接完成队首命令
+     */
+    private void stream(ChannelHandlerContext ctx, ByteBuf in) {
+        PendingResponses pending = PendingResponses.of(ctx.channel());
+        int length = Math.min(in.readableBytes(), streamRemaining);
+        // 命令已超时或取消时不再写入接收器，只消费剩余数据保持帧对齐
+        if (length > 0 && sinkError == null && pending.isHeadWaiting()) {
+            try {
+                for (ByteBuffer chunk : in.nioBuffers(in.readerIndex(), length)) {
+                    sink.write(chunk);
+                }
+            } catch (Throwable e) {
+                sinkError = e;
+            }
+        }
+        in.skipBytes(length);
+        streamRemaining -= length;
+        if (streamRemaining == 0) {
+            if (sinkError != null) {
+                pending.fail(sinkError);
+            } else {
+                pending.complete(EMPTY_BYTES);
+            }
+            sink = null;
+            sinkError = null;
+            frameLength = -1;
+        }
+    }
 
-        int maxLen = in.readableBytes();//获取本次缓冲区总长度
-
-        /*
-        先读取7个字节。 为了保护服务器，传输内容最大不能超过9999999个字节包(约10M)
-         */
-        byte[] resultByte = new byte[7];
-        in.getBytes(0, resultByte); //get不会移动指针
-        int size = resultByte.length;
-        int delimiterIndex = -1;
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        for (int i = 0; i < size; i++) {
-            if (resultByte[i] == 47) //寻找协议头
-            {
-                delimiterIndex = i + 1;
-                break;
+    /**
+     * 读取协议头，并根据队首命令是否登记了流式接收器决定本帧的接收方式
+     * @return 协议头完整时返回true，并跳过协议头
+     */
+    private boolean readHeader(ChannelHandlerContext ctx, ByteBuf in) {
+        int readerIndex = in.readerIndex();
+        int scanLength = Math.min(in.readableBytes(), MAX_HEADER_LENGTH);
+        lengthParser.reset();
+        int delimiterIndex = in.forEachByte(readerIndex, scanLength, lengthParser);
+        if (lengthParser.invalid) {
+            throw corrupt(in, new CorruptedFrameException("协议头包含非法字符"));
+        }
+        if (delimiterIndex < 0) {
+            if (scanLength >= MAX_HEADER_LENGTH) {
+                throw corrupt(in, new CorruptedFrameException("协议头过长"));
+            }
+            return false; // 协议头不完整，等待更多数据
+        }
+        if (delimiterIndex == readerIndex) {
+            throw corrupt(in, new CorruptedFrameException("协议头缺少包体长度"));
+        }
+        sink = PendingResponses.of(ctx.channel()).headSink();
+        // 流式帧不在内存中聚合，只受 int 长度限制
+        long limit = sink != null ? Integer.MAX_VALUE : maxFrameLength;
+        if (lengthParser.value > limit) {
+            sink = null;
+            throw corrupt(in, new TooLongFrameException("包体长度超过上限: " + lengthParser.value));
+        }
+        in.skipBytes(delimiterIndex - readerIndex + 1);
+        frameLength = (int) lengthParser.value;
+        return true;
+    }
+
+    /**
+     * 帧损坏：丢弃已累积的数据，之后到达的数据也不再解码
+     * @return 传入的异常，便于直接抛出
+     */
+    private <E extends RuntimeException> E corrupt(ByteBuf in, E cause) {
+        corrupted = true;
+        in.skipBytes(in.readableBytes());
+        return cause;
+    }
+
+    /**
+     * 逐字节解析十进制长度，遇到 '/' 停止
+     */
+    private static final class LengthParser implements ByteProcessor {
+        private long value;
+        private boolean invalid;
+
+        void reset() {
+            value = 0;
+            invalid = false;
+        }
+
+        @Override
+        public boolean process(byte b) {
+            if (b == '/') {
+                return false;
+            }
+            if (b < '0' || b > '9') {
+                invalid = true;
+                return false;
             }
-            baos.write(resultByte[i]);
-        }
-        int packLen = Integer.valueOf(new String(baos.toByteArray())); //找到包体的长度
-        if (maxLen >= packLen + delimiterIndex) {
-            in.skipBytes(delimiterIndex);//跳过包头
-            resultByte = new byte[packLen];//重新分配读取的缓冲区，传递到handle
-            in.readBytes(resultByte);//读取数据。并移动in的指针
-            out.add(resultByte);
+            value = value * 10 + (b - '0');
+            return true;
         }
     }
 }
@@ -1,21 +1,28 @@
 package net.aibote.codec;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageEncoder;
+import net.aibote.sdk.channel.CommandFrame;
 
-import java.nio.CharBuffer;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 
-public class AiboteEncoder extends MessageToMessageEncoder<String[]> {
+public class AiboteEncoder extends MessageToMessageEncoder<Object> {
 
-    private final Charset charset = StandardCharsets.UTF_8;
+    @Override
+    public boolean acceptOutboundMessage(Object msg) {
+        return msg instanceof String[] || msg instanceof CommandFrame;
+    }
 
     /**
      * 服务端编码。 协议发送到客户端前，对发送数据进行编码处理
+     * 数据格式: len/len/len\ndata，len 为参数 UTF-8 编码后的字节数
+     * 先计算各参数的 UTF-8 长度，再一次性分配精确大小的池化缓冲区，将协议头和参数直接写入，
+     * 每个参数只编码一次，不产生中间字符串
      *
      * @param ctx     the {@link ChannelHandlerContext} which this {@link MessageToMessageEncoder} belongs to
      * @param message the message to encode to an other one
@@ -23,17 +30,109 @@ public class AiboteEncoder extends MessageToMessageEncoder<String[]> {
      *                needs to do some kind of aggregation
      */
     @Override
-    protected void encode(ChannelHandlerContext ctx, String[] message, List<Object> out) {
-        StringBuilder strData = new StringBuilder();
-        StringBuilder tempStr = new StringBuilder();
-        for (String msg : message) {
-            tempStr.append(msg);
-            strData.append(msg.getBytes().length);//获取包含中文实际长度
-            strData.append('/');
+    protected void encode(ChannelHandlerContext ctx, Object message, List<Object> out) {
+        Object[] args = message instanceof CommandFrame ? ((CommandFrame) message).getArgs() : (String[]) message;
+        long trailingLength = message instanceof CommandFrame ? ((CommandFrame) message).getTrailingLength() : -1;
+        int[] lengths = new int[args.length];
+        int headerLen = 1; // 结尾的 '\n'
+        if (trailingLength >= 0) {
+            headerLen += decimalDigits(trailingLength) + 1;
+        }
+        int textLen = 0;
+        boolean binary = false;
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            int len;
+            if (arg instanceof byte[]) {
+                len = ((byte[]) arg).length;
+                binary = true;
+            } else {
+                len = arg == null ? 0 : ByteBufUtil.utf8Bytes((String) arg);//获取包含中文实际长度
+                textLen += len;
+            }
+            lengths[i] = len;
+            headerLen += decimalDigits(len) + 1;
+        }
+
+        ByteBuf buf = ctx.alloc().buffer(headerLen + textLen);
+        try {
+            for (int len : lengths) {
+                writeDecimal(buf, len);
+                buf.writeByte('/');
+            }
+            // 随后单独写出的二进制参数（如 FileRegion）只在协议头中声明长度
+            if (trailingLength >= 0) {
+                writeDecimal(buf, trailingLength);
+                buf.writeByte('/');
+            }
+            buf.writeByte('\n');
+            if (!binary) {
+                for (int i = 0; i < args.length; i++) {
+                    if (lengths[i] > 0) {
+                        ByteBufUtil.reserveAndWriteUtf8(buf, (String) args[i], lengths[i]);
+                    }
+                }
+                out.add(buf);
+            } else {
+                out.add(composeBinary(ctx, buf, args, lengths));
+            }
+            buf = null;
+        } finally {
+            if (buf != null) {
+                buf.release();
+            }
+        }
+    }
+
+    /**
+     * 含二进制参数时，文本部分仍写入同一个池化缓冲区，按参数顺序切片后与包装的二进制数据组合，
+     * 二进制内容不发生复制
+     */
+    private CompositeByteBuf composeBinary(ChannelHandlerContext ctx, ByteBuf text, Object[] args, int[] lengths) {
+        CompositeByteBuf composite = ctx.alloc().compositeBuffer(args.length + 1);
+        int segmentStart = 0;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i] instanceof byte[]) {
+                int segmentEnd = text.writerIndex();
+                if (segmentEnd > segmentStart) {
+                    composite.addComponent(true, text.retainedSlice(segmentStart, segmentEnd - segmentStart));
+                }
+                composite.addComponent(true, Unpooled.wrappedBuffer((byte[]) args[i]));
+                segmentStart = segmentEnd;
+            } else if (lengths[i] > 0) {
+                ByteBufUtil.reserveAndWriteUtf8(text, (String) args[i], lengths[i]);
+            }
         }
+        if (text.writerIndex() > segmentStart) {
+            composite.addComponent(true, text.retainedSlice(segmentStart, text.writerIndex() - segmentStart));
+        }
+        text.release();
+        return composite;
+    }
+
+    /**
+     * 计算非负整数的十进制位数
+     */
+    static int decimalDigits(long value) {
+        int digits = 1;
+        while (value >= 10) {
+            value /= 10;
+            digits++;
+        }
+        return digits;
+    }
 
-        strData.append('\n');
-        strData.append(tempStr);
-        out.add(ByteBufUtil.encodeString(ctx.alloc(), CharBuffer.wrap(strData.toString()), this.charset));
+    /**
+     * 以 ASCII 十进制写入非负整数，不创建中间字符串
+     */
+    static void writeDecimal(ByteBuf buf, long value) {
+        int digits = decimalDigits(value);
+        int index = buf.writerIndex();
+        buf.ensureWritable(digits);
+        for (int i = digits - 1; i >= 0; i--) {
+            buf.setByte(index + i, (int) ('0' + value % 10));
+            value /= 10;
+        }
+        buf.writerIndex(index + digits);
     }
 }
@@ -4,6 +4,11 @@ import io.netty.channel.ChannelHandlerContext;
 import lombok.Getter;
 import lombok.Setter;
 import net.aibote.sdk.AbstractPlatformBot;
+import net.aibote.sdk.channel.PendingResponses;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Aibote通道封装类
@@ -15,6 +20,10 @@ import net.aibote.sdk.AbstractPlatformBot;
  */
 public class AiboteChannel {
 
+    private static final int IDLE = 0;
+    private static final int LEASED = 1;
+    private static final int CLOSED = 2;
+
     /**
      * Netty通道上下文
      */
@@ -26,6 +35,27 @@ public class AiboteChannel {
     @Getter
     private AbstractPlatformBot aibote;
 
+    /**
+     * 租借状态：空闲、已租出、已关闭，由 {@link ClientManager} 通过 CAS 切换
+     */
+    private final AtomicInteger state = new AtomicInteger(IDLE);
+
+    /**
+     * 累计租出次数，用于统计
+     */
+    private final AtomicLong leaseCount = new AtomicLong();
+
+    /**
+     * 设备属性，会话开始时查询一次
+     */
+    @Getter
+    private volatile DeviceProfile profile;
+
+    /**
+     * 当前在空闲索引中的条目，租出后为null
+     */
+    final AtomicReference<ClientManager.IdleEntry> idleEntry = new AtomicReference<>();
+
     /**
      * 构造函数
      * @param aiboteChanel Netty通道上下文
@@ -34,6 +64,84 @@ public class AiboteChannel {
         this.aiboteChanel = aiboteChanel;
     }
 
+    /**
+     * 获取该连接的在途命令队列
+     * @return 在途命令队列
+     */
+    public PendingResponses getPendingResponses() {
+        return PendingResponses.of(this.aiboteChanel.channel());
+    }
+
+    /**
+     * 获取该连接的出站流量统计
+     * @return 出站流量统计
+     */
+    public OutboundTrafficHandler.OutboundStats getOutboundStats() {
+        return OutboundTrafficHandler.stats(this.aiboteChanel.channel());
+    }
+
+    /**
+     * 获取通道ID
+     * @return 通道ID
+     */
+    public String getId() {
+        return this.aiboteChanel.channel().id().asLongText();
+    }
+
+    /**
+     * 是否已租出
+     * @return 已租出返回true
+     */
+    public boolean isLeased() {
+        return state.get() == LEASED;
+    }
+
+    /**
+     * 是否已关闭（连接断开或被移除）
+     * @return 已关闭返回true
+     */
+    public boolean isClosed() {
+        return state.get() == CLOSED;
+    }
+
+    /**
+     * 获取累计租出次数
+     * @return 租出次数
+     */
+    public long getLeaseCount() {
+        return leaseCount.get();
+    }
+
+    void setProfile(DeviceProfile profile) {
+        this.profile = profile;
+    }
+
+    void incrementLeaseCount() {
+        leaseCount.incrementAndGet();
+    }
+
+    /**
+     * 空闲 → 已租出
+     */
+    boolean tryLease() {
+        return state.compareAndSet(IDLE, LEASED);
+    }
+
+    /**
+     * 已租出 → 空闲，已关闭时返回false
+     */
+    boolean release() {
+        return state.compareAndSet(LEASED, IDLE);
+    }
+
+    /**
+     * 标记为已关闭
+     * @return 关闭前是否空闲
+     */
+    boolean markClosed() {
+        return state.getAndSet(CLOSED) == IDLE;
+    }
+
     /**
      * 设置关联的机器人实例
      * @param aibote 机器人实例
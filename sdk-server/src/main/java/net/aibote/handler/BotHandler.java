@@ -1,17 +1,22 @@
 package net.aibote.handler;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import lombok.extern.slf4j.Slf4j;
+import net.aibote.sdk.channel.PendingResponses;
 import net.aibote.sdk.factory.BotFactory;
+import net.aibote.task.SessionExecutor;
 import net.aibote.task.TaskEngine;
+import net.aibote.utils.config.ConfigManager;
 
 import java.nio.charset.StandardCharsets;
 
 //服务端代码
 //服务端处理handler
 @Slf4j
-public abstract class BotHandler extends SimpleChannelInboundHandler<byte[]> {
+public abstract class BotHandler extends SimpleChannelInboundHandler<ByteBuf> {
     private ClientManager clientManager;
 
     public BotHandler() {
@@ -21,11 +26,11 @@ public abstract class BotHandler extends SimpleChannelInboundHandler<byte[]> {
     public abstract ClientManager getClientManager();
 
     @Override
-    public void channelRead0(ChannelHandlerContext ctx, byte[] msg) {
-        String channelId = ctx.channel().id().asLongText();
-        AiboteChannel aiboteChannel = clientManager.get(channelId);
-        aiboteChannel.getAibote().setRetBuffer(msg);
-        System.out.println("收到信息："+new String(msg, StandardCharsets.UTF_8));
+    public void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
+        // 直接唤醒该通道上等待响应的命令
+        if (!PendingResponses.of(ctx.channel()).complete(ByteBufUtil.getBytes(msg))) {
+            log.debug("收到未匹配的响应，已丢弃：{}", msg.toString(StandardCharsets.UTF_8));
+        }
     }
 
     /**
@@ -58,33 +63,39 @@ public abstract class BotHandler extends SimpleChannelInboundHandler<byte[]> {
             // 即使创建失败也要添加到客户端管理器中
         }
         
+        aiboteChannel.setProfile(DeviceProfile.of(getBotType()));
+        SessionRegistry.register(ctx.channel(), aiboteChannel);
         clientManager.add(channelId, aiboteChannel);
         log.info("新的链接： " + channelId);
         
-        // 客户端连接后自动执行默认任务
-        executeDefaultTask(ctx);
+        // 客户端连接后查询设备属性并自动执行默认任务
+        startSession(ctx, aiboteChannel);
     }
 
     @Override
     public void handlerRemoved(ChannelHandlerContext ctx) {
         String channelId = ctx.channel().id().asLongText();
+        SessionExecutor.getInstance().stop(ctx.channel());
+        TaskEngine.getInstance().cancelExecutions(ctx.channel());
+        SessionRegistry.unregister(ctx.channel());
         clientManager.remove(channelId);
         log.info("链接断开：  " + channelId);
     }
     
     /**
-     * 执行默认任务
+     * 启动会话：查询并缓存设备属性，然后执行默认任务
+     * 延迟到期后在会话虚拟线程上执行，不阻塞 I/O 线程
      * @param ctx 通道上下文
+     * @param aiboteChannel 设备通道
      */
-    private void executeDefaultTask(ChannelHandlerContext ctx) {
-        try {
-            log.info("执行默认任务, 停止5秒");
-            Thread.sleep(5000);
-            BotFactory.BotType botType = getBotType();
+    private void startSession(ChannelHandlerContext ctx, AiboteChannel aiboteChannel) {
+        long delay = ConfigManager.getInstance().getCommunicationConfig().getSessionStartDelay();
+        BotFactory.BotType botType = getBotType();
+        log.info("{}毫秒后执行默认任务", delay);
+        SessionExecutor.getInstance().start(ctx.channel(), delay, () -> {
+            clientManager.updateProfile(aiboteChannel.getId(), DeviceProfile.load(botType, aiboteChannel.getAibote()));
             TaskEngine.getInstance().executeDefaultTask(ctx, botType);
-        } catch (Exception e) {
-            log.error("执行默认任务失败", e);
-        }
+        });
     }
     
     /**
@@ -0,0 +1,135 @@
+package net.aibote.handler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.ReferenceCountUtil;
+import lombok.extern.slf4j.Slf4j;
+import net.aibote.handler.impl.AndroidHandler;
+import net.aibote.handler.impl.WebHandler;
+import net.aibote.handler.impl.WinHandler;
+import net.aibote.sdk.channel.PendingResponses;
+import net.aibote.sdk.channel.Reply;
+import net.aibote.sdk.factory.BotFactory;
+import net.aibote.utils.config.ConfigManager;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 驱动类型识别处理器
+ * 统一端口上的连接先依次发送探测命令，第一个得到有效响应的类型即为驱动类型，
+ * 随后用对应的 {@link BotHandler} 替换自身，由其创建机器人并启动会话。
+ * 探测超时时关闭连接由驱动重连，而不是继续发送下一条探测：超时的探测迟到的响应会被当作下一条探测的响应，导致类型识别错误
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+@Slf4j
+public class BotTypeDetector extends ChannelInboundHandlerAdapter {
+
+    /**
+     * 探测顺序：只有对应驱动支持探测命令并返回有效内容
+     */
+    private static final BotFactory.BotType[] PROBE_TYPES = {
+            BotFactory.BotType.ANDROID, BotFactory.BotType.WEB, BotFactory.BotType.WIN
+    };
+
+    /**
+     * 获取驱动类型对应的探测命令，开销低且只有该类型的驱动支持
+     * @param botType 机器人类型
+     * @return 命令名
+     */
+    public static String probeCommand(BotFactory.BotType botType) {
+        switch (botType) {
+            case WIN:
+                return "getWindowsId";
+            case WEB:
+                return "getCurPageId";
+            case ANDROID:
+                return "getAndroidId";
+            default:
+                throw new IllegalArgumentException("不支持的机器人类型: " + botType);
+        }
+    }
+
+    @Override
+    public void channelActive(ChannelHandlerContext ctx) {
+        probe(ctx, 0);
+        ctx.fireChannelActive();
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (msg instanceof ByteBuf) {
+            ByteBuf buf = (ByteBuf) msg;
+            try {
+                if (!PendingResponses.of(ctx.channel()).complete(ByteBufUtil.getBytes(buf))) {
+                    log.debug("识别期间收到未匹配的响应，已丢弃：{}", buf.toString(StandardCharsets.UTF_8));
+                }
+            } finally {
+                ReferenceCountUtil.release(buf);
+            }
+        } else {
+            ctx.fireChannelRead(msg);
+        }
+    }
+
+    private void probe(ChannelHandlerContext ctx, int index) {
+        if (!ctx.channel().isActive()) {
+            return;
+        }
+        if (index >= PROBE_TYPES.length) {
+            log.warn("无法识别驱动类型，关闭链接：{}", ctx.channel().remoteAddress());
+            ctx.close();
+            return;
+        }
+        long timeout = ConfigManager.getInstance().getCommunicationConfig().getProbeTimeout();
+        String command = probeCommand(PROBE_TYPES[index]);
+        PendingResponses.of(ctx.channel())
+                .submit(() -> ctx.write(new String[]{command}), timeout, "探测:" + command)
+                .whenCompleteAsync((data, error) -> {
+                    if (error == null && isValid(data)) {
+                        install(ctx, PROBE_TYPES[index]);
+                        return;
+                    }
+                    if (error != null) {
+                        log.warn("驱动类型探测失败，关闭链接：{} {}", ctx.channel().remoteAddress(), error.toString());
+                        ctx.close();
+                        return;
+                    }
+                    probe(ctx, index + 1);
+                }, ctx.executor());
+    }
+
+    private static boolean isValid(byte[] data) {
+        Reply reply = Reply.of(data);
+        if (reply.isNull() || data.length == 0) {
+            return false;
+        }
+        String value = reply.asUtf8();
+        return !"false".equals(value) && !"-1".equals(value);
+    }
+
+    private void install(ChannelHandlerContext ctx, BotFactory.BotType botType) {
+        if (!ctx.channel().isActive()) {
+            return;
+        }
+        log.info("识别到{}：{}", botType.getDescription(), ctx.channel().remoteAddress());
+        ctx.pipeline().replace(this, "handler", newHandler(botType));
+    }
+
+    private static BotHandler newHandler(BotFactory.BotType botType) {
+        switch (botType) {
+            case WIN:
+                return new WinHandler();
+            case WEB:
+                return new WebHandler();
+            case ANDROID:
+                return new AndroidHandler();
+            default:
+                throw new IllegalArgumentException("不支持的机器人类型: " + botType);
+        }
+    }
+}
@@ -2,23 +2,33 @@ package net.aibote.handler;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
  * 客户端管理器
- * 负责管理所有客户端连接和分发客户端请求
- * 使用并发集合确保线程安全
+ * 负责管理所有客户端连接，并以租借/归还的方式把空闲设备分配给任务
+ * 设备状态由 {@link AiboteChannel} 上的 CAS 切换，不使用全局锁。
+ * 空闲设备按属性（平台、分组、投屏编号、分辨率、Windows ID）建立二级索引，
+ * 每个属性值对应一个按进入空闲先后排序的空闲集合，按条件租借时直接取空闲最久的设备；
+ * 等待中的租借请求同样按选择条件的索引键分组，设备空闲时只检查与其属性相关的等待者
  */
 @Slf4j
 public class ClientManager {
 
-    private static final int DEFAULT_QUEUE_CAPACITY = 200;
     private static final ClientManager INSTANCE = new ClientManager();
     
     // 添加定时清理服务
@@ -29,8 +39,14 @@ public class ClientManager {
     });
 
     private final Map<String, AiboteChannel> clients = new ConcurrentHashMap<>();
-    private final LinkedBlockingQueue<String> clientQueue = new LinkedBlockingQueue<>(DEFAULT_QUEUE_CAPACITY);
+    private final Map<String, ConcurrentSkipListSet<IdleEntry>> idleIndex = new ConcurrentHashMap<>();
+    private final Map<String, ConcurrentLinkedQueue<Waiter>> waiterIndex = new ConcurrentHashMap<>();
     private final AtomicInteger clientCount = new AtomicInteger(0);
+    private final AtomicInteger idleCount = new AtomicInteger(0);
+    private final AtomicLong idleSequence = new AtomicLong();
+    private final AtomicLong waiterSequence = new AtomicLong();
+    private volatile boolean leasingStopped;
+    private final List<Runnable> idleListeners = new CopyOnWriteArrayList<>();
 
     private ClientManager() {
         // 启动定期清理任务
@@ -54,30 +70,307 @@ public class ClientManager {
     }
 
     /**
-     * 获取可用的客户端ID
-     * @return 客户端ID，如果队列为空则返回null
+     * 立即租借一台空闲设备
+     * @return 设备租约，没有空闲设备时返回null
      */
-    public String poll() {
-        return clientQueue.poll();
+    public DeviceLease tryLease() {
+        return tryLease(DeviceSelector.any());
     }
 
     /**
-     * 尝试获取可用的客户端ID，支持超时
-     * @param timeoutMillis 超时时间（毫秒）
-     * @return 客户端ID，如果超时则返回null
+     * 立即租借一台满足条件、空闲最久的设备
+     * @param selector 选择条件
+     * @return 设备租约，没有满足条件的空闲设备时返回null
+     */
+    public DeviceLease tryLease(DeviceSelector selector) {
+        if (leasingStopped) {
+            return null;
+        }
+        AiboteChannel channel = takeIdle(selector);
+        return channel == null ? null : new DeviceLease(this, channel);
+    }
+
+    /**
+     * 按客户端ID立即租借指定设备
+     * @param keyId 客户端ID
+     * @return 设备租约，设备不存在或不空闲时返回null
+     */
+    public DeviceLease tryLease(String keyId) {
+        return tryLease(DeviceSelector.device(keyId));
+    }
+
+    /**
+     * 租借一台设备，没有空闲设备时等待归还或新设备连接
+     * @param timeoutMillis 等待超时时间（毫秒）
+     * @return 租到设备时完成的 future，超时以 TimeoutException 失败
+     */
+    public CompletableFuture<DeviceLease> leaseAsync(long timeoutMillis) {
+        return leaseAsync(DeviceSelector.any(), timeoutMillis);
+    }
+
+    /**
+     * 租借一台满足条件的设备，没有时等待归还或新设备连接
+     * @param selector 选择条件
+     * @param timeoutMillis 等待超时时间（毫秒）
+     * @return 租到设备时完成的 future，超时以 TimeoutException 失败
+     */
+    public CompletableFuture<DeviceLease> leaseAsync(DeviceSelector selector, long timeoutMillis) {
+        DeviceLease lease = tryLease(selector);
+        if (lease != null) {
+            return CompletableFuture.completedFuture(lease);
+        }
+        if (leasingStopped) {
+            return CompletableFuture.failedFuture(new IllegalStateException("设备租借已停止"));
+        }
+        Waiter waiter = new Waiter(selector, waiterSequence.incrementAndGet());
+        ConcurrentLinkedQueue<Waiter> queue = waiterIndex.computeIfAbsent(waiter.key, k -> new ConcurrentLinkedQueue<>());
+        waiter.future.orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((l, e) -> {
+                    if (e != null) {
+                        queue.remove(waiter);
+                    }
+                });
+        queue.offer(waiter);
+        // 入队后再检查一次，避免与同时归还的设备错过
+        AiboteChannel channel = takeIdle(selector);
+        if (channel != null) {
+            handOver(waiter, channel);
+        }
+        return waiter.future;
+    }
+
+    /**
+     * 租借一台设备，阻塞等待
+     * @param timeoutMillis 等待超时时间（毫秒）
+     * @return 设备租约，超时返回null
+     * @throws InterruptedException 如果线程被中断
+     */
+    public DeviceLease lease(long timeoutMillis) throws InterruptedException {
+        return lease(DeviceSelector.any(), timeoutMillis);
+    }
+
+    /**
+     * 租借一台满足条件的设备，阻塞等待
+     * @param selector 选择条件
+     * @param timeoutMillis 等待超时时间（毫秒）
+     * @return 设备租约，超时返回null
      * @throws InterruptedException 如果线程被中断
      */
-    public String pollWithTimeout(long timeoutMillis) throws InterruptedException {
-        return clientQueue.poll(timeoutMillis, java.util.concurrent.TimeUnit.MILLISECONDS);
+    public DeviceLease lease(DeviceSelector selector, long timeoutMillis) throws InterruptedException {
+        CompletableFuture<DeviceLease> future = leaseAsync(selector, timeoutMillis);
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                return null;
+            }
+            throw new IllegalStateException("租借设备失败", e.getCause());
+        } catch (InterruptedException e) {
+            // 放弃等待；若已租到则立即归还
+            if (!future.cancel(false)) {
+                future.thenAccept(DeviceLease::close);
+            }
+            throw e;
+        }
     }
 
     /**
-     * 将客户端ID加入可用队列
+     * 更新设备属性并重建该设备的索引
+     * 设备租出中时只更新属性，归还时按新属性入索引
      * @param keyId 客户端ID
-     * @return 如果添加成功返回true，队列满则返回false
+     * @param profile 设备属性
      */
-    public boolean offer(String keyId) {
-        return clientQueue.offer(keyId);
+    public void updateProfile(String keyId, DeviceProfile profile) {
+        AiboteChannel channel = clients.get(keyId);
+        if (channel == null) {
+            return;
+        }
+        channel.setProfile(profile);
+        IdleEntry entry = channel.idleEntry.get();
+        if (entry != null) {
+            List<String> keys = indexKeys(channel);
+            // 沿用原进入空闲的顺序，属性更新不改变空闲先后
+            IdleEntry reindexed = new IdleEntry(channel, entry.idleSince, idleSequence.incrementAndGet(), keys);
+            // 设备期间被租出时 CAS 失败，归还时会按新属性入索引
+            if (channel.idleEntry.compareAndSet(entry, reindexed)) {
+                for (String key : keys) {
+                    idleIndex.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>()).add(reindexed);
+                }
+                for (String key : entry.keys) {
+                    ConcurrentSkipListSet<IdleEntry> set = idleIndex.get(key);
+                    if (set != null) {
+                        set.remove(entry);
+                    }
+                }
+                drainWaiters(channel);
+                notifyIdle();
+            }
+        }
+        log.debug("设备属性已更新: {} {}", keyId, profile);
+    }
+
+    /**
+     * 归还设备，由 {@link DeviceLease#close()} 调用
+     * 已断开的设备直接丢弃；否则放回空闲索引并优先交给等待者
+     * @param channel 设备通道
+     */
+    void giveBack(AiboteChannel channel) {
+        if (!channel.release()) {
+            return;
+        }
+        makeIdle(channel);
+        drainWaiters(channel);
+        notifyIdle();
+    }
+
+    /**
+     * 注册设备空闲监听器，有设备归还、连接或属性更新后调用，用于任务派发
+     * 监听器在触发线程上同步执行，不能阻塞
+     * @param listener 监听器
+     */
+    public void addIdleListener(Runnable listener) {
+        idleListeners.add(listener);
+    }
+
+    private void notifyIdle() {
+        for (Runnable listener : idleListeners) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                log.warn("设备空闲监听器执行失败", e);
+            }
+        }
+    }
+
+    private static List<String> indexKeys(AiboteChannel channel) {
+        DeviceProfile profile = channel.getProfile();
+        List<String> keys = new ArrayList<>(profile == null ? List.of(DeviceSelector.ANY) : profile.indexKeys());
+        keys.add(DeviceSelector.DEVICE_ID + "=" + channel.getId());
+        return keys;
+    }
+
+    /**
+     * 从索引中取出一台满足条件、空闲最久的设备并标记为已租出
+     */
+    private AiboteChannel takeIdle(DeviceSelector selector) {
+        ConcurrentSkipListSet<IdleEntry> candidates = idleIndex.get(selector.indexKey());
+        if (candidates == null) {
+            return null;
+        }
+        for (IdleEntry entry : candidates) {
+            AiboteChannel channel = entry.channel;
+            if (channel.idleEntry.get() != entry) {
+                // 过期条目：设备已被租出或已重新入索引
+                candidates.remove(entry);
+                continue;
+            }
+            if (!selector.matches(channel)) {
+                continue;
+            }
+            if (channel.tryLease()) {
+                takeEntry(channel);
+                channel.incrementLeaseCount();
+                return channel;
+            }
+            if (channel.isClosed()) {
+                takeEntry(channel);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 设备加入空闲索引，排序键取进入空闲的顺序，在索引中期间不变
+     */
+    private void makeIdle(AiboteChannel channel) {
+        List<String> keys = indexKeys(channel);
+        long sequence = idleSequence.incrementAndGet();
+        IdleEntry entry = new IdleEntry(channel, sequence, sequence, keys);
+        channel.idleEntry.set(entry);
+        idleCount.incrementAndGet();
+        for (String key : keys) {
+            idleIndex.computeIfAbsent(key, k -> new ConcurrentSkipListSet<>()).add(entry);
+        }
+    }
+
+    /**
+     * 设备移出空闲索引
+     */
+    private void takeEntry(AiboteChannel channel) {
+        IdleEntry entry = channel.idleEntry.getAndSet(null);
+        if (entry == null) {
+            return;
+        }
+        idleCount.decrementAndGet();
+        for (String key : entry.keys) {
+            ConcurrentSkipListSet<IdleEntry> set = idleIndex.get(key);
+            if (set != null) {
+                set.remove(entry);
+            }
+        }
+    }
+
+    /**
+     * 把刚进入空闲的设备交给最早等待、且条件满足的等待者
+     * 只检查该设备各属性索引键下的等待队列，与其他条件的等待者数量无关
+     */
+    private void drainWaiters(AiboteChannel channel) {
+        if (leasingStopped) {
+            return;
+        }
+        IdleEntry entry = channel.idleEntry.get();
+        if (entry == null) {
+            return;
+        }
+        Waiter waiter = firstWaiter(entry.keys, channel);
+        if (waiter == null || !channel.tryLease()) {
+            return;
+        }
+        takeEntry(channel);
+        channel.incrementLeaseCount();
+        handOver(waiter, channel);
+    }
+
+    /**
+     * 在给定索引键的等待队列中找出等待最久、且条件满足的等待者，顺带清理已结束的等待者
+     */
+    private Waiter firstWaiter(List<String> keys, AiboteChannel channel) {
+        Waiter first = null;
+        for (String key : keys) {
+            ConcurrentLinkedQueue<Waiter> queue = waiterIndex.get(key);
+            if (queue == null) {
+                continue;
+            }
+            for (Waiter waiter : queue) {
+                if (waiter.future.isDone()) {
+                    queue.remove(waiter);
+                    continue;
+                }
+                if (first != null && waiter.sequence > first.sequence) {
+                    // 队列按入队顺序排列，后面的等待者不会更早
+                    break;
+                }
+                if (waiter.selector.matches(channel)) {
+                    first = waiter;
+                    break;
+                }
+            }
+        }
+        return first;
+    }
+
+    /**
+     * 把已租出的设备交给等待者；等待者已超时或取消时放回空闲索引，并转交下一个等待者
+     */
+    private void handOver(Waiter waiter, AiboteChannel channel) {
+        ConcurrentLinkedQueue<Waiter> queue = waiterIndex.get(waiter.key);
+        if (queue != null) {
+            queue.remove(waiter);
+        }
+        if (!waiter.future.complete(new DeviceLease(this, channel)) && channel.release()) {
+            makeIdle(channel);
+            drainWaiters(channel);
+        }
     }
 
     /**
@@ -90,9 +383,17 @@ public class ClientManager {
             log.warn("Cannot add null client or channel");
             return;
         }
-        clients.put(keyId, channel);
-        offer(keyId);
-        clientCount.incrementAndGet();
+        AiboteChannel previous = clients.put(keyId, channel);
+        if (previous != null && previous != channel) {
+            previous.markClosed();
+            takeEntry(previous);
+        }
+        if (previous == null) {
+            clientCount.incrementAndGet();
+        }
+        makeIdle(channel);
+        drainWaiters(channel);
+        notifyIdle();
         log.debug("Client added: {}, total clients: {}", keyId, clientCount.get());
     }
 
@@ -104,6 +405,9 @@ public class ClientManager {
         AiboteChannel removedChannel = clients.remove(keyId);
         if (removedChannel != null) {
             clientCount.decrementAndGet();
+            // 移出空闲索引；租出中的设备归还时不再放回
+            removedChannel.markClosed();
+            takeEntry(removedChannel);
             // 清理通道资源
             try {
                 if (removedChannel.aiboteChanel != null && 
@@ -139,6 +443,62 @@ public class ClientManager {
         }
     }
     
+    /**
+     * 停止租借设备，用于关闭流程：之后的租借请求立即失败或返回null，正在等待的请求以异常结束；
+     * 已租出的设备仍可正常使用和归还
+     * @return 被取消的等待请求数
+     */
+    public int stopLeasing() {
+        leasingStopped = true;
+        int cancelled = 0;
+        for (ConcurrentLinkedQueue<Waiter> queue : waiterIndex.values()) {
+            Waiter waiter;
+            while ((waiter = queue.poll()) != null) {
+                if (waiter.future.completeExceptionally(new IllegalStateException("设备租借已停止"))) {
+                    cancelled++;
+                }
+            }
+        }
+        return cancelled;
+    }
+
+    /**
+     * 获取所有客户端连接的快照
+     * @return 客户端通道列表
+     */
+    public List<AiboteChannel> getClients() {
+        return List.copyOf(clients.values());
+    }
+
+    /**
+     * 获取满足条件的所有已连接设备（含租出中的）
+     * @param selector 选择条件
+     * @return 客户端通道列表
+     */
+    public List<AiboteChannel> getClients(DeviceSelector selector) {
+        List<AiboteChannel> matched = new ArrayList<>();
+        for (AiboteChannel channel : clients.values()) {
+            if (!channel.isClosed() && selector.matches(channel)) {
+                matched.add(channel);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 获取租出中的设备数量
+     * @return 租出数量
+     */
+    public int getLeasedClientCount() {
+        int leased = 0;
+        for (AiboteChannel channel : clients.values()) {
+            if (channel.isLeased()) {
+                leased++;
+            }
+        }
+        return leased;
+    }
+
     /**
      * 关闭客户端管理器，释放所有资源
      */
@@ -176,20 +536,98 @@ public class ClientManager {
     }
 
     /**
-     * 获取队列中可用的客户端数量
+     * 获取空闲（可租借）的客户端数量
      * @return 可用客户端数量
      */
     public int getAvailableClientCount() {
-        return clientQueue.size();
+        return idleCount.get();
+    }
+
+    /**
+     * 获取正在等待设备的租借请求数
+     * @return 等待数
+     */
+    public int getWaitingCount() {
+        int waiting = 0;
+        for (ConcurrentLinkedQueue<Waiter> queue : waiterIndex.values()) {
+            waiting += queue.size();
+        }
+        return waiting;
+    }
+
+    /**
+     * 获取满足条件的空闲设备数量
+     * @param selector 选择条件
+     * @return 空闲设备数量
+     */
+    public int getAvailableClientCount(DeviceSelector selector) {
+        ConcurrentSkipListSet<IdleEntry> candidates = idleIndex.get(selector.indexKey());
+        if (candidates == null) {
+            return 0;
+        }
+        int count = 0;
+        for (IdleEntry entry : candidates) {
+            if (entry.channel.idleEntry.get() == entry && selector.matches(entry.channel)) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
      * 清空所有客户端连接
      */
     public void clear() {
+        clients.values().forEach(AiboteChannel::markClosed);
         clients.clear();
-        clientQueue.clear();
+        idleIndex.clear();
+        for (ConcurrentLinkedQueue<Waiter> queue : waiterIndex.values()) {
+            Waiter waiter;
+            while ((waiter = queue.poll()) != null) {
+                waiter.future.completeExceptionally(new IllegalStateException("客户端管理器已清空"));
+            }
+        }
         clientCount.set(0);
+        idleCount.set(0);
         log.info("All clients cleared");
     }
+
+    /**
+     * 空闲索引条目，每次进入空闲状态或重建索引时新建一个，排序键不可变
+     */
+    static final class IdleEntry implements Comparable<IdleEntry> {
+        private final AiboteChannel channel;
+        private final long idleSince;
+        private final long sequence;
+        private final List<String> keys;
+
+        IdleEntry(AiboteChannel channel, long idleSince, long sequence, List<String> keys) {
+            this.channel = channel;
+            this.idleSince = idleSince;
+            this.sequence = sequence;
+            this.keys = keys;
+        }
+
+        @Override
+        public int compareTo(IdleEntry other) {
+            int byIdle = Long.compare(idleSince, other.idleSince);
+            return byIdle != 0 ? byIdle : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    /**
+     * 等待设备的租借请求
+     */
+    private static final class Waiter {
+        private final DeviceSelector selector;
+        private final String key;
+        private final long sequence;
+        private final CompletableFuture<DeviceLease> future = new CompletableFuture<>();
+
+        Waiter(DeviceSelector selector, long sequence) {
+            this.selector = selector;
+            this.key = selector.indexKey();
+            this.sequence = sequence;
+        }
+    }
 }
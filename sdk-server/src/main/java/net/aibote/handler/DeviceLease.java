@@ -0,0 +1,80 @@
+package net.aibote.handler;
+
+import net.aibote.sdk.AbstractPlatformBot;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 设备租约
+ * 由 {@link ClientManager} 租出，持有期间设备不会分配给其他任务；
+ * 用完调用 {@link #close()} 归还，可配合 try-with-resources 使用。
+ * 设备断开后租约自动失效，归还时不会再放回空闲队列。
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+public class DeviceLease implements AutoCloseable {
+
+    private final ClientManager clientManager;
+    private final AiboteChannel channel;
+    private final long leasedAt = System.currentTimeMillis();
+    private final AtomicBoolean returned = new AtomicBoolean(false);
+
+    DeviceLease(ClientManager clientManager, AiboteChannel channel) {
+        this.clientManager = clientManager;
+        this.channel = channel;
+    }
+
+    /**
+     * 获取租到的设备通道
+     * @return 设备通道
+     */
+    public AiboteChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * 获取设备上的机器人实例
+     * @param <T> 机器人类型
+     * @return 机器人实例
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends AbstractPlatformBot> T getBot() {
+        return (T) channel.getAibote();
+    }
+
+    /**
+     * 获取设备ID
+     * @return 设备ID
+     */
+    public String getId() {
+        return channel.getId();
+    }
+
+    /**
+     * 获取租出时间
+     * @return 租出时间戳（毫秒）
+     */
+    public long getLeasedAt() {
+        return leasedAt;
+    }
+
+    /**
+     * 租约是否仍然有效：未归还且设备未断开
+     * @return 有效返回true
+     */
+    public boolean isValid() {
+        return !returned.get() && !channel.isClosed();
+    }
+
+    /**
+     * 归还设备，重复调用只归还一次
+     */
+    @Override
+    public void close() {
+        if (returned.compareAndSet(false, true)) {
+            clientManager.giveBack(channel);
+        }
+    }
+}
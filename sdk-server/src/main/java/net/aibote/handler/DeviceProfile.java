@@ -0,0 +1,106 @@
+package net.aibote.handler;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import net.aibote.sdk.AbstractPlatformBot;
+import net.aibote.sdk.AndroidBot;
+import net.aibote.sdk.WinBot;
+import net.aibote.sdk.factory.BotFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 设备属性
+ * 每个会话开始时查询一次并缓存，用于 {@link ClientManager} 的属性索引
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+@Slf4j
+@Data
+@Builder
+public class DeviceProfile {
+
+    /**
+     * 平台类型
+     */
+    private BotFactory.BotType platform;
+    /**
+     * 分组，Android 的 getGroup()
+     */
+    private String group;
+    /**
+     * 投屏编号，Android 的 getIdentifier()
+     */
+    private String identifier;
+    /**
+     * 分辨率，格式 "宽|高"，Android 的 getWindowSize()
+     */
+    private String resolution;
+    /**
+     * Windows ID，WinBot 的 getWindowsId()
+     */
+    private String windowsId;
+
+    /**
+     * 仅包含平台类型的属性，用于连接建立但尚未查询属性时
+     * @param platform 平台类型
+     * @return 设备属性
+     */
+    public static DeviceProfile of(BotFactory.BotType platform) {
+        return DeviceProfile.builder().platform(platform).build();
+    }
+
+    /**
+     * 向设备查询属性，单项查询失败时该项为空
+     * @param platform 平台类型
+     * @param bot 机器人实例
+     * @return 设备属性
+     */
+    public static DeviceProfile load(BotFactory.BotType platform, AbstractPlatformBot bot) {
+        DeviceProfileBuilder builder = DeviceProfile.builder().platform(platform);
+        if (bot instanceof AndroidBot) {
+            AndroidBot androidBot = (AndroidBot) bot;
+            builder.group(query("getGroup", androidBot::getGroup))
+                    .identifier(query("getIdentifier", androidBot::getIdentifier))
+                    .resolution(query("getWindowSize", androidBot::getWindowSize));
+        } else if (bot instanceof WinBot) {
+            builder.windowsId(query("getWindowsId", ((WinBot) bot)::getWindowsId));
+        }
+        return builder.build();
+    }
+
+    /**
+     * 获取索引键，形如 "group=xxx"
+     * @return 非空属性对应的索引键
+     */
+    List<String> indexKeys() {
+        List<String> keys = new ArrayList<>(6);
+        keys.add(DeviceSelector.ANY);
+        addKey(keys, DeviceSelector.PLATFORM, platform == null ? null : platform.name());
+        addKey(keys, DeviceSelector.GROUP, group);
+        addKey(keys, DeviceSelector.IDENTIFIER, identifier);
+        addKey(keys, DeviceSelector.RESOLUTION, resolution);
+        addKey(keys, DeviceSelector.WINDOWS_ID, windowsId);
+        return keys;
+    }
+
+    private static void addKey(List<String> keys, String name, String value) {
+        if (value != null && !value.isEmpty()) {
+            keys.add(name + "=" + value);
+        }
+    }
+
+    private static String query(String name, Supplier<String> command) {
+        try {
+            return command.get();
+        } catch (Exception e) {
+            log.debug("查询设备属性失败: {}", name, e);
+            return null;
+        }
+    }
+}
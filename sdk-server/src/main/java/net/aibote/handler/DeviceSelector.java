@@ -0,0 +1,130 @@
+package net.aibote.handler;
+
+import lombok.Builder;
+import lombok.Value;
+import net.aibote.sdk.factory.BotFactory;
+
+/**
+ * 设备选择条件
+ * 未设置的属性不参与匹配；按最具区分度的属性查索引，再逐个核对其余属性。
+ * 选择条件不可变，可作为派发队列的分组键共享；基于已有条件修改时使用 {@code toBuilder()}
+ * <pre>{@code
+ * DeviceSelector selector = DeviceSelector.builder()
+ *         .platform(BotFactory.BotType.ANDROID)
+ *         .group("group-1")
+ *         .build();
+ * }</pre>
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+@Value
+@Builder(toBuilder = true)
+public class DeviceSelector {
+
+    static final String ANY = "*";
+    static final String PLATFORM = "platform";
+    static final String GROUP = "group";
+    static final String IDENTIFIER = "identifier";
+    static final String RESOLUTION = "resolution";
+    static final String WINDOWS_ID = "windowsId";
+    static final String DEVICE_ID = "deviceId";
+
+    private static final DeviceSelector ANY_DEVICE = DeviceSelector.builder().build();
+
+    private BotFactory.BotType platform;
+    private String group;
+    private String identifier;
+    private String resolution;
+    private String windowsId;
+    /**
+     * 指定设备（客户端ID），用于把任务派发到某一台设备
+     */
+    private String deviceId;
+
+    /**
+     * 匹配任意设备
+     * @return 选择条件
+     */
+    public static DeviceSelector any() {
+        return ANY_DEVICE;
+    }
+
+    /**
+     * 匹配指定平台的任意设备
+     * @param platform 平台类型
+     * @return 选择条件
+     */
+    public static DeviceSelector platform(BotFactory.BotType platform) {
+        return DeviceSelector.builder().platform(platform).build();
+    }
+
+    /**
+     * 匹配指定设备
+     * @param deviceId 客户端ID
+     * @return 选择条件
+     */
+    public static DeviceSelector device(String deviceId) {
+        return DeviceSelector.builder().deviceId(deviceId).build();
+    }
+
+    /**
+     * 设备是否满足条件
+     * @param channel 设备通道
+     * @return 满足返回true
+     */
+    public boolean matches(AiboteChannel channel) {
+        return (deviceId == null || deviceId.equals(channel.getId())) && matches(channel.getProfile());
+    }
+
+    /**
+     * 设备属性是否满足条件（不含设备ID）
+     * @param profile 设备属性
+     * @return 满足返回true
+     */
+    public boolean matches(DeviceProfile profile) {
+        if (profile == null) {
+            return isAny();
+        }
+        return (platform == null || platform == profile.getPlatform())
+                && (group == null || group.equals(profile.getGroup()))
+                && (identifier == null || identifier.equals(profile.getIdentifier()))
+                && (resolution == null || resolution.equals(profile.getResolution()))
+                && (windowsId == null || windowsId.equals(profile.getWindowsId()));
+    }
+
+    /**
+     * 是否匹配任意设备
+     * @return 未设置任何条件时返回true
+     */
+    public boolean isAny() {
+        return platform == null && group == null && identifier == null && resolution == null && windowsId == null
+                && deviceId == null;
+    }
+
+    /**
+     * 查索引使用的键：取区分度最高的已设置属性
+     */
+    String indexKey() {
+        if (deviceId != null) {
+            return DEVICE_ID + "=" + deviceId;
+        }
+        if (windowsId != null) {
+            return WINDOWS_ID + "=" + windowsId;
+        }
+        if (identifier != null) {
+            return IDENTIFIER + "=" + identifier;
+        }
+        if (group != null) {
+            return GROUP + "=" + group;
+        }
+        if (resolution != null) {
+            return RESOLUTION + "=" + resolution;
+        }
+        if (platform != null) {
+            return PLATFORM + "=" + platform.name();
+        }
+        return ANY;
+    }
+}
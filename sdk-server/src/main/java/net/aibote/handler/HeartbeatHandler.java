@@ -0,0 +1,77 @@
+package net.aibote.handler;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.timeout.IdleState;
+import io.netty.handler.timeout.IdleStateEvent;
+import lombok.extern.slf4j.Slf4j;
+import net.aibote.sdk.channel.PendingResponses;
+import net.aibote.sdk.exception.CommandException;
+import net.aibote.utils.config.ConfigManager;
+
+/**
+ * 心跳处理器
+ * 一段时间内没有收到驱动的任何数据时向驱动发送探测命令，超时未响应即判定为死连接（如手机崩溃留下的半开连接）并立即关闭。
+ * 按读空闲而不是读写都空闲判断：半开连接上持续写出的命令不会让连接显得活跃。
+ * 已写出的命令仍在自身超时时间内等待响应时（如大文件传输、长时间执行的命令）不探测，
+ * 探测的超时从提交时开始计算，排在长命令之后会误判健康的连接；
+ * 这期间驱动不再响应时，由 {@link PendingResponses} 在后续命令也超时时判定失去同步并关闭连接。
+ * 连接关闭时让该连接上所有在途和排队中的命令立即失败，而不是各自等到超时；
+ * 解码失败等未处理的异常同样让未完成命令立即失败并关闭连接，不会让连接卡在无法对齐的数据上
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+@Slf4j
+public class HeartbeatHandler extends ChannelInboundHandlerAdapter {
+
+    private boolean probing;
+
+    @Override
+    public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+        if (evt instanceof IdleStateEvent && ((IdleStateEvent) evt).state() == IdleState.READER_IDLE) {
+            probe(ctx);
+        } else {
+            super.userEventTriggered(ctx, evt);
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        int failed = PendingResponses.of(ctx.channel()).failAll(new CommandException("连接已断开"));
+        if (failed > 0) {
+            log.info("连接断开，{}条未完成命令已失败：{}", failed, ctx.channel().remoteAddress());
+        }
+        super.channelInactive(ctx);
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        log.warn("连接异常，关闭链接：{}", ctx.channel().remoteAddress(), cause);
+        PendingResponses.of(ctx.channel()).failAll(new CommandException("连接异常: " + cause.getMessage(), cause));
+        ctx.close();
+    }
+
+    private void probe(ChannelHandlerContext ctx) {
+        PendingResponses pending = PendingResponses.of(ctx.channel());
+        if (probing || pending.isAwaitingResponse()) {
+            return;
+        }
+        AiboteChannel aiboteChannel = SessionRegistry.get(ctx.channel());
+        if (aiboteChannel == null || aiboteChannel.getProfile() == null || aiboteChannel.getProfile().getPlatform() == null) {
+            return;
+        }
+        String command = BotTypeDetector.probeCommand(aiboteChannel.getProfile().getPlatform());
+        long timeout = ConfigManager.getInstance().getCommunicationConfig().getHeartbeatTimeout();
+        probing = true;
+        pending.submit(() -> ctx.write(new String[]{command}), timeout, "心跳:" + command)
+                .whenCompleteAsync((data, error) -> {
+                    probing = false;
+                    if (error != null && ctx.channel().isActive()) {
+                        log.warn("心跳超时，驱逐连接：{}", ctx.channel().remoteAddress());
+                        ctx.close();
+                    }
+                }, ctx.executor());
+    }
+}
@@ -0,0 +1,138 @@
+package net.aibote.handler;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.FileRegion;
+import io.netty.util.AttributeKey;
+import lombok.extern.slf4j.Slf4j;
+import net.aibote.sdk.channel.PendingResponses;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 出站流量处理器
+ * 位于编码器与网络之间，统计每个连接写出的字节数与不可写次数，
+ * 并在连接恢复可写时通知 {@link PendingResponses} 补写积压的命令
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+@Slf4j
+public class OutboundTrafficHandler extends ChannelDuplexHandler {
+
+    private static final AttributeKey<OutboundStats> KEY = AttributeKey.valueOf("aibote.outboundStats");
+
+    private static final LongAdder TOTAL_WRITTEN = new LongAdder();
+
+    private final OutboundStats stats = new OutboundStats();
+
+    /**
+     * 获取连接的出站统计
+     * @param channel Netty通道
+     * @return 出站统计，未经过本处理器的连接返回null
+     */
+    public static OutboundStats stats(Channel channel) {
+        return channel.attr(KEY).get();
+    }
+
+    /**
+     * 获取所有连接累计写出的字节数
+     * @return 字节数
+     */
+    public static long getTotalWrittenBytes() {
+        return TOTAL_WRITTEN.sum();
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        ctx.channel().attr(KEY).set(stats);
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) throws Exception {
+        long size = sizeOf(msg);
+        if (size > 0) {
+            stats.queuedBytes += size;
+            promise = promise.unvoid();
+            promise.addListener(f -> {
+                if (f.isSuccess()) {
+                    stats.writtenBytes += size;
+                    TOTAL_WRITTEN.add(size);
+                } else {
+                    stats.queuedBytes -= size;
+                }
+            });
+        }
+        super.write(ctx, msg, promise);
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        Channel channel = ctx.channel();
+        if (!channel.isWritable()) {
+            stats.unwritableCount++;
+            log.debug("连接出站缓冲区超过高水位，暂停写出：{}", channel.remoteAddress());
+        }
+        PendingResponses.of(channel).writabilityChanged();
+        super.channelWritabilityChanged(ctx);
+    }
+
+    private static long sizeOf(Object msg) {
+        if (msg instanceof ByteBuf) {
+            return ((ByteBuf) msg).readableBytes();
+        }
+        if (msg instanceof ByteBufHolder) {
+            return ((ByteBufHolder) msg).content().readableBytes();
+        }
+        if (msg instanceof FileRegion) {
+            return ((FileRegion) msg).count();
+        }
+        return 0;
+    }
+
+    /**
+     * 单个连接的出站统计，由连接所属事件循环写入
+     */
+    public static class OutboundStats {
+        private volatile long queuedBytes;
+        private volatile long writtenBytes;
+        private volatile long unwritableCount;
+
+        /**
+         * 已提交写出（不含写出失败）的字节数
+         * @return 字节数
+         */
+        public long getQueuedBytes() {
+            return queuedBytes;
+        }
+
+        /**
+         * 已写入网络的字节数
+         * @return 字节数
+         */
+        public long getWrittenBytes() {
+            return writtenBytes;
+        }
+
+        /**
+         * 尚未写入网络的字节数
+         * @return 字节数
+         */
+        public long getPendingBytes() {
+            return queuedBytes - writtenBytes;
+        }
+
+        /**
+         * 连接变为不可写的次数
+         * @return 次数
+         */
+        public long getUnwritableCount() {
+            return unwritableCount;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package net.aibote.handler;
+
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import net.aibote.sdk.AbstractPlatformBot;
+
+/**
+ * 会话注册表
+ * 以通道属性保存连接对应的 {@link AiboteChannel}，每个连接只有一个机器人实例，
+ * 处理器与任务引擎都从这里获取，不再为每个任务重新创建
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+public final class SessionRegistry {
+
+    private static final AttributeKey<AiboteChannel> KEY = AttributeKey.valueOf("aibote.session");
+
+    private SessionRegistry() {
+    }
+
+    /**
+     * 登记连接的会话
+     * @param channel Netty通道
+     * @param session 设备通道
+     */
+    public static void register(Channel channel, AiboteChannel session) {
+        channel.attr(KEY).set(session);
+    }
+
+    /**
+     * 移除连接的会话
+     * @param channel Netty通道
+     * @return 被移除的会话，不存在时返回null
+     */
+    public static AiboteChannel unregister(Channel channel) {
+        return channel.attr(KEY).getAndSet(null);
+    }
+
+    /**
+     * 获取连接的会话
+     * @param channel Netty通道
+     * @return 设备通道，不存在时返回null
+     */
+    public static AiboteChannel get(Channel channel) {
+        return channel.attr(KEY).get();
+    }
+
+    /**
+     * 获取连接上的机器人实例
+     * @param channel Netty通道
+     * @param <T> 机器人类型
+     * @return 机器人实例，不存在时返回null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends AbstractPlatformBot> T getBot(Channel channel) {
+        AiboteChannel session = get(channel);
+        return session == null ? null : (T) session.getAibote();
+    }
+}
@@ -0,0 +1,150 @@
+package net.aibote.server;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import lombok.extern.slf4j.Slf4j;
+import net.aibote.utils.config.BotConfig;
+import net.aibote.utils.config.ConfigManager;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 连接准入处理器
+ * 安装在监听通道上，位于 Netty 把新连接注册到 worker 之前：
+ * 来源 IP 不在白名单内或连接数超过上限时直接关闭，被拒绝的连接不会占用 worker 线程和管道内存。
+ * 全局连接数在所有服务端之间共享，端口连接数由每个服务端各自统计。
+ * 每次拒绝只记 debug 日志并计入拒绝数，warn 日志每个端口每分钟最多汇总一条，避免连接风暴时刷屏
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+@Slf4j
+@ChannelHandler.Sharable
+public class AdmissionHandler extends ChannelInboundHandlerAdapter {
+
+    private static final AtomicInteger GLOBAL_CONNECTIONS = new AtomicInteger();
+    private static final LongAdder GLOBAL_REJECTED = new LongAdder();
+    private static final long WARN_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final int port;
+    private final int maxConnections;
+    private final int maxConnectionsPerPort;
+    private final IpWhitelist whitelist;
+    private final AtomicInteger connections = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicLong lastWarnNanos = new AtomicLong(System.nanoTime() - WARN_INTERVAL_NANOS);
+    private final AtomicLong lastWarnRejected = new AtomicLong();
+
+    /**
+     * 按安全配置创建准入处理器
+     * @param port 监听端口，用于日志与统计
+     */
+    public AdmissionHandler(int port) {
+        BotConfig.SecurityConfig security = ConfigManager.getInstance().getSecurityConfig();
+        this.port = port;
+        this.maxConnections = security.getMaxConnections();
+        this.maxConnectionsPerPort = security.getMaxConnectionsPerPort();
+        this.whitelist = new IpWhitelist(security.getIpWhitelist());
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        Channel child = (Channel) msg;
+        InetSocketAddress remote = (InetSocketAddress) child.remoteAddress();
+        if (remote != null && !whitelist.allows(remote.getAddress())) {
+            reject(child, "来源IP不在白名单内");
+            return;
+        }
+        if (!acquire(GLOBAL_CONNECTIONS, maxConnections)) {
+            reject(child, "超过最大连接数" + maxConnections);
+            return;
+        }
+        if (!acquire(connections, maxConnectionsPerPort)) {
+            GLOBAL_CONNECTIONS.decrementAndGet();
+            reject(child, "超过端口最大连接数" + maxConnectionsPerPort);
+            return;
+        }
+        child.closeFuture().addListener(f -> {
+            connections.decrementAndGet();
+            GLOBAL_CONNECTIONS.decrementAndGet();
+        });
+        ctx.fireChannelRead(child);
+    }
+
+    /**
+     * 获取所有服务端的当前连接数
+     * @return 连接数
+     */
+    public static int getGlobalConnections() {
+        return GLOBAL_CONNECTIONS.get();
+    }
+
+    /**
+     * 获取所有服务端累计拒绝的连接数
+     * @return 拒绝数
+     */
+    public static long getGlobalRejected() {
+        return GLOBAL_REJECTED.sum();
+    }
+
+    /**
+     * 获取本端口的当前连接数
+     * @return 连接数
+     */
+    public int getConnections() {
+        return connections.get();
+    }
+
+    /**
+     * 获取本端口累计拒绝的连接数
+     * @return 拒绝数
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private static boolean acquire(AtomicInteger counter, int limit) {
+        if (limit <= 0) {
+            counter.incrementAndGet();
+            return true;
+        }
+        int current;
+        do {
+            current = counter.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!counter.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void reject(Channel child, String reason) {
+        rejected.increment();
+        GLOBAL_REJECTED.increment();
+        log.debug("拒绝连接 {} -> 端口{}：{}", child.remoteAddress(), port, reason);
+        warnRateLimited(reason);
+        // 尚未注册到 worker，直接关闭底层套接字
+        child.unsafe().closeForcibly();
+    }
+
+    /**
+     * 距上次 warn 超过一分钟时汇总输出期间的拒绝数，只有一个线程能抢到输出机会
+     */
+    private void warnRateLimited(String reason) {
+        long now = System.nanoTime();
+        long last = lastWarnNanos.get();
+        if (now - last < WARN_INTERVAL_NANOS || !lastWarnNanos.compareAndSet(last, now)) {
+            return;
+        }
+        long total = rejected.sum();
+        long since = total - lastWarnRejected.getAndSet(total);
+        log.warn("端口{}近期拒绝了 {} 个连接，最近一次原因：{}，累计拒绝 {}", port, since, reason, total);
+    }
+}
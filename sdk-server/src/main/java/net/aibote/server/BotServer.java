@@ -1,99 +1,110 @@
 package net.aibote.server;
 
 import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
-import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioChannelOption;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.handler.timeout.IdleStateHandler;
 import lombok.extern.slf4j.Slf4j;
 import net.aibote.codec.AiboteDecoder;
 import net.aibote.codec.AiboteEncoder;
+import net.aibote.handler.HeartbeatHandler;
+import net.aibote.handler.OutboundTrafficHandler;
+import net.aibote.utils.config.BotConfig;
+import net.aibote.utils.config.ConfigManager;
 
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 服务端基类
+ * 所有服务端共享 {@link EventLoops} 中的事件循环，关闭单个服务端只关闭其监听通道
+ */
 @Slf4j
 public abstract class BotServer {
+    private volatile Channel serverChannel;
+    private volatile AdmissionHandler admission;
+
     public abstract int getPort();
 
     public abstract void handlers(ChannelPipeline pipeline);
 
     public void start() {
-        // 使用命名线程工厂，便于调试和监控
-        EventLoopGroup boss = new NioEventLoopGroup(1, new NamedThreadFactory("Netty-Boss"));
-        EventLoopGroup worker = new NioEventLoopGroup(0, new NamedThreadFactory("Netty-Worker")); // 0表示使用默认线程数
-        
+        EventLoops eventLoops = EventLoops.getInstance();
         try {
+            admission = new AdmissionHandler(getPort());
             ServerBootstrap bootstrap = new ServerBootstrap();
-            bootstrap.group(boss, worker)
-                    .channel(NioServerSocketChannel.class)
-                    .option(NioChannelOption.SO_BACKLOG, 1024)
-                    .childOption(NioChannelOption.SO_KEEPALIVE, true)
-                    .childOption(NioChannelOption.TCP_NODELAY, true)
-                    .childHandler(new ChannelInitializer<SocketChannel>() {
+            bootstrap.group(eventLoops.getBoss(), eventLoops.getWorker())
+                    .channel(eventLoops.getServerChannelClass())
+                    .handler(admission)//新连接注册到worker之前先做准入检查
+                    .option(ChannelOption.SO_BACKLOG, 1024)
+                    .childOption(ChannelOption.SO_KEEPALIVE, true)
+                    .childOption(ChannelOption.TCP_NODELAY, true)
+                    .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, writeBufferWaterMark())
+                    .childHandler(new ChannelInitializer<Channel>() {
                         @Override
-                        protected void initChannel(SocketChannel ch) throws Exception {
+                        protected void initChannel(Channel ch) throws Exception {
                             ChannelPipeline pipeline = ch.pipeline();
                             pipeline.addLast("decoder", new AiboteDecoder());
+                            pipeline.addLast("traffic", new OutboundTrafficHandler());
                             pipeline.addLast("encoder", new AiboteEncoder());
+                            long heartbeatInterval = ConfigManager.getInstance().getCommunicationConfig().getHeartbeatInterval();
+                            if (heartbeatInterval > 0) {
+                                pipeline.addLast("idle", new IdleStateHandler(heartbeatInterval, 0, 0, TimeUnit.MILLISECONDS));
+                            }
+                            pipeline.addLast("heartbeat", new HeartbeatHandler());
                             handlers(pipeline);//注入自定义处理类
                         }
                     });
             
-            log.info("Netty server starting on port {}", getPort());
+            log.info("Netty server starting on port {} ({})", getPort(), eventLoops.getTransport().getDescription());
             ChannelFuture future = bootstrap.bind(getPort()).sync();
+            serverChannel = future.channel();
             log.info("Netty server started successfully on port {}", getPort());
-            future.channel().closeFuture().sync();
+            serverChannel.closeFuture().sync();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Netty server on port {} interrupted", getPort());
         } catch (Exception e) {
             log.error("Netty server startup failed on port {}", getPort(), e);
         } finally {
-            gracefulShutdown(worker, boss);
+            serverChannel = null;
         }
     }
-    
+
     /**
-     * 优雅关闭Netty服务
+     * 获取本服务端的准入处理器，可读取连接数与拒绝数
+     * @return 准入处理器，未启动时为null
      */
-    private void gracefulShutdown(EventLoopGroup worker, EventLoopGroup boss) {
-        try {
-            log.info("开始关闭Netty服务...");
-            
-            if (worker != null) {
-                worker.shutdownGracefully().sync();
-            }
-            if (boss != null) {
-                boss.shutdownGracefully().sync();
-            }
-            
-            log.info("Netty服务已关闭");
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.warn("Netty服务关闭被中断");
-        }
+    public AdmissionHandler getAdmission() {
+        return admission;
     }
-    
+
     /**
-     * 命名线程工厂
+     * 按性能配置计算每个连接的出站缓冲区水位
+     * 高水位为内存上限按最大连接数均分（不低于两倍缓冲区大小），低水位为高水位的一半（不低于缓冲区大小）
+     * @return 出站缓冲区水位
      */
-    private static class NamedThreadFactory implements ThreadFactory {
-        private final String namePrefix;
-        private final AtomicInteger threadNumber = new AtomicInteger(1);
-        
-        public NamedThreadFactory(String namePrefix) {
-            this.namePrefix = namePrefix;
-        }
-        
-        @Override
-        public Thread newThread(Runnable r) {
-            Thread t = new Thread(r, namePrefix + "-" + threadNumber.getAndIncrement());
-            t.setDaemon(false);
-            t.setPriority(Thread.NORM_PRIORITY);
-            return t;
-        }
+    static WriteBufferWaterMark writeBufferWaterMark() {
+        BotConfig.PerformanceConfig performance = ConfigManager.getInstance().getPerformanceConfig();
+        int maxConnections = Math.max(1, ConfigManager.getInstance().getSecurityConfig().getMaxConnections());
+        long perConnection = (long) performance.getMemoryLimit() * 1024 * 1024 / maxConnections;
+        int high = (int) Math.min(Integer.MAX_VALUE, Math.max(2L * performance.getBufferSize(), perConnection));
+        int low = Math.max(performance.getBufferSize(), high / 2);
+        return new WriteBufferWaterMark(Math.min(low, high), high);
     }
 
+    /**
+     * 停止监听，已建立的连接不受影响
+     * 事件循环由 {@link EventLoops#shutdownGracefully()} 统一关闭
+     */
+    public void stop() {
+        Channel channel = serverChannel;
+        if (channel != null) {
+            channel.close().syncUninterruptibly();
+            log.info("Netty server on port {} stopped", getPort());
+        }
+    }
 }
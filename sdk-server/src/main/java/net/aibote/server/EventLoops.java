@@ -0,0 +1,79 @@
+package net.aibote.server;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.MultiThreadIoEventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+import net.aibote.utils.config.BotConfig;
+import net.aibote.utils.config.ConfigManager;
+
+/**
+ * 共享事件循环
+ * Android、Web、Windows 服务端共用一个 boss 组和一个 worker 组，
+ * 线程数不随服务端数量翻倍
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+@Slf4j
+public class EventLoops {
+
+    private static final EventLoops INSTANCE = new EventLoops();
+
+    private final Transport transport;
+    private final EventLoopGroup boss;
+    private final EventLoopGroup worker;
+
+    private EventLoops() {
+        BotConfig.PerformanceConfig config = ConfigManager.getInstance().getPerformanceConfig();
+        this.transport = Transport.select(config.getTransport());
+        this.boss = new MultiThreadIoEventLoopGroup(1,
+                new DefaultThreadFactory("Netty-Boss"), transport.ioHandlerFactory());
+        // 0表示使用默认线程数（CPU核数x2）
+        this.worker = new MultiThreadIoEventLoopGroup(config.getIoThreads(),
+                new DefaultThreadFactory("Netty-Worker"), transport.ioHandlerFactory());
+        log.info("网络传输: {}，worker线程数: {}", transport.getDescription(),
+                config.getIoThreads() > 0 ? config.getIoThreads() : "默认");
+    }
+
+    /**
+     * 获取单例实例
+     * @return EventLoops单例
+     */
+    public static EventLoops getInstance() {
+        return INSTANCE;
+    }
+
+    public Transport getTransport() {
+        return transport;
+    }
+
+    public Class<? extends ServerChannel> getServerChannelClass() {
+        return transport.serverChannelClass();
+    }
+
+    public EventLoopGroup getBoss() {
+        return boss;
+    }
+
+    public EventLoopGroup getWorker() {
+        return worker;
+    }
+
+    /**
+     * 优雅关闭所有事件循环
+     */
+    public void shutdownGracefully() {
+        try {
+            log.info("开始关闭Netty服务...");
+            worker.shutdownGracefully().sync();
+            boss.shutdownGracefully().sync();
+            log.info("Netty服务已关闭");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Netty服务关闭被中断");
+        }
+    }
+}
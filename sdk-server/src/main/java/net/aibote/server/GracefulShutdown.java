@@ -0,0 +1,159 @@
+package net.aibote.server;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import net.aibote.handler.AiboteChannel;
+import net.aibote.handler.ClientManager;
+import net.aibote.task.SessionExecutor;
+import net.aibote.task.TaskEngine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 有序关闭流程
+ * 依次：停止所有服务端监听 → 停止租借设备 → 等待正在执行的任务结束（直到截止时间） →
+ * 刷出所有连接的待写数据 → 关闭客户端连接 → 关闭事件循环，最后报告截止时仍未完成的工作
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+@Slf4j
+public class GracefulShutdown {
+
+    private final List<BotServer> servers;
+    private final long timeoutMillis;
+
+    /**
+     * @param servers 需要停止监听的服务端
+     * @param timeoutMillis 整个关闭流程的截止时间（毫秒）
+     */
+    public GracefulShutdown(List<BotServer> servers, long timeoutMillis) {
+        this.servers = servers;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 执行关闭流程
+     * @return 关闭报告
+     */
+    public ShutdownReport run() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        ShutdownReport report = new ShutdownReport();
+        ClientManager clientManager = ClientManager.getInstance();
+        SessionExecutor sessionExecutor = SessionExecutor.getInstance();
+
+        // 1. 停止接受新连接
+        for (BotServer server : servers) {
+            server.stop();
+        }
+        log.info("关闭[1/5] 已停止所有服务端监听");
+
+        // 2. 停止租借设备
+        report.setCancelledLeaseRequests(clientManager.stopLeasing());
+        log.info("关闭[2/5] 已停止租借设备，取消{}个等待中的租借请求", report.getCancelledLeaseRequests());
+
+        // 3. 等待任务结束
+        TaskEngine taskEngine = TaskEngine.getInstance();
+        sessionExecutor.shutdown();
+        report.setCancelledQueuedTasks(taskEngine.shutdown());
+        try {
+            boolean sessionsDone = sessionExecutor.awaitTermination(remaining(deadline), TimeUnit.NANOSECONDS);
+            boolean tasksDone = taskEngine.awaitTermination(remaining(deadline), TimeUnit.NANOSECONDS);
+            if (!sessionsDone || !tasksDone) {
+                report.setUnfinishedTasks(taskEngine.getRunningCount() + sessionExecutor.getActiveSessions());
+                report.setLeasedDevices(clientManager.getLeasedClientCount());
+                taskEngine.getExecutions().forEach(e -> log.warn("截止时仍未完成的任务: {}", e));
+                sessionExecutor.shutdownNow();
+                taskEngine.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sessionExecutor.shutdownNow();
+            taskEngine.shutdownNow();
+        }
+        log.info("关闭[3/5] 任务执行结束，取消{}个排队任务，截止时未完成{}个",
+                report.getCancelledQueuedTasks(), report.getUnfinishedTasks());
+
+        // 4. 刷出待写数据，并统计仍在途的命令
+        List<ChannelFuture> flushes = new ArrayList<>();
+        for (AiboteChannel client : clientManager.getClients()) {
+            Channel channel = client.aiboteChanel.channel();
+            if (channel.isActive()) {
+                report.setInFlightCommands(report.getInFlightCommands() + client.getPendingResponses().getInFlightCount());
+                flushes.add(channel.writeAndFlush(Unpooled.EMPTY_BUFFER));
+            }
+        }
+        for (ChannelFuture flush : flushes) {
+            if (!flush.awaitUninterruptibly(remaining(deadline), TimeUnit.NANOSECONDS)) {
+                report.setUnflushedChannels(report.getUnflushedChannels() + 1);
+            }
+        }
+        log.info("关闭[4/5] 已刷出{}个连接的待写数据", flushes.size() - report.getUnflushedChannels());
+
+        // 5. 关闭连接与事件循环
+        report.setClosedConnections(clientManager.getClientCount());
+        clientManager.shutdown();
+        EventLoops.getInstance().shutdownGracefully();
+        log.info("关闭[5/5] 已关闭{}个连接及事件循环", report.getClosedConnections());
+
+        report.setElapsedMillis(timeoutMillis - TimeUnit.NANOSECONDS.toMillis(remaining(deadline)));
+        return report;
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(0L, deadline - System.nanoTime());
+    }
+
+    /**
+     * 关闭报告：关闭完成时仍未完成的工作
+     */
+    @Data
+    public static class ShutdownReport {
+        /**
+         * 被取消的等待中租借请求数
+         */
+        private int cancelledLeaseRequests;
+        /**
+         * 仍在派发队列中等待设备、被取消的任务数
+         */
+        private int cancelledQueuedTasks;
+        /**
+         * 截止时仍在执行、被中断的任务数
+         */
+        private int unfinishedTasks;
+        /**
+         * 截止时仍被租出的设备数
+         */
+        private int leasedDevices;
+        /**
+         * 关闭连接时仍在途的命令数
+         */
+        private int inFlightCommands;
+        /**
+         * 截止时未能刷出待写数据的连接数
+         */
+        private int unflushedChannels;
+        /**
+         * 关闭的连接数
+         */
+        private int closedConnections;
+        /**
+         * 关闭流程耗时（毫秒）
+         */
+        private long elapsedMillis;
+
+        /**
+         * 是否所有工作都在截止时间内完成
+         * @return 全部完成返回true
+         */
+        public boolean isClean() {
+            return unfinishedTasks == 0 && inFlightCommands == 0 && unflushedChannels == 0;
+        }
+    }
+}
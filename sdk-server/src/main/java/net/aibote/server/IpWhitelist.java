@@ -0,0 +1,120 @@
+package net.aibote.server;
+
+import io.netty.util.NetUtil;
+
+import java.net.InetAddress;
+
+/**
+ * IP 白名单
+ * 将 CIDR 列表（如 "10.0.0.0/8"、"192.168.1.5"、"fe80::/10"）编译为按位前缀树，
+ * 查询时逐位下行，IPv4 至多 32 步；IPv4 映射的 IPv6 地址按 IPv4 匹配。
+ * 白名单为空时允许所有地址
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+public class IpWhitelist {
+
+    private final Node ipv4 = new Node();
+    private final Node ipv6 = new Node();
+    private final boolean empty;
+
+    /**
+     * 编译白名单
+     * @param cidrs CIDR 列表，可以为null
+     * @throws IllegalArgumentException 格式错误时
+     */
+    public IpWhitelist(String[] cidrs) {
+        int count = 0;
+        if (cidrs != null) {
+            for (String cidr : cidrs) {
+                if (cidr != null && !cidr.isBlank()) {
+                    add(cidr.trim());
+                    count++;
+                }
+            }
+        }
+        this.empty = count == 0;
+    }
+
+    /**
+     * 地址是否在白名单内
+     * @param address 来源地址
+     * @return 在白名单内或白名单为空时返回true
+     */
+    public boolean allows(InetAddress address) {
+        if (empty) {
+            return true;
+        }
+        byte[] bytes = address.getAddress();
+        if (bytes.length == 16 && isIpv4Mapped(bytes)) {
+            bytes = new byte[]{bytes[12], bytes[13], bytes[14], bytes[15]};
+        }
+        Node node = bytes.length == 4 ? ipv4 : ipv6;
+        int bits = bytes.length * 8;
+        for (int i = 0; i < bits; i++) {
+            if (node.terminal) {
+                return true;
+            }
+            node = bit(bytes, i) == 0 ? node.zero : node.one;
+            if (node == null) {
+                return false;
+            }
+        }
+        return node.terminal;
+    }
+
+    private void add(String cidr) {
+        int slash = cidr.indexOf('/');
+        String host = slash < 0 ? cidr : cidr.substring(0, slash);
+        byte[] bytes = NetUtil.createByteArrayFromIpAddressString(host);
+        if (bytes == null) {
+            throw new IllegalArgumentException("IP白名单格式错误: " + cidr);
+        }
+        int maxBits = bytes.length * 8;
+        int prefix;
+        try {
+            prefix = slash < 0 ? maxBits : Integer.parseInt(cidr.substring(slash + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("IP白名单格式错误: " + cidr, e);
+        }
+        if (prefix < 0 || prefix > maxBits) {
+            throw new IllegalArgumentException("IP白名单前缀长度错误: " + cidr);
+        }
+        Node node = bytes.length == 4 ? ipv4 : ipv6;
+        for (int i = 0; i < prefix; i++) {
+            if (bit(bytes, i) == 0) {
+                if (node.zero == null) {
+                    node.zero = new Node();
+                }
+                node = node.zero;
+            } else {
+                if (node.one == null) {
+                    node.one = new Node();
+                }
+                node = node.one;
+            }
+        }
+        node.terminal = true;
+    }
+
+    private static int bit(byte[] bytes, int index) {
+        return (bytes[index >>> 3] >>> (7 - (index & 7))) & 1;
+    }
+
+    private static boolean isIpv4Mapped(byte[] bytes) {
+        for (int i = 0; i < 10; i++) {
+            if (bytes[i] != 0) {
+                return false;
+            }
+        }
+        return bytes[10] == (byte) 0xff && bytes[11] == (byte) 0xff;
+    }
+
+    private static final class Node {
+        private Node zero;
+        private Node one;
+        private boolean terminal;
+    }
+}
@@ -0,0 +1,119 @@
+package net.aibote.server;
+
+import io.netty.channel.IoHandlerFactory;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollIoHandler;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.nio.NioIoHandler;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.uring.IoUring;
+import io.netty.channel.uring.IoUringIoHandler;
+import io.netty.channel.uring.IoUringServerSocketChannel;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Locale;
+
+/**
+ * 网络传输实现
+ * Linux 上优先使用 io_uring 或 epoll 原生传输，不可用时回退到 NIO
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+@Slf4j
+public enum Transport {
+    IO_URING("io_uring"),
+    EPOLL("epoll"),
+    NIO("nio");
+
+    private final String description;
+
+    Transport(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * 当前平台是否可用
+     * @return 可用返回true
+     */
+    public boolean isAvailable() {
+        try {
+            switch (this) {
+                case IO_URING:
+                    return IoUring.isAvailable();
+                case EPOLL:
+                    return Epoll.isAvailable();
+                default:
+                    return true;
+            }
+        } catch (Throwable e) {
+            // 缺少原生库时类加载可能失败
+            return false;
+        }
+    }
+
+    /**
+     * 创建事件循环的 I/O 处理器工厂
+     * @return I/O 处理器工厂
+     */
+    public IoHandlerFactory ioHandlerFactory() {
+        switch (this) {
+            case IO_URING:
+                return IoUringIoHandler.newFactory();
+            case EPOLL:
+                return EpollIoHandler.newFactory();
+            default:
+                return NioIoHandler.newFactory();
+        }
+    }
+
+    /**
+     * 获取服务端通道类型
+     * @return 服务端通道类型
+     */
+    public Class<? extends ServerChannel> serverChannelClass() {
+        switch (this) {
+            case IO_URING:
+                return IoUringServerSocketChannel.class;
+            case EPOLL:
+                return EpollServerSocketChannel.class;
+            default:
+                return NioServerSocketChannel.class;
+        }
+    }
+
+    /**
+     * 按配置选择传输实现
+     * auto 依次尝试 epoll、io_uring、NIO；指定的传输不可用时回退到 NIO
+     * @param name 配置值：auto、epoll、io_uring、nio
+     * @return 可用的传输实现
+     */
+    public static Transport select(String name) {
+        String preferred = name == null ? "auto" : name.trim().toLowerCase(Locale.ROOT);
+        if ("auto".equals(preferred) || preferred.isEmpty()) {
+            for (Transport transport : new Transport[]{EPOLL, IO_URING}) {
+                if (transport.isAvailable()) {
+                    return transport;
+                }
+            }
+            return NIO;
+        }
+        for (Transport transport : values()) {
+            if (transport.description.equals(preferred)) {
+                if (transport.isAvailable()) {
+                    return transport;
+                }
+                log.warn("{}传输不可用，回退到NIO", transport.description);
+                return NIO;
+            }
+        }
+        log.warn("未知的传输类型: {}，回退到NIO", name);
+        return NIO;
+    }
+}
@@ -0,0 +1,29 @@
+package net.aibote.server.impl;
+
+import io.netty.channel.ChannelPipeline;
+import net.aibote.handler.BotTypeDetector;
+import net.aibote.server.BotServer;
+import net.aibote.utils.config.ConfigManager;
+
+/**
+ * 统一端口服务端
+ * 所有类型的驱动连接同一端口，由 {@link BotTypeDetector} 探测类型后装配对应处理器
+ */
+public class UnifiedServer extends BotServer {
+
+    private static final UnifiedServer instance = new UnifiedServer();
+
+    @Override
+    public int getPort() {
+        return ConfigManager.getInstance().getCommunicationConfig().getUnifiedPort();
+    }
+
+    @Override
+    public void handlers(ChannelPipeline pipeline) {
+        pipeline.addLast(new BotTypeDetector());
+    }
+
+    public static BotServer getInstance() {
+        return instance;
+    }
+}
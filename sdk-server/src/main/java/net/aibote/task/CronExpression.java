@@ -0,0 +1,181 @@
+package net.aibote.task;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+
+/**
+ * Cron表达式
+ * 支持5段（分 时 日 月 周）或6段（秒 分 时 日 月 周）格式，
+ * 每段支持 *、?、数字、范围 a-b、步长 a/n 或 a-b/n（* 也可带步长）、逗号分隔的列表，月和周支持英文缩写（JAN、MON）。
+ * 周取值 0-7，0 和 7 都表示周日；日和周同时受限时满足其一即触发（与 Unix cron 一致）
+ * <pre>{@code
+ * CronExpression cron = CronExpression.parse("0 0/10 * * * ?"); // 每10分钟
+ * ZonedDateTime next = cron.next(ZonedDateTime.now());
+ * }</pre>
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+public final class CronExpression {
+
+    private static final String[] MONTH_NAMES = {
+            "JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+    private static final String[] DAY_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+
+    // 找不到下一次触发时间的搜索上限（年），覆盖 2 月 29 日等稀疏表达式
+    private static final int MAX_SEARCH_YEARS = 8;
+
+    private final String expression;
+    private final BitSet seconds;
+    private final BitSet minutes;
+    private final BitSet hours;
+    private final BitSet daysOfMonth;
+    private final BitSet months;
+    private final BitSet daysOfWeek;
+    private final boolean dayOfMonthRestricted;
+    private final boolean dayOfWeekRestricted;
+
+    private CronExpression(String expression, String[] fields) {
+        int offset = fields.length == 6 ? 1 : 0;
+        this.expression = expression;
+        this.seconds = offset == 1 ? parseField(fields[0], 0, 59, null) : single(0);
+        this.minutes = parseField(fields[offset], 0, 59, null);
+        this.hours = parseField(fields[offset + 1], 0, 23, null);
+        this.daysOfMonth = parseField(fields[offset + 2], 1, 31, null);
+        this.months = parseField(fields[offset + 3], 1, 12, MONTH_NAMES);
+        this.daysOfWeek = parseField(fields[offset + 4], 0, 7, DAY_NAMES);
+        if (daysOfWeek.get(7)) {
+            daysOfWeek.set(0);
+            daysOfWeek.clear(7);
+        }
+        this.dayOfMonthRestricted = isRestricted(fields[offset + 2]);
+        this.dayOfWeekRestricted = isRestricted(fields[offset + 4]);
+    }
+
+    /**
+     * 解析Cron表达式
+     * @param expression 表达式
+     * @return Cron表达式
+     * @throws IllegalArgumentException 格式错误
+     */
+    public static CronExpression parse(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Cron表达式不能为空");
+        }
+        String[] fields = expression.trim().split("\\s+");
+        if (fields.length != 5 && fields.length != 6) {
+            throw new IllegalArgumentException("Cron表达式应为5段或6段: " + expression);
+        }
+        return new CronExpression(expression, fields);
+    }
+
+    /**
+     * 计算严格晚于指定时间的下一次触发时间
+     * @param after 起始时间
+     * @return 下一次触发时间，搜索范围内没有时返回null
+     */
+    public ZonedDateTime next(ZonedDateTime after) {
+        ZonedDateTime time = after.truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+        int lastYear = time.getYear() + MAX_SEARCH_YEARS;
+        while (time.getYear() <= lastYear) {
+            if (!months.get(time.getMonthValue())) {
+                time = time.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS).plusMonths(1);
+            } else if (!dayMatches(time)) {
+                time = time.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+            } else if (!hours.get(time.getHour())) {
+                time = time.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+            } else if (!minutes.get(time.getMinute())) {
+                time = time.truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+            } else if (!seconds.get(time.getSecond())) {
+                time = time.plusSeconds(1);
+            } else {
+                return time;
+            }
+        }
+        return null;
+    }
+
+    private boolean dayMatches(ZonedDateTime time) {
+        boolean dayOfMonth = daysOfMonth.get(time.getDayOfMonth());
+        boolean dayOfWeek = daysOfWeek.get(time.getDayOfWeek().getValue() % 7);
+        if (dayOfMonthRestricted && dayOfWeekRestricted) {
+            return dayOfMonth || dayOfWeek;
+        }
+        if (dayOfMonthRestricted) {
+            return dayOfMonth;
+        }
+        return !dayOfWeekRestricted || dayOfWeek;
+    }
+
+    private static boolean isRestricted(String field) {
+        return !"*".equals(field) && !"?".equals(field);
+    }
+
+    private static BitSet single(int value) {
+        BitSet bits = new BitSet();
+        bits.set(value);
+        return bits;
+    }
+
+    private static BitSet parseField(String field, int min, int max, String[] names) {
+        BitSet bits = new BitSet(max + 1);
+        for (String part : field.split(",")) {
+            int step = 1;
+            int slash = part.indexOf('/');
+            if (slash >= 0) {
+                step = parseNumber(part.substring(slash + 1), 1, max, null);
+                part = part.substring(0, slash);
+            }
+            int from;
+            int to;
+            if ("*".equals(part) || "?".equals(part)) {
+                from = min;
+                to = max;
+            } else {
+                int dash = part.indexOf('-');
+                if (dash > 0) {
+                    from = parseNumber(part.substring(0, dash), min, max, names);
+                    to = parseNumber(part.substring(dash + 1), min, max, names);
+                } else {
+                    from = parseNumber(part, min, max, names);
+                    to = slash >= 0 ? max : from;
+                }
+            }
+            if (from > to) {
+                throw new IllegalArgumentException("Cron范围无效: " + field);
+            }
+            for (int value = from; value <= to; value += step) {
+                bits.set(value);
+            }
+        }
+        return bits;
+    }
+
+    private static int parseNumber(String text, int min, int max, String[] names) {
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equalsIgnoreCase(text)) {
+                    // 月份从1开始，周从0（周日）开始
+                    return min == 1 ? i + 1 : i;
+                }
+            }
+        }
+        int value;
+        try {
+            value = Integer.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Cron字段无效: " + text);
+        }
+        if (value < min || value > max) {
+            throw new IllegalArgumentException("Cron字段超出范围[" + min + "," + max + "]: " + text);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,329 @@
+package net.aibote.task;
+
+import io.netty.util.Timeout;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import net.aibote.handler.AiboteChannel;
+import net.aibote.handler.DeviceProfile;
+import net.aibote.handler.DeviceSelector;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 多设备并行执行句柄
+ * 由 {@link TaskEngine#fanOut} 返回。同一任务在每台满足条件的设备上各执行一次，
+ * 同时提交到派发队列的设备数不超过并行上限，某台设备结束后再提交下一台；
+ * 每台设备从提交起（含等待设备空闲的时间）超过截止时间即被取消。
+ * 每台设备一结束就产生一条 {@link DeviceResult}，可逐条取出或注册回调，不必等待最慢的设备
+ * <pre>{@code
+ * FanOutExecution fanOut = engine.fanOut(taskId, DeviceSelector.platform(BotFactory.BotType.ANDROID));
+ * DeviceResult result;
+ * while ((result = fanOut.take()) != null) {
+ *     log.info("{} {}", result.getDeviceId(), result.getStatus());
+ * }
+ * }</pre>
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+@Slf4j
+public class FanOutExecution {
+
+    @Getter
+    private final String taskId;
+    @Getter
+    private final TaskPriority priority;
+    @Getter
+    private final long deviceTimeoutMillis;
+    @Getter
+    private final int parallelism;
+
+    private final TaskEngine engine;
+    private final TaskScheduler scheduler;
+    private final DeviceSelector selector;
+    private final int deviceCount;
+    // 尚未提交的设备，受 this 锁保护
+    private final ArrayDeque<AiboteChannel> pending;
+    private final Map<String, TaskExecution> running = new ConcurrentHashMap<>();
+    private final List<DeviceResult> results = new CopyOnWriteArrayList<>();
+    private final BlockingQueue<DeviceResult> stream = new LinkedBlockingQueue<>();
+    private final List<Consumer<DeviceResult>> listeners = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<List<DeviceResult>> future = new CompletableFuture<>();
+    private final AtomicInteger taken = new AtomicInteger();
+    // 提交循环的重入计数，保证同步完成的设备不会递归提交
+    private final AtomicInteger wip = new AtomicInteger();
+    // 已提交尚未结束的设备数，受 this 锁保护
+    private int active;
+    private volatile boolean cancelled;
+
+    FanOutExecution(TaskEngine engine, TaskScheduler scheduler, String taskId, DeviceSelector selector,
+                    TaskPriority priority, long deviceTimeoutMillis, int parallelism, List<AiboteChannel> devices) {
+        this.engine = engine;
+        this.scheduler = scheduler;
+        this.taskId = taskId;
+        this.selector = selector;
+        this.priority = priority;
+        this.deviceTimeoutMillis = deviceTimeoutMillis;
+        this.parallelism = Math.max(1, parallelism);
+        this.deviceCount = devices.size();
+        this.pending = new ArrayDeque<>(devices);
+    }
+
+    /**
+     * 开始提交，设备列表为空时立即完成
+     */
+    void start() {
+        if (deviceCount == 0) {
+            future.complete(List.of());
+            return;
+        }
+        pump();
+    }
+
+    /**
+     * 取出下一条已完成的设备结果，没有时阻塞等待；只应由一个线程消费
+     * @return 设备结果，全部结果已取出时返回null
+     * @throws InterruptedException 如果线程被中断
+     */
+    public DeviceResult take() throws InterruptedException {
+        if (taken.get() >= deviceCount) {
+            return null;
+        }
+        DeviceResult result = stream.take();
+        taken.incrementAndGet();
+        return result;
+    }
+
+    /**
+     * 取出下一条已完成的设备结果，最多等待指定时间；只应由一个线程消费
+     * @param timeout 超时时间
+     * @param unit 时间单位
+     * @return 设备结果，超时或全部结果已取出时返回null
+     * @throws InterruptedException 如果线程被中断
+     */
+    public DeviceResult poll(long timeout, TimeUnit unit) throws InterruptedException {
+        if (taken.get() >= deviceCount) {
+            return null;
+        }
+        DeviceResult result = stream.poll(timeout, unit);
+        if (result != null) {
+            taken.incrementAndGet();
+        }
+        return result;
+    }
+
+    /**
+     * 注册结果回调，每台设备结束时在结束它的线程上调用；注册前已完成的结果会立即回放
+     * 回调与 {@link #take()} 相互独立，可同时使用
+     * @param listener 回调
+     * @return 当前句柄
+     */
+    public FanOutExecution onResult(Consumer<DeviceResult> listener) {
+        synchronized (listeners) {
+            listeners.add(listener);
+            for (DeviceResult result : results) {
+                listener.accept(result);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 获取全部设备结束时完成的 future，结果按完成顺序排列
+     * @return future
+     */
+    public CompletableFuture<List<DeviceResult>> getFuture() {
+        return future;
+    }
+
+    /**
+     * 获取参与执行的设备数
+     * @return 设备数
+     */
+    public int getDeviceCount() {
+        return deviceCount;
+    }
+
+    /**
+     * 获取已结束的设备数
+     * @return 设备数
+     */
+    public int getCompletedCount() {
+        return results.size();
+    }
+
+    /**
+     * 是否所有设备都已结束
+     * @return 全部结束返回true
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * 取消：尚未提交的设备直接以取消结束，已提交的执行被取消
+     * @return 本次调用成功取消返回true
+     */
+    public boolean cancel() {
+        List<AiboteChannel> skipped;
+        synchronized (this) {
+            if (cancelled) {
+                return false;
+            }
+            cancelled = true;
+            skipped = List.copyOf(pending);
+            pending.clear();
+        }
+        for (AiboteChannel device : skipped) {
+            record(new DeviceResult(device.getId(), device.getProfile(), null, TaskExecution.Status.CANCELLED, false, null, 0));
+        }
+        running.values().forEach(TaskExecution::cancel);
+        return true;
+    }
+
+    /**
+     * 在并行上限内提交尚未提交的设备
+     */
+    private void pump() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            AiboteChannel device;
+            while ((device = next()) != null) {
+                launch(device);
+            }
+        } while (wip.decrementAndGet() != 0);
+    }
+
+    private synchronized AiboteChannel next() {
+        if (cancelled || active >= parallelism || pending.isEmpty()) {
+            return null;
+        }
+        active++;
+        return pending.poll();
+    }
+
+    private void launch(AiboteChannel device) {
+        String deviceId = device.getId();
+        TaskExecution execution;
+        try {
+            execution = engine.submit(taskId, selector.toBuilder().deviceId(deviceId).build(), priority,
+                    device.aiboteChanel.channel());
+        } catch (RuntimeException e) {
+            finish(new DeviceResult(deviceId, device.getProfile(), null, TaskExecution.Status.FAILED, false, e, 0));
+            return;
+        }
+        if (execution == null) {
+            finish(new DeviceResult(deviceId, device.getProfile(), null, TaskExecution.Status.FAILED, false,
+                    new IllegalStateException("未找到任务: " + taskId), 0));
+            return;
+        }
+        running.put(deviceId, execution);
+        AtomicBoolean expired = new AtomicBoolean();
+        Timeout deadline = deviceTimeoutMillis > 0 ? scheduler.newTimeout(() -> {
+            expired.set(true);
+            execution.cancel();
+        }, deviceTimeoutMillis) : null;
+        if (cancelled) {
+            execution.cancel();
+        }
+        execution.getFuture().whenComplete((v, e) -> {
+            if (deadline != null) {
+                deadline.cancel();
+            }
+            running.remove(deviceId);
+            TaskExecution.Status status = execution.getStatus();
+            boolean timedOut = expired.get() && status == TaskExecution.Status.CANCELLED;
+            finish(new DeviceResult(deviceId, device.getProfile(), execution.getExecutionId(), status,
+                    timedOut, execution.getError(), execution.getDuration()));
+        });
+    }
+
+    /**
+     * 已提交的设备结束：释放并行名额、记录结果并提交下一台
+     */
+    private void finish(DeviceResult result) {
+        synchronized (this) {
+            active--;
+        }
+        record(result);
+        pump();
+    }
+
+    private void record(DeviceResult result) {
+        // 与回放互斥，保证每个回调对每条结果只调用一次
+        synchronized (listeners) {
+            results.add(result);
+            for (Consumer<DeviceResult> listener : listeners) {
+                try {
+                    listener.accept(result);
+                } catch (Exception e) {
+                    log.warn("多设备执行结果回调失败: {}", result.getDeviceId(), e);
+                }
+            }
+        }
+        stream.offer(result);
+        if (results.size() == deviceCount) {
+            future.complete(List.copyOf(results));
+        }
+    }
+
+    /**
+     * 单台设备的执行结果
+     */
+    @Data
+    @AllArgsConstructor
+    public static class DeviceResult {
+        /**
+         * 设备（客户端）ID
+         */
+        private String deviceId;
+        /**
+         * 设备属性
+         */
+        private DeviceProfile profile;
+        /**
+         * 执行ID，未提交（取消或提交失败）时为null
+         */
+        private String executionId;
+        /**
+         * 最终状态
+         */
+        private TaskExecution.Status status;
+        /**
+         * 是否因超过单设备截止时间被取消
+         */
+        private boolean timedOut;
+        /**
+         * 失败原因，成功或取消时为null
+         */
+        private Throwable error;
+        /**
+         * 执行耗时（毫秒），未开始执行时为0
+         */
+        private long durationMillis;
+
+        /**
+         * 是否执行成功
+         * @return 成功返回true
+         */
+        public boolean isSuccess() {
+            return status == TaskExecution.Status.SUCCEEDED;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package net.aibote.task;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * 定时任务选项
+ * 未设置的选项使用默认值：普通优先级、派发到任意一台满足条件的设备、配置的抖动范围、错过时补执行一次。
+ * 选项不可变，可在多个定时任务间共享；基于已有选项修改时使用 {@code toBuilder()}
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+@Value
+@Builder(toBuilder = true)
+public class ScheduleOptions {
+
+    /**
+     * 错过触发时间（超过 performance.misfireThreshold）时的处理策略
+     */
+    public enum MisfirePolicy {
+        /**
+         * 立即补执行一次，之后按计划继续；错过的多个周期只补一次
+         */
+        FIRE_ONCE,
+        /**
+         * 跳过本次，等待下一次计划时间
+         */
+        SKIP
+    }
+
+    private static final ScheduleOptions DEFAULTS = ScheduleOptions.builder().build();
+
+    /**
+     * 派发优先级，默认普通
+     */
+    private TaskPriority priority;
+
+    /**
+     * 是否在每台满足条件的设备上各执行一次，默认只派发到任意一台
+     */
+    private boolean everyDevice;
+
+    /**
+     * 触发抖动上限（毫秒），默认取 performance.scheduleJitter；
+     * 每台设备的触发时间在 [0, 抖动上限) 内按设备错开，避免大量定时任务在同一时刻触发
+     */
+    private Long jitterMillis;
+
+    /**
+     * 错过触发时间时的处理策略，默认补执行一次
+     */
+    private MisfirePolicy misfirePolicy;
+
+    /**
+     * 默认选项
+     * @return 选项
+     */
+    public static ScheduleOptions defaults() {
+        return DEFAULTS;
+    }
+}
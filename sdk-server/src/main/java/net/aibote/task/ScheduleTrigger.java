@@ -0,0 +1,164 @@
+package net.aibote.task;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * 定时触发规则
+ * 支持 Cron 表达式、固定频率（按计划时间等间隔触发）和固定延迟（上一次执行结束后再等待固定时间）
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+@Getter
+public final class ScheduleTrigger {
+
+    /**
+     * 触发类型
+     */
+    public enum Type {
+        CRON("Cron表达式"),
+        FIXED_RATE("固定频率"),
+        FIXED_DELAY("固定延迟");
+
+        private final String description;
+
+        Type(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private final Type type;
+    private final CronExpression cron;
+    private final ZoneId zone;
+    private final long initialDelayMillis;
+    private final long periodMillis;
+
+    private ScheduleTrigger(Type type, CronExpression cron, ZoneId zone, long initialDelayMillis, long periodMillis) {
+        this.type = type;
+        this.cron = cron;
+        this.zone = zone;
+        this.initialDelayMillis = initialDelayMillis;
+        this.periodMillis = periodMillis;
+    }
+
+    /**
+     * 按系统时区的 Cron 表达式触发
+     * @param expression Cron表达式
+     * @return 触发规则
+     * @throws IllegalArgumentException 表达式格式错误
+     */
+    public static ScheduleTrigger cron(String expression) {
+        return cron(expression, ZoneId.systemDefault());
+    }
+
+    /**
+     * 按指定时区的 Cron 表达式触发
+     * @param expression Cron表达式
+     * @param zone 时区
+     * @return 触发规则
+     * @throws IllegalArgumentException 表达式格式错误
+     */
+    public static ScheduleTrigger cron(String expression, ZoneId zone) {
+        return new ScheduleTrigger(Type.CRON, CronExpression.parse(expression), zone, 0, 0);
+    }
+
+    /**
+     * 固定频率触发，首次在一个周期后触发
+     * @param periodMillis 周期（毫秒）
+     * @return 触发规则
+     */
+    public static ScheduleTrigger fixedRate(long periodMillis) {
+        return fixedRate(periodMillis, periodMillis);
+    }
+
+    /**
+     * 固定频率触发
+     * @param initialDelayMillis 首次触发延迟（毫秒）
+     * @param periodMillis 周期（毫秒）
+     * @return 触发规则
+     */
+    public static ScheduleTrigger fixedRate(long initialDelayMillis, long periodMillis) {
+        return new ScheduleTrigger(Type.FIXED_RATE, null, null, checkDelay(initialDelayMillis), checkPeriod(periodMillis));
+    }
+
+    /**
+     * 固定延迟触发，首次在一个延迟后触发
+     * @param delayMillis 上一次执行结束到下一次触发的间隔（毫秒）
+     * @return 触发规则
+     */
+    public static ScheduleTrigger fixedDelay(long delayMillis) {
+        return fixedDelay(delayMillis, delayMillis);
+    }
+
+    /**
+     * 固定延迟触发
+     * @param initialDelayMillis 首次触发延迟（毫秒）
+     * @param delayMillis 上一次执行结束到下一次触发的间隔（毫秒）
+     * @return 触发规则
+     */
+    public static ScheduleTrigger fixedDelay(long initialDelayMillis, long delayMillis) {
+        return new ScheduleTrigger(Type.FIXED_DELAY, null, null, checkDelay(initialDelayMillis), checkPeriod(delayMillis));
+    }
+
+    /**
+     * 首次触发时间
+     * @param now 当前时间（毫秒）
+     * @return 触发时间（毫秒），Cron 没有下一次时返回-1
+     */
+    long firstFireTime(long now) {
+        if (type == Type.CRON) {
+            return nextCron(now);
+        }
+        return now + initialDelayMillis;
+    }
+
+    /**
+     * 本次触发后的下一次计划时间，错过的周期直接跳过；固定延迟由执行结束时间决定，不在此计算
+     * @param scheduled 本次计划触发时间（毫秒）
+     * @param now 当前时间（毫秒）
+     * @return 下一次计划时间（毫秒），Cron 没有下一次时返回-1
+     */
+    long nextFireTime(long scheduled, long now) {
+        if (type == Type.CRON) {
+            return nextCron(Math.max(scheduled, now));
+        }
+        long next = scheduled + periodMillis;
+        if (next <= now) {
+            next += ((now - next) / periodMillis + 1) * periodMillis;
+        }
+        return next;
+    }
+
+    private long nextCron(long after) {
+        ZonedDateTime next = cron.next(ZonedDateTime.ofInstant(Instant.ofEpochMilli(after), zone));
+        return next == null ? -1 : next.toInstant().toEpochMilli();
+    }
+
+    private static long checkDelay(long delayMillis) {
+        if (delayMillis < 0) {
+            throw new IllegalArgumentException("延迟不能为负数: " + delayMillis);
+        }
+        return delayMillis;
+    }
+
+    private static long checkPeriod(long periodMillis) {
+        if (periodMillis <= 0) {
+            throw new IllegalArgumentException("周期必须大于0: " + periodMillis);
+        }
+        return periodMillis;
+    }
+
+    @Override
+    public String toString() {
+        return type == Type.CRON ? "cron(" + cron + ")" : type.name().toLowerCase() + "(" + periodMillis + "ms)";
+    }
+}
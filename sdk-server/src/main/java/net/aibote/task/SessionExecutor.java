@@ -0,0 +1,119 @@
+package net.aibote.task;
+
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 会话执行器
+ * 每个设备会话的任务在独立的虚拟线程上执行，不占用 Netty 的 I/O 线程；
+ * 启动延迟由通道所属事件循环的定时器调度，而不是 sleep 阻塞。
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+@Slf4j
+public class SessionExecutor {
+
+    private static final SessionExecutor INSTANCE = new SessionExecutor();
+    private static final AttributeKey<Future<?>> SESSION_TASK = AttributeKey.valueOf("aibote.sessionTask");
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("Aibote-Session-", 1).factory());
+    private final AtomicInteger activeSessions = new AtomicInteger();
+
+    private SessionExecutor() {
+        // 私有构造函数
+    }
+
+    /**
+     * 获取单例实例
+     * @return SessionExecutor单例
+     */
+    public static SessionExecutor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 延迟启动会话任务
+     * 到期时通道已断开则不再执行
+     * @param channel 设备通道
+     * @param delayMillis 启动延迟（毫秒），小于等于0时立即启动
+     * @param task 会话任务
+     */
+    public void start(Channel channel, long delayMillis, Runnable task) {
+        Future<?> scheduled = channel.eventLoop().schedule(() -> dispatch(channel, task),
+                Math.max(0L, delayMillis), TimeUnit.MILLISECONDS);
+        channel.attr(SESSION_TASK).set(scheduled);
+    }
+
+    /**
+     * 停止会话任务
+     * 尚未启动的直接取消，已启动的中断其虚拟线程
+     * @param channel 设备通道
+     */
+    public void stop(Channel channel) {
+        Future<?> task = channel.attr(SESSION_TASK).getAndSet(null);
+        if (task != null) {
+            task.cancel(true);
+        }
+    }
+
+    /**
+     * 获取正在执行的会话任务数
+     * @return 会话任务数
+     */
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    /**
+     * 关闭执行器，不再接受新会话，已启动的会话继续执行
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 等待已启动的会话全部结束
+     * @param timeout 超时时间
+     * @param unit 时间单位
+     * @return 全部结束返回true，超时返回false
+     * @throws InterruptedException 如果线程被中断
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * 中断所有仍在执行的会话
+     */
+    public void shutdownNow() {
+        executor.shutdownNow();
+    }
+
+    private void dispatch(Channel channel, Runnable task) {
+        if (!channel.isActive() || executor.isShutdown()) {
+            return;
+        }
+        Future<?> running = executor.submit(() -> {
+            activeSessions.incrementAndGet();
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("会话任务执行失败: {}", channel.id().asShortText(), e);
+            } finally {
+                activeSessions.decrementAndGet();
+            }
+        });
+        // 调度与 stop 都在通道的事件循环上执行，这里直接替换为运行中的任务
+        channel.attr(SESSION_TASK).set(running);
+    }
+}
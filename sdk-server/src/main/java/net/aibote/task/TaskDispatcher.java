@@ -0,0 +1,446 @@
+package net.aibote.task;
+
+import lombok.extern.slf4j.Slf4j;
+import net.aibote.handler.ClientManager;
+import net.aibote.handler.DeviceLease;
+import net.aibote.handler.DeviceSelector;
+import net.aibote.sdk.exception.TaskRejectedException;
+import net.aibote.sdk.factory.BotFactory;
+import net.aibote.utils.config.BotConfig;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * 任务派发队列
+ * 提交的任务在此排队，等到满足条件的设备空闲时才租借设备并交给 {@link TaskEngine} 执行，
+ * 任务等待的是设备而不是线程。
+ * 派发顺序：优先级之间严格从高到低；同一优先级内各机器人类型按配置权重平滑加权轮询；
+ * 同一类型内按选择条件分组轮流派发（指定设备的任务每台设备一组），组内先进先出。
+ * 某组队首任务租不到设备时本轮跳过该组，不阻塞其他组。
+ * 租借设备前先取得执行许可（performance.maxConcurrency），许可用完时暂停派发，不会租着设备等线程；
+ * 许可随执行结束归还，归还时唤醒派发。
+ * 派发由设备空闲通知或新任务入队触发，在单独的虚拟线程上执行
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+@Slf4j
+class TaskDispatcher {
+
+    /**
+     * 队列已满时的拒绝策略
+     */
+    enum RejectionPolicy {
+        ABORT, DISCARD, DISCARD_LOWEST;
+
+        static RejectionPolicy of(String name) {
+            if ("discard".equalsIgnoreCase(name)) {
+                return DISCARD;
+            }
+            if ("discardLowest".equalsIgnoreCase(name)) {
+                return DISCARD_LOWEST;
+            }
+            return ABORT;
+        }
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<TaskPriority, Tier> tiers = new EnumMap<>(TaskPriority.class);
+    private final Map<String, Integer> weights;
+    private final int capacity;
+    private final RejectionPolicy policy;
+    private final ClientManager clientManager;
+    private final BiConsumer<QueuedTask, DeviceLease> launcher;
+    private final Semaphore permits;
+    private final Semaphore wakeup = new Semaphore(0);
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final Thread worker;
+
+    // 以下字段受 lock 保护
+    private int queued;
+    private long pass;
+    private boolean purgeNeeded;
+    private volatile boolean stopped;
+
+    /**
+     * @param permits 执行许可，派发时取得，由 launcher 在执行结束时归还并调用 {@link #signal()}
+     */
+    TaskDispatcher(BotConfig.PerformanceConfig config, ClientManager clientManager, Semaphore permits,
+                   BiConsumer<QueuedTask, DeviceLease> launcher) {
+        this.capacity = Math.max(1, config.getDispatchQueueCapacity());
+        this.policy = RejectionPolicy.of(config.getRejectionPolicy());
+        this.weights = config.getDispatchWeights() != null ? config.getDispatchWeights() : Map.of();
+        this.clientManager = clientManager;
+        this.launcher = launcher;
+        this.permits = permits;
+        for (TaskPriority priority : TaskPriority.values()) {
+            tiers.put(priority, new Tier());
+        }
+        this.worker = Thread.ofVirtual().name("Aibote-Dispatcher").start(this::loop);
+        clientManager.addIdleListener(this::signal);
+    }
+
+    /**
+     * 任务入队，队列已满时按拒绝策略处理
+     * @param execution 执行句柄
+     * @param definition 任务定义
+     * @param selector 设备选择条件
+     * @param priority 优先级
+     * @param botType 所属机器人类型，用于加权轮询，null表示不限类型
+     * @throws TaskRejectedException 策略为 abort（或 discardLowest 没有可丢弃的任务）且队列已满
+     */
+    void offer(TaskExecution execution, TaskDefinition definition, DeviceSelector selector,
+               TaskPriority priority, BotFactory.BotType botType) {
+        QueuedTask task = new QueuedTask(execution, definition, selector, priority, botType, sequence.incrementAndGet());
+        QueuedTask victim = null;
+        lock.lock();
+        try {
+            if (stopped) {
+                throw new IllegalStateException("任务引擎已关闭");
+            }
+            if (queued >= capacity) {
+                rejectedCount.incrementAndGet();
+                if (policy == RejectionPolicy.DISCARD) {
+                    execution.fail(new TaskRejectedException(definition.getTaskName() + " 已丢弃"));
+                    return;
+                }
+                victim = policy == RejectionPolicy.DISCARD_LOWEST ? removeOldestBelow(priority) : null;
+                if (victim == null) {
+                    throw new TaskRejectedException(definition.getTaskName() + " 已拒绝，容量" + capacity);
+                }
+            }
+            tiers.get(priority).add(task, weightOf(botType));
+            queued++;
+        } finally {
+            lock.unlock();
+        }
+        if (victim != null) {
+            log.warn("派发队列已满，丢弃{}优先级任务: {}", victim.priority.getDescription(), victim.execution);
+            victim.execution.fail(new TaskRejectedException(victim.definition.getTaskName() + " 被更高优先级任务挤出"));
+        }
+        signal();
+    }
+
+    /**
+     * 排队中的任务被取消后调用，下一轮派发时清理
+     */
+    void cancelled() {
+        lock.lock();
+        try {
+            purgeNeeded = true;
+        } finally {
+            lock.unlock();
+        }
+        signal();
+    }
+
+    /**
+     * 唤醒派发线程
+     */
+    void signal() {
+        wakeup.release();
+    }
+
+    /**
+     * 停止派发并取出所有排队中的任务
+     * @return 未派发的任务
+     */
+    List<TaskExecution> stop() {
+        List<TaskExecution> drained = new ArrayList<>();
+        lock.lock();
+        try {
+            stopped = true;
+            for (Tier tier : tiers.values()) {
+                for (Lane lane : tier.lanes.values()) {
+                    for (ArrayDeque<QueuedTask> bucket : lane.buckets.values()) {
+                        bucket.forEach(task -> drained.add(task.execution));
+                    }
+                    lane.buckets.clear();
+                    lane.rotation.clear();
+                }
+            }
+            queued = 0;
+        } finally {
+            lock.unlock();
+        }
+        worker.interrupt();
+        return drained;
+    }
+
+    /**
+     * 获取排队中的任务数
+     * @return 任务数
+     */
+    int getQueuedCount() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 获取指定优先级排队中的任务数
+     * @param priority 优先级
+     * @return 任务数
+     */
+    int getQueuedCount(TaskPriority priority) {
+        lock.lock();
+        try {
+            return tiers.get(priority).size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 获取因队列已满被拒绝或丢弃的任务数
+     * @return 任务数
+     */
+    long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private void loop() {
+        while (!stopped) {
+            try {
+                wakeup.acquire();
+                wakeup.drainPermits();
+                dispatch();
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                log.error("任务派发失败", e);
+            }
+        }
+    }
+
+    /**
+     * 一轮派发：按优先级从高到低，每个优先级内反复选出加权轮询的下一类型派发一个任务，
+     * 直到所有类型都没有可派发的任务
+     */
+    private void dispatch() {
+        lock.lock();
+        try {
+            if (purgeNeeded) {
+                purge();
+            }
+            pass++;
+            for (Tier tier : tiers.values()) {
+                tier.lanes.values().forEach(lane -> lane.blocked = false);
+                Lane lane;
+                while ((lane = tier.next()) != null) {
+                    if (permits.availablePermits() == 0) {
+                        // 执行数已达上限，等执行结束归还许可后再派发
+                        return;
+                    }
+                    QueuedTask task = poll(lane);
+                    if (task == null) {
+                        lane.blocked = true;
+                        continue;
+                    }
+                    tier.size--;
+                    queued--;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 在类型内按分组轮流尝试，取得执行许可并租到设备即派发该组队首任务
+     * @return 已派发的任务，所有分组都租不到设备或没有执行许可时返回null
+     */
+    private QueuedTask poll(Lane lane) {
+        for (int i = lane.rotation.size(); i > 0; i--) {
+            DeviceSelector selector = lane.rotation.poll();
+            ArrayDeque<QueuedTask> bucket = lane.buckets.get(selector);
+            if (lane.blockedPass.getOrDefault(selector, 0L) == pass) {
+                lane.rotation.offer(selector);
+                continue;
+            }
+            if (!permits.tryAcquire()) {
+                lane.rotation.offer(selector);
+                return null;
+            }
+            DeviceLease lease = clientManager.tryLease(selector);
+            if (lease == null) {
+                permits.release();
+                lane.blockedPass.put(selector, pass);
+                lane.rotation.offer(selector);
+                continue;
+            }
+            QueuedTask task = bucket.poll();
+            if (bucket.isEmpty()) {
+                lane.buckets.remove(selector);
+                lane.blockedPass.remove(selector);
+            } else {
+                lane.rotation.offer(selector);
+            }
+            launcher.accept(task, lease);
+            return task;
+        }
+        return null;
+    }
+
+    /**
+     * 移除已结束（被取消）的排队任务
+     */
+    private void purge() {
+        purgeNeeded = false;
+        for (Tier tier : tiers.values()) {
+            for (Lane lane : tier.lanes.values()) {
+                Iterator<Map.Entry<DeviceSelector, ArrayDeque<QueuedTask>>> it = lane.buckets.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<DeviceSelector, ArrayDeque<QueuedTask>> entry = it.next();
+                    ArrayDeque<QueuedTask> bucket = entry.getValue();
+                    int before = bucket.size();
+                    bucket.removeIf(task -> task.execution.isDone());
+                    tier.size -= before - bucket.size();
+                    queued -= before - bucket.size();
+                    if (bucket.isEmpty()) {
+                        it.remove();
+                        lane.rotation.remove(entry.getKey());
+                        lane.blockedPass.remove(entry.getKey());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 取出比指定优先级更低的优先级中最早排队的任务，从最低优先级开始找
+     */
+    private QueuedTask removeOldestBelow(TaskPriority priority) {
+        TaskPriority[] priorities = TaskPriority.values();
+        for (int i = priorities.length - 1; i > priority.ordinal(); i--) {
+            Tier tier = tiers.get(priorities[i]);
+            Lane oldestLane = null;
+            DeviceSelector oldestSelector = null;
+            QueuedTask oldest = null;
+            for (Lane lane : tier.lanes.values()) {
+                for (Map.Entry<DeviceSelector, ArrayDeque<QueuedTask>> entry : lane.buckets.entrySet()) {
+                    QueuedTask head = entry.getValue().peek();
+                    if (head != null && (oldest == null || head.sequence < oldest.sequence)) {
+                        oldest = head;
+                        oldestLane = lane;
+                        oldestSelector = entry.getKey();
+                    }
+                }
+            }
+            if (oldest != null) {
+                ArrayDeque<QueuedTask> bucket = oldestLane.buckets.get(oldestSelector);
+                bucket.poll();
+                if (bucket.isEmpty()) {
+                    oldestLane.buckets.remove(oldestSelector);
+                    oldestLane.rotation.remove(oldestSelector);
+                    oldestLane.blockedPass.remove(oldestSelector);
+                }
+                tier.size--;
+                queued--;
+                return oldest;
+            }
+        }
+        return null;
+    }
+
+    private int weightOf(BotFactory.BotType botType) {
+        if (botType == null) {
+            return 1;
+        }
+        Integer weight = weights.get(botType.name());
+        return weight == null ? 1 : Math.max(1, weight);
+    }
+
+    /**
+     * 排队中的任务
+     */
+    static final class QueuedTask {
+        final TaskExecution execution;
+        final TaskDefinition definition;
+        final DeviceSelector selector;
+        final TaskPriority priority;
+        final BotFactory.BotType botType;
+        final long sequence;
+
+        QueuedTask(TaskExecution execution, TaskDefinition definition, DeviceSelector selector,
+                   TaskPriority priority, BotFactory.BotType botType, long sequence) {
+            this.execution = execution;
+            this.definition = definition;
+            this.selector = selector;
+            this.priority = priority;
+            this.botType = botType;
+            this.sequence = sequence;
+        }
+    }
+
+    /**
+     * 一个优先级内的所有任务，按机器人类型分道
+     */
+    private static final class Tier {
+        private final Map<BotFactory.BotType, Lane> lanes = new HashMap<>();
+        private int size;
+
+        void add(QueuedTask task, int weight) {
+            Lane lane = lanes.computeIfAbsent(task.botType, t -> new Lane(weight));
+            lane.buckets.computeIfAbsent(task.selector, s -> {
+                lane.rotation.offer(s);
+                return new ArrayDeque<>();
+            }).offer(task);
+            size++;
+        }
+
+        /**
+         * 平滑加权轮询：在本轮未阻塞且非空的类型中选出下一个
+         */
+        Lane next() {
+            Lane best = null;
+            int total = 0;
+            for (Lane lane : lanes.values()) {
+                if (lane.blocked || lane.buckets.isEmpty()) {
+                    continue;
+                }
+                lane.current += lane.weight;
+                total += lane.weight;
+                if (best == null || lane.current > best.current) {
+                    best = lane;
+                }
+            }
+            if (best != null) {
+                best.current -= total;
+            }
+            return best;
+        }
+    }
+
+    /**
+     * 一个机器人类型的任务，按选择条件分组
+     */
+    private static final class Lane {
+        private final int weight;
+        private final Map<DeviceSelector, ArrayDeque<QueuedTask>> buckets = new LinkedHashMap<>();
+        private final ArrayDeque<DeviceSelector> rotation = new ArrayDeque<>();
+        private final Map<DeviceSelector, Long> blockedPass = new HashMap<>();
+        private int current;
+        private boolean blocked;
+
+        Lane(int weight) {
+            this.weight = weight;
+        }
+    }
+}
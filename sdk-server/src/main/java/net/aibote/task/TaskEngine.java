@@ -1,18 +1,39 @@
 package net.aibote.task;
 
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import lombok.extern.slf4j.Slf4j;
+import net.aibote.handler.AiboteChannel;
+import net.aibote.handler.ClientManager;
+import net.aibote.handler.DeviceLease;
+import net.aibote.handler.DeviceSelector;
 import net.aibote.sdk.AbstractPlatformBot;
+import net.aibote.sdk.exception.TaskRejectedException;
 import net.aibote.sdk.factory.BotFactory;
+import net.aibote.utils.config.BotConfig;
+import net.aibote.utils.config.ConfigManager;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 任务执行引擎
  * 负责管理、调度和执行自动化任务
  * 支持任务注册、客户端连接触发执行等功能
+ * 每次执行在独立的虚拟线程上运行，同时执行的任务数受 performance.maxConcurrency 限制，
+ * 提交后立即返回 {@link TaskExecution} 句柄。
+ * 任务先进入 {@link TaskDispatcher} 派发队列，按优先级和公平策略等到满足条件的空闲设备，
+ * 派发时先取得执行许可再租借设备，执行结束归还设备和许可
  *
  * @author AIBoTe
  * @version 1.0
@@ -24,9 +45,20 @@ public class TaskEngine {
     private static final TaskEngine INSTANCE = new TaskEngine();
     private final Map<String, TaskDefinition> registeredTasks = new ConcurrentHashMap<>();
     private final AtomicLong taskIdGenerator = new AtomicLong(1);
+    private final AtomicLong executionIdGenerator = new AtomicLong(1);
+    private final Map<String, TaskExecution> executions = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("Aibote-Task-", 1).factory());
+    private final Semaphore permits;
+    private final TaskDispatcher dispatcher;
+    private final TaskScheduler scheduler;
     
     private TaskEngine() {
-        // 私有构造函数
+        int maxConcurrency = ConfigManager.getInstance().getPerformanceConfig().getMaxConcurrency();
+        this.permits = new Semaphore(Math.max(1, maxConcurrency));
+        this.dispatcher = new TaskDispatcher(ConfigManager.getInstance().getPerformanceConfig(),
+                ClientManager.getInstance(), permits, this::launch);
+        this.scheduler = new TaskScheduler(ConfigManager.getInstance().getPerformanceConfig(), this);
     }
     
     /**
@@ -85,63 +117,387 @@ public class TaskEngine {
      * 客户端连接时执行默认任务
      * @param ctx 客户端通道上下文
      * @param botType 机器人类型
+     * @return 执行句柄，没有默认任务时返回null
      */
-    public void executeDefaultTask(ChannelHandlerContext ctx, BotFactory.BotType botType) {
+    public TaskExecution executeDefaultTask(ChannelHandlerContext ctx, BotFactory.BotType botType) {
         // 查找默认任务（可以根据botType选择不同的默认任务）
         String defaultTaskId = findDefaultTaskId(botType);
         if (defaultTaskId != null) {
-            executeTask(defaultTaskId, ctx, botType);
-        } else {
-            log.warn("未找到{}类型的默认任务", botType);
+            return executeTask(defaultTaskId, ctx, botType);
         }
+        log.warn("未找到{}类型的默认任务", botType);
+        return null;
     }
     
     /**
-     * 执行指定任务
+     * 提交任务在指定连接的设备上执行，立即返回
+     * 任务以普通优先级排队，等到该设备空闲时租借并执行
      * @param taskId 任务ID
      * @param ctx 客户端通道上下文
      * @param botType 机器人类型
+     * @return 执行句柄，任务不存在时返回null
+     * @throws TaskRejectedException 派发队列已满且拒绝策略为 abort
      */
-    public void executeTask(String taskId, ChannelHandlerContext ctx, BotFactory.BotType botType) {
+    public TaskExecution executeTask(String taskId, ChannelHandlerContext ctx, BotFactory.BotType botType) {
+        Channel channel = ctx.channel();
+        DeviceSelector selector = DeviceSelector.builder()
+                .platform(botType)
+                .deviceId(channel.id().asLongText())
+                .build();
+        return submit(taskId, selector, TaskPriority.NORMAL, channel);
+    }
+    
+    /**
+     * 提交任务到派发队列，立即返回
+     * 任务等到满足条件的空闲设备后租借并执行，执行结束归还设备
+     * @param taskId 任务ID
+     * @param selector 设备选择条件
+     * @param priority 优先级
+     * @return 执行句柄，任务不存在时返回null
+     * @throws TaskRejectedException 派发队列已满且拒绝策略为 abort
+     */
+    public TaskExecution submit(String taskId, DeviceSelector selector, TaskPriority priority) {
+        return submit(taskId, selector, priority, null);
+    }
+    
+    /**
+     * 提交任务到派发队列
+     * @param channel 指定设备的连接，用于连接断开时取消；为null且选择条件指定了设备时按设备ID查找
+     */
+    TaskExecution submit(String taskId, DeviceSelector selector, TaskPriority priority, Channel channel) {
         TaskDefinition taskDefinition = registeredTasks.get(taskId);
         if (taskDefinition == null) {
             log.error("未找到任务: {}", taskId);
-            return;
+            return null;
+        }
+        if (channel == null && selector.getDeviceId() != null) {
+            AiboteChannel pinned = ClientManager.getInstance().get(selector.getDeviceId());
+            if (pinned != null) {
+                channel = pinned.aiboteChanel.channel();
+            }
         }
         
+        String executionId = "exec_" + executionIdGenerator.getAndIncrement();
+        TaskExecution execution = new TaskExecution(executionId, taskId, taskDefinition.getTaskName(), priority, channel);
+        executions.put(executionId, execution);
+        execution.getFuture().whenComplete((v, e) -> {
+            executions.remove(executionId);
+            if (execution.getStartTime() == 0) {
+                // 排队中被取消或丢弃，通知派发队列清理
+                dispatcher.cancelled();
+            }
+        });
+        
+        if (selector.getDeviceId() != null && channel == null) {
+            execution.fail(new IllegalStateException("设备未连接: " + selector.getDeviceId()));
+            return execution;
+        }
+        DeviceSelector narrowed = narrow(selector, taskDefinition);
+        if (narrowed == null) {
+            execution.fail(new IllegalArgumentException("任务不支持所选设备的平台，支持: "
+                    + taskDefinition.getSupportedBotTypes() + "，选择条件: " + selector));
+            return execution;
+        }
         try {
-            log.info("开始执行任务: {} ({})", taskDefinition.getTaskName(), taskId);
-            
-            // 创建机器人实例
-            AbstractPlatformBot bot = createBotInstance(botType, ctx, taskDefinition.getScriptName());
-            
-            // 执行任务
+            dispatcher.offer(execution, taskDefinition, narrowed, priority, narrowed.getPlatform());
+        } catch (TaskRejectedException e) {
+            execution.fail(e);
+            throw e;
+        } catch (IllegalStateException e) {
+            execution.fail(e);
+        }
+        return execution;
+    }
+    
+    /**
+     * 按触发规则定时提交任务，使用默认选项
+     * @param taskId 任务ID
+     * @param selector 设备选择条件
+     * @param trigger 触发规则
+     * @return 定时任务句柄，任务不存在时返回null
+     */
+    public TaskSchedule schedule(String taskId, DeviceSelector selector, ScheduleTrigger trigger) {
+        return schedule(taskId, selector, trigger, ScheduleOptions.defaults());
+    }
+    
+    /**
+     * 按触发规则定时提交任务，每次触发都经派发队列等待空闲设备
+     * <pre>{@code
+     * // 每10分钟在 A 组的每台 Android 设备上执行一次
+     * engine.schedule(taskId,
+     *         DeviceSelector.builder().platform(BotFactory.BotType.ANDROID).group("A").build(),
+     *         ScheduleTrigger.fixedRate(10 * 60 * 1000),
+     *         ScheduleOptions.builder().everyDevice(true).build());
+     * }</pre>
+     * @param taskId 任务ID
+     * @param selector 设备选择条件
+     * @param trigger 触发规则
+     * @param options 选项
+     * @return 定时任务句柄，任务不存在时返回null
+     */
+    public TaskSchedule schedule(String taskId, DeviceSelector selector, ScheduleTrigger trigger, ScheduleOptions options) {
+        if (!registeredTasks.containsKey(taskId)) {
+            log.error("未找到任务: {}", taskId);
+            return null;
+        }
+        return scheduler.schedule(taskId, selector, trigger, options);
+    }
+    
+    /**
+     * 取消定时任务
+     * @param scheduleId 定时任务ID
+     * @return 是否取消成功
+     */
+    public boolean cancelSchedule(String scheduleId) {
+        TaskSchedule schedule = scheduler.get(scheduleId);
+        return schedule != null && schedule.cancel();
+    }
+    
+    /**
+     * 获取定时任务
+     * @param scheduleId 定时任务ID
+     * @return 定时任务句柄，不存在或已取消时返回null
+     */
+    public TaskSchedule getSchedule(String scheduleId) {
+        return scheduler.get(scheduleId);
+    }
+    
+    /**
+     * 获取所有未取消的定时任务
+     * @return 定时任务列表
+     */
+    public List<TaskSchedule> getSchedules() {
+        return scheduler.getSchedules();
+    }
+    
+    /**
+     * 在每台满足条件的已连接设备上并行执行任务，使用配置的单设备截止时间和并行上限
+     * @param taskId 任务ID
+     * @param selector 设备选择条件
+     * @return 多设备执行句柄，任务不存在时返回null
+     */
+    public FanOutExecution fanOut(String taskId, DeviceSelector selector) {
+        BotConfig.PerformanceConfig config = ConfigManager.getInstance().getPerformanceConfig();
+        return fanOut(taskId, selector, TaskPriority.NORMAL, config.getFanOutDeviceTimeout(), config.getFanOutParallelism());
+    }
+    
+    /**
+     * 在每台满足条件的已连接设备上并行执行任务
+     * 设备按调用时的连接快照确定，只包含已加载设备属性且平台受任务支持的设备；
+     * 每台设备经派发队列等到空闲后执行，结束即产生一条结果
+     * @param taskId 任务ID
+     * @param selector 设备选择条件
+     * @param priority 派发优先级
+     * @param deviceTimeoutMillis 单设备截止时间（毫秒），从提交起计算，含等待设备空闲的时间；0表示不限
+     * @param parallelism 同时提交的最大设备数
+     * @return 多设备执行句柄，任务不存在时返回null
+     */
+    public FanOutExecution fanOut(String taskId, DeviceSelector selector, TaskPriority priority,
+                                  long deviceTimeoutMillis, int parallelism) {
+        TaskDefinition taskDefinition = registeredTasks.get(taskId);
+        if (taskDefinition == null) {
+            log.error("未找到任务: {}", taskId);
+            return null;
+        }
+        // 只在已加载设备属性且平台受任务支持的设备上执行
+        List<AiboteChannel> devices = new ArrayList<>();
+        for (AiboteChannel device : ClientManager.getInstance().getClients(selector)) {
+            if (supports(taskDefinition, device)) {
+                devices.add(device);
+            }
+        }
+        FanOutExecution fanOut = new FanOutExecution(this, scheduler, taskId, selector, priority,
+                deviceTimeoutMillis, parallelism, devices);
+        log.info("多设备执行: {} 共{}台设备，并行上限{}", taskId, devices.size(), fanOut.getParallelism());
+        fanOut.start();
+        return fanOut;
+    }
+    
+    /**
+     * 派发队列租到设备后调用：在该设备上执行任务，执行结束（含取消）时归还设备
+     */
+    private void launch(TaskDispatcher.QueuedTask task, DeviceLease lease) {
+        TaskExecution execution = task.execution;
+        AiboteChannel device = lease.getChannel();
+        execution.assign(device.aiboteChanel.channel());
+        execution.getFuture().whenComplete((v, e) -> {
+            lease.close();
+            // 派发时已取得执行许可，执行结束（含取消）时归还并唤醒派发
+            permits.release();
+            dispatcher.signal();
+        });
+        if (execution.isDone()) {
+            return;
+        }
+        if (!supports(task.definition, device)) {
+            // 派发前已按平台收窄，这里只防御设备属性与选择条件不一致的情况
+            execution.fail(new IllegalStateException("任务不支持该设备的平台: " + device.getProfile()));
+            return;
+        }
+        AbstractPlatformBot bot = device.getAibote();
+        if (bot == null) {
+            log.error("设备上没有机器人实例，无法执行任务: {} ({})", task.definition.getTaskName(), execution.getExecutionId());
+            execution.fail(new IllegalStateException("设备上没有机器人实例"));
+            return;
+        }
+        try {
+            execution.bind(executor.submit(() -> run(execution, task.definition, bot)));
+        } catch (RejectedExecutionException e) {
+            execution.fail(new IllegalStateException("任务引擎已关闭", e));
+        }
+    }
+    
+    /**
+     * 把选择条件收窄到任务支持的平台，只会租到任务能执行的设备
+     * 平台取选择条件指定的平台，其次为指定设备的平台，其次为任务唯一支持的类型；
+     * 任务支持多个（非全部）平台而选择条件未确定平台时无法收窄
+     * @return 收窄后的选择条件，平台不受支持或无法收窄时返回null
+     */
+    private static DeviceSelector narrow(DeviceSelector selector, TaskDefinition taskDefinition) {
+        Set<BotFactory.BotType> supported = taskDefinition.getSupportedBotTypes();
+        BotFactory.BotType platform = selector.getPlatform();
+        if (platform == null && selector.getDeviceId() != null) {
+            AiboteChannel device = ClientManager.getInstance().get(selector.getDeviceId());
+            if (device != null && device.getProfile() != null) {
+                platform = device.getProfile().getPlatform();
+            }
+        }
+        if (platform == null && supported.size() == 1) {
+            platform = supported.iterator().next();
+        }
+        if (platform == null) {
+            return supported.containsAll(EnumSet.allOf(BotFactory.BotType.class)) ? selector : null;
+        }
+        if (!supported.contains(platform)) {
+            return null;
+        }
+        return platform == selector.getPlatform() ? selector : selector.toBuilder().platform(platform).build();
+    }
+    
+    /**
+     * 设备平台是否受任务支持
+     */
+    static boolean supports(TaskDefinition taskDefinition, AiboteChannel device) {
+        return device.getProfile() != null && device.getProfile().getPlatform() != null
+                && taskDefinition.getSupportedBotTypes().contains(device.getProfile().getPlatform());
+    }
+    
+    /**
+     * 在虚拟线程上执行任务，执行许可已在派发时取得
+     */
+    private void run(TaskExecution execution, TaskDefinition taskDefinition, AbstractPlatformBot bot) {
+        try {
+            if (!execution.start()) {
+                return;
+            }
+            log.info("开始执行任务: {} ({})", taskDefinition.getTaskName(), execution.getExecutionId());
             taskDefinition.getTaskExecutor().execute(bot);
-            
-            log.info("任务执行完成: {} ({})", taskDefinition.getTaskName(), taskId);
+            execution.succeed();
+            log.info("任务执行完成: {} ({})，耗时{}毫秒", taskDefinition.getTaskName(), execution.getExecutionId(), execution.getDuration());
         } catch (Exception e) {
-            log.error("任务执行失败: {} ({})", taskDefinition.getTaskName(), taskId, e);
+            if (!execution.isDone()) {
+                log.error("任务执行失败: {} ({})", taskDefinition.getTaskName(), execution.getExecutionId(), e);
+            }
+            execution.fail(e);
         }
     }
     
     /**
-     * 创建机器人实例
-     * @param botType 机器人类型
-     * @param ctx 通道上下文
-     * @param scriptName 脚本名称
-     * @return 机器人实例
-     */
-    private AbstractPlatformBot createBotInstance(BotFactory.BotType botType, ChannelHandlerContext ctx, String scriptName) {
-        switch (botType) {
-            case WIN:
-                return BotFactory.createWinBotWithName(ctx, scriptName);
-            case WEB:
-                return BotFactory.createWebBotWithName(ctx, scriptName);
-            case ANDROID:
-                return BotFactory.createAndroidBotWithName(ctx, scriptName);
-            default:
-                throw new IllegalArgumentException("不支持的机器人类型: " + botType);
+     * 获取执行句柄
+     * @param executionId 执行ID
+     * @return 执行句柄，已结束或不存在时返回null
+     */
+    public TaskExecution getExecution(String executionId) {
+        return executions.get(executionId);
+    }
+    
+    /**
+     * 获取所有未结束的执行
+     * @return 执行句柄列表
+     */
+    public List<TaskExecution> getExecutions() {
+        return List.copyOf(executions.values());
+    }
+    
+    /**
+     * 获取未结束（排队、等待许可或执行中）的执行数
+     * @return 执行数
+     */
+    public int getRunningCount() {
+        return executions.size();
+    }
+    
+    /**
+     * 获取在派发队列中等待设备的任务数
+     * @return 任务数
+     */
+    public int getQueuedCount() {
+        return dispatcher.getQueuedCount();
+    }
+    
+    /**
+     * 获取指定优先级在派发队列中等待设备的任务数
+     * @param priority 优先级
+     * @return 任务数
+     */
+    public int getQueuedCount(TaskPriority priority) {
+        return dispatcher.getQueuedCount(priority);
+    }
+    
+    /**
+     * 获取因派发队列已满被拒绝或丢弃的任务数
+     * @return 任务数
+     */
+    public long getRejectedCount() {
+        return dispatcher.getRejectedCount();
+    }
+    
+    /**
+     * 取消连接上所有未结束的执行，连接断开时调用
+     * @param channel Netty通道
+     * @return 取消的执行数
+     */
+    public int cancelExecutions(Channel channel) {
+        int cancelled = 0;
+        for (TaskExecution execution : executions.values()) {
+            if (execution.getChannel() == channel && execution.cancel()) {
+                cancelled++;
+            }
         }
+        return cancelled;
+    }
+    
+    /**
+     * 停止接受新的执行，已开始的继续执行；定时任务不再触发，仍在派发队列中等待设备的任务被取消
+     * @return 被取消的排队任务数
+     */
+    public int shutdown() {
+        scheduler.stop();
+        List<TaskExecution> queued = dispatcher.stop();
+        queued.forEach(TaskExecution::cancel);
+        executor.shutdown();
+        return queued.size();
+    }
+    
+    /**
+     * 等待已提交的执行全部结束
+     * @param timeout 超时时间
+     * @param unit 时间单位
+     * @return 全部结束返回true，超时返回false
+     * @throws InterruptedException 如果线程被中断
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+    
+    /**
+     * 取消所有未结束的执行
+     */
+    public void shutdownNow() {
+        scheduler.stop();
+        dispatcher.stop();
+        executions.values().forEach(TaskExecution::cancel);
+        executor.shutdownNow();
     }
     
     /**
@@ -0,0 +1,202 @@
+package net.aibote.task;
+
+import io.netty.channel.Channel;
+import lombok.Getter;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 任务执行句柄
+ * 由 {@link TaskEngine} 提交任务时返回，可查询状态、等待结果或取消执行
+ * 提交后先处于等待状态，在派发队列中等到空闲设备后才开始执行
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+public class TaskExecution {
+
+    /**
+     * 执行状态
+     */
+    public enum Status {
+        PENDING("等待执行"),
+        RUNNING("执行中"),
+        SUCCEEDED("执行成功"),
+        FAILED("执行失败"),
+        CANCELLED("已取消");
+
+        private final String description;
+
+        Status(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        /**
+         * 是否已结束
+         * @return 成功、失败或取消时返回true
+         */
+        public boolean isFinished() {
+            return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    @Getter
+    private final String executionId;
+    @Getter
+    private final String taskId;
+    @Getter
+    private final String taskName;
+    @Getter
+    private final TaskPriority priority;
+    /**
+     * 执行所在的设备连接，排队中且未指定设备时为null，派发时确定
+     */
+    @Getter
+    private volatile Channel channel;
+    @Getter
+    private final long submitTime = System.currentTimeMillis();
+    @Getter
+    private volatile long startTime;
+    @Getter
+    private volatile long endTime;
+    @Getter
+    private volatile Throwable error;
+
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+    // 状态只通过 CAS 前进；先更新状态再完成 future，等待方看到的状态总是最终状态
+    private final AtomicReference<Status> status = new AtomicReference<>(Status.PENDING);
+    private volatile Future<?> worker;
+
+    TaskExecution(String executionId, String taskId, String taskName, TaskPriority priority, Channel channel) {
+        this.executionId = executionId;
+        this.taskId = taskId;
+        this.taskName = taskName;
+        this.priority = priority;
+        this.channel = channel;
+    }
+
+    /**
+     * 获取执行完成时完成的 future，失败时以任务异常结束，取消时以 CancellationException 结束
+     * @return future
+     */
+    public CompletableFuture<Void> getFuture() {
+        return future;
+    }
+
+    /**
+     * 是否已结束
+     * @return 已结束返回true
+     */
+    public boolean isDone() {
+        return status.get().isFinished();
+    }
+
+    /**
+     * 获取执行状态
+     * @return 执行状态
+     */
+    public Status getStatus() {
+        return status.get();
+    }
+
+    /**
+     * 等待执行结束
+     * @param timeout 超时时间
+     * @param unit 时间单位
+     * @return 执行成功返回true，失败或取消返回false
+     * @throws InterruptedException 如果线程被中断
+     * @throws TimeoutException 超时仍未结束
+     */
+    public boolean await(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+        try {
+            future.get(timeout, unit);
+            return true;
+        } catch (ExecutionException | CancellationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 取消执行：尚未开始的不再执行，执行中的中断其线程
+     * @return 本次调用成功取消返回true，已结束返回false
+     */
+    public boolean cancel() {
+        if (!finish(Status.CANCELLED, null)) {
+            return false;
+        }
+        future.cancel(false);
+        Future<?> running = worker;
+        if (running != null) {
+            running.cancel(true);
+        }
+        return true;
+    }
+
+    /**
+     * 执行耗时（毫秒），未开始时为0
+     * @return 耗时
+     */
+    public long getDuration() {
+        if (startTime == 0) {
+            return 0;
+        }
+        return (endTime == 0 ? System.currentTimeMillis() : endTime) - startTime;
+    }
+
+    void assign(Channel channel) {
+        this.channel = channel;
+    }
+
+    void bind(Future<?> worker) {
+        this.worker = worker;
+        if (status.get() == Status.CANCELLED) {
+            worker.cancel(true);
+        }
+    }
+
+    boolean start() {
+        startTime = System.currentTimeMillis();
+        return status.compareAndSet(Status.PENDING, Status.RUNNING);
+    }
+
+    void succeed() {
+        if (finish(Status.SUCCEEDED, null)) {
+            future.complete(null);
+        }
+    }
+
+    void fail(Throwable cause) {
+        if (finish(Status.FAILED, cause)) {
+            future.completeExceptionally(cause);
+        }
+    }
+
+    private boolean finish(Status finalStatus, Throwable cause) {
+        Status current;
+        do {
+            current = status.get();
+            if (current.isFinished()) {
+                return false;
+            }
+        } while (!status.compareAndSet(current, finalStatus));
+        this.error = cause;
+        this.endTime = System.currentTimeMillis();
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return taskName + "(" + executionId + ") " + status.get().getDescription();
+    }
+}
@@ -0,0 +1,26 @@
+package net.aibote.task;
+
+/**
+ * 任务优先级
+ * 派发时严格按优先级从高到低，高优先级有任务可派发时低优先级不会占用设备
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+public enum TaskPriority {
+    URGENT("紧急"),
+    HIGH("高"),
+    NORMAL("普通"),
+    LOW("批量");
+
+    private final String description;
+
+    TaskPriority(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,146 @@
+package net.aibote.task;
+
+import io.netty.util.Timeout;
+import lombok.Getter;
+import net.aibote.handler.DeviceSelector;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 定时任务句柄
+ * 由 {@link TaskEngine#schedule} 返回，可查询下一次触发时间、触发统计或取消
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+public class TaskSchedule {
+
+    @Getter
+    private final String scheduleId;
+    @Getter
+    private final String taskId;
+    @Getter
+    private final DeviceSelector selector;
+    @Getter
+    private final ScheduleTrigger trigger;
+    @Getter
+    private final TaskPriority priority;
+    @Getter
+    private final boolean everyDevice;
+    @Getter
+    private final long jitterMillis;
+    @Getter
+    private final ScheduleOptions.MisfirePolicy misfirePolicy;
+    /**
+     * 下一次计划触发时间（毫秒，不含抖动），不再触发时为-1
+     */
+    @Getter
+    private volatile long nextFireTime;
+
+    private final AtomicLong fireCount = new AtomicLong();
+    private final AtomicLong misfireCount = new AtomicLong();
+    private final AtomicLong overlapCount = new AtomicLong();
+    private final TaskScheduler scheduler;
+    private volatile boolean cancelled;
+    private volatile Timeout timeout;
+
+    /**
+     * 每个目标（设备ID，派发到任意设备时为 {@code *}）尚未结束的执行的完成信号，执行结束即移除；存在时不重复派发
+     */
+    final Map<String, CompletableFuture<Void>> lastRuns = new ConcurrentHashMap<>();
+
+    TaskSchedule(String scheduleId, String taskId, DeviceSelector selector, ScheduleTrigger trigger,
+                 ScheduleOptions options, long defaultJitterMillis, TaskScheduler scheduler) {
+        this.scheduleId = scheduleId;
+        this.taskId = taskId;
+        this.selector = selector;
+        this.trigger = trigger;
+        this.priority = options.getPriority() != null ? options.getPriority() : TaskPriority.NORMAL;
+        this.everyDevice = options.isEveryDevice();
+        this.jitterMillis = Math.max(0, options.getJitterMillis() != null ? options.getJitterMillis() : defaultJitterMillis);
+        this.misfirePolicy = options.getMisfirePolicy() != null ? options.getMisfirePolicy() : ScheduleOptions.MisfirePolicy.FIRE_ONCE;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * 取消定时任务，已派发的执行不受影响
+     * @return 本次调用成功取消返回true
+     */
+    public boolean cancel() {
+        return scheduler.cancel(this);
+    }
+
+    /**
+     * 是否已取消
+     * @return 已取消返回true
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * 获取已触发次数（含补执行，不含因错过而跳过的）
+     * @return 触发次数
+     */
+    public long getFireCount() {
+        return fireCount.get();
+    }
+
+    /**
+     * 获取错过触发时间的次数
+     * @return 错过次数
+     */
+    public long getMisfireCount() {
+        return misfireCount.get();
+    }
+
+    /**
+     * 获取因目标上一次执行尚未结束而跳过的次数
+     * @return 跳过次数
+     */
+    public long getOverlapCount() {
+        return overlapCount.get();
+    }
+
+    boolean markCancelled() {
+        if (cancelled) {
+            return false;
+        }
+        cancelled = true;
+        nextFireTime = -1;
+        Timeout current = timeout;
+        if (current != null) {
+            current.cancel();
+        }
+        return true;
+    }
+
+    void armed(long fireTime, Timeout timeout) {
+        this.nextFireTime = fireTime;
+        this.timeout = timeout;
+        if (cancelled) {
+            timeout.cancel();
+        }
+    }
+
+    void fired() {
+        fireCount.incrementAndGet();
+    }
+
+    void misfired() {
+        misfireCount.incrementAndGet();
+    }
+
+    void overlapped() {
+        overlapCount.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return scheduleId + "[" + taskId + " " + trigger + "]";
+    }
+}
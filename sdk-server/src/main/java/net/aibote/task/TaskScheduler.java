@@ -0,0 +1,249 @@
+package net.aibote.task;
+
+import io.netty.channel.Channel;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import lombok.extern.slf4j.Slf4j;
+import net.aibote.handler.AiboteChannel;
+import net.aibote.handler.ClientManager;
+import net.aibote.handler.DeviceSelector;
+import net.aibote.utils.config.BotConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 定时任务调度器
+ * 所有定时任务共享一个时间轮，到点时把任务提交到 {@link TaskEngine} 的派发队列，由派发队列等待空闲设备。
+ * 每个目标（设备）的实际提交时间在抖动范围内按设备错开且固定不变，大量设备不会在同一时刻触发，
+ * 同时每台设备的触发间隔保持稳定；目标上一次执行未结束时跳过本次，不重叠执行。
+ * 时间轮线程被阻塞或系统休眠导致触发晚于 misfireThreshold 时视为错过，按策略补执行一次或跳过
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+@Slf4j
+class TaskScheduler {
+
+    // 100ms 一格，512 格约 51 秒一圈；更长的延迟由时间轮按圈数处理
+    private static final long TICK_MILLIS = 100;
+    private static final int TICKS_PER_WHEEL = 512;
+    private static final String ANY_TARGET = "*";
+
+    private final HashedWheelTimer timer = new HashedWheelTimer(
+            new DefaultThreadFactory("Aibote-Scheduler", true), TICK_MILLIS, TimeUnit.MILLISECONDS, TICKS_PER_WHEEL);
+    private final Map<String, TaskSchedule> schedules = new ConcurrentHashMap<>();
+    private final AtomicLong scheduleIdGenerator = new AtomicLong(1);
+    private final TaskEngine engine;
+    private final long defaultJitterMillis;
+    private final long misfireThresholdMillis;
+
+    TaskScheduler(BotConfig.PerformanceConfig config, TaskEngine engine) {
+        this.engine = engine;
+        this.defaultJitterMillis = Math.max(0, config.getScheduleJitter());
+        this.misfireThresholdMillis = Math.max(TICK_MILLIS, config.getMisfireThreshold());
+    }
+
+    /**
+     * 登记定时任务并安排首次触发
+     */
+    TaskSchedule schedule(String taskId, DeviceSelector selector, ScheduleTrigger trigger, ScheduleOptions options) {
+        String scheduleId = "schedule_" + scheduleIdGenerator.getAndIncrement();
+        TaskSchedule schedule = new TaskSchedule(scheduleId, taskId, selector, trigger, options, defaultJitterMillis, this);
+        schedules.put(scheduleId, schedule);
+        arm(schedule, trigger.firstFireTime(System.currentTimeMillis()));
+        log.info("定时任务已登记: {}", schedule);
+        return schedule;
+    }
+
+    boolean cancel(TaskSchedule schedule) {
+        schedules.remove(schedule.getScheduleId(), schedule);
+        if (schedule.markCancelled()) {
+            log.info("定时任务已取消: {}", schedule);
+            return true;
+        }
+        return false;
+    }
+
+    TaskSchedule get(String scheduleId) {
+        return schedules.get(scheduleId);
+    }
+
+    List<TaskSchedule> getSchedules() {
+        return List.copyOf(schedules.values());
+    }
+
+    /**
+     * 在共享时间轮上安排一次性延时动作，如多设备执行的单设备截止时间
+     * @param action 到期动作，在时间轮线程上执行，不能阻塞
+     * @param delayMillis 延迟（毫秒）
+     * @return 超时句柄，时间轮已停止时返回null
+     */
+    Timeout newTimeout(Runnable action, long delayMillis) {
+        try {
+            return timer.newTimeout(t -> action.run(), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 取消所有定时任务并停止时间轮
+     * @return 取消的定时任务数
+     */
+    int stop() {
+        int cancelled = 0;
+        for (TaskSchedule schedule : schedules.values()) {
+            if (cancel(schedule)) {
+                cancelled++;
+            }
+        }
+        timer.stop();
+        return cancelled;
+    }
+
+    private void arm(TaskSchedule schedule, long fireTime) {
+        if (schedule.isCancelled()) {
+            return;
+        }
+        if (fireTime < 0) {
+            log.info("定时任务不再触发: {}", schedule);
+            cancel(schedule);
+            return;
+        }
+        long delay = Math.max(0, fireTime - System.currentTimeMillis());
+        try {
+            schedule.armed(fireTime, timer.newTimeout(t -> fire(schedule, fireTime), delay, TimeUnit.MILLISECONDS));
+        } catch (IllegalStateException e) {
+            // 时间轮已停止
+            cancel(schedule);
+        }
+    }
+
+    /**
+     * 到点触发：判断是否错过、提交各目标，然后安排下一次
+     */
+    private void fire(TaskSchedule schedule, long scheduled) {
+        if (schedule.isCancelled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        List<CompletableFuture<Void>> runs = List.of();
+        boolean misfired = now - scheduled > misfireThresholdMillis;
+        if (misfired) {
+            schedule.misfired();
+            log.warn("定时任务错过触发时间{}毫秒: {}，策略: {}", now - scheduled, schedule, schedule.getMisfirePolicy());
+        }
+        if (!misfired || schedule.getMisfirePolicy() == ScheduleOptions.MisfirePolicy.FIRE_ONCE) {
+            schedule.fired();
+            try {
+                runs = launch(schedule);
+            } catch (Exception e) {
+                log.error("定时任务触发失败: {}", schedule, e);
+            }
+        }
+        ScheduleTrigger trigger = schedule.getTrigger();
+        if (trigger.getType() == ScheduleTrigger.Type.FIXED_DELAY) {
+            // 本次所有目标执行结束后再开始计时
+            CompletableFuture.allOf(runs.toArray(new CompletableFuture[0]))
+                    .whenComplete((v, e) -> arm(schedule, System.currentTimeMillis() + trigger.getPeriodMillis()));
+        } else {
+            arm(schedule, trigger.nextFireTime(scheduled, now));
+        }
+    }
+
+    /**
+     * 向每个目标提交一次执行，按抖动错开提交时间
+     * @return 各目标本次执行的完成信号
+     */
+    private List<CompletableFuture<Void>> launch(TaskSchedule schedule) {
+        List<String> targets = new ArrayList<>();
+        if (schedule.isEveryDevice()) {
+            for (AiboteChannel device : ClientManager.getInstance().getClients(schedule.getSelector())) {
+                targets.add(device.getId());
+            }
+        } else {
+            targets.add(ANY_TARGET);
+        }
+        List<CompletableFuture<Void>> runs = new ArrayList<>(targets.size());
+        for (String target : targets) {
+            CompletableFuture<Void> run = new CompletableFuture<>();
+            if (schedule.lastRuns.putIfAbsent(target, run) != null) {
+                // 上一次还没结束，不重叠执行
+                schedule.overlapped();
+                log.debug("目标上一次执行未结束，跳过: {} {}", schedule, target);
+                continue;
+            }
+            // 结束即移除，设备重连换了ID后不会留下旧条目
+            run.whenComplete((v, e) -> schedule.lastRuns.remove(target, run));
+            runs.add(run);
+            long offset = jitterOffset(schedule, target);
+            if (offset == 0) {
+                submit(schedule, target, run);
+            } else {
+                try {
+                    timer.newTimeout(t -> submit(schedule, target, run), offset, TimeUnit.MILLISECONDS);
+                } catch (IllegalStateException e) {
+                    // 时间轮已停止
+                    run.complete(null);
+                }
+            }
+        }
+        return runs;
+    }
+
+    private void submit(TaskSchedule schedule, String target, CompletableFuture<Void> run) {
+        if (schedule.isCancelled()) {
+            run.complete(null);
+            return;
+        }
+        DeviceSelector selector = schedule.getSelector();
+        Channel channel = null;
+        if (!ANY_TARGET.equals(target)) {
+            AiboteChannel device = ClientManager.getInstance().get(target);
+            if (device == null) {
+                // 抖动期间设备已断开
+                run.complete(null);
+                return;
+            }
+            selector = selector.toBuilder().deviceId(target).build();
+            channel = device.aiboteChanel.channel();
+        }
+        try {
+            TaskExecution execution = engine.submit(schedule.getTaskId(), selector, schedule.getPriority(), channel);
+            if (execution == null) {
+                log.warn("定时任务对应的任务已移除，取消定时: {}", schedule);
+                cancel(schedule);
+                run.complete(null);
+                return;
+            }
+            execution.getFuture().whenComplete((v, e) -> run.complete(null));
+        } catch (RuntimeException e) {
+            log.warn("定时任务提交失败: {} {}", schedule, e.getMessage());
+            run.complete(null);
+        }
+    }
+
+    /**
+     * 目标的固定抖动偏移，同一定时任务同一目标每次相同
+     */
+    private static long jitterOffset(TaskSchedule schedule, String target) {
+        long jitter = schedule.getJitterMillis();
+        if (jitter <= 0) {
+            return 0;
+        }
+        long hash = (long) schedule.getScheduleId().hashCode() * 31 + target.hashCode();
+        // 混合高低位，避免相近的ID集中在相近的偏移
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return Math.floorMod(hash, jitter);
+    }
+}
@@ -0,0 +1,94 @@
+package net.aibote.task;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Cron表达式解析与下一次触发时间计算的测试
+ *
+ * @author AIBoTe
+ * @version 1.0
+ * @since 2026-01-19
+ */
+class CronExpressionTest {
+
+    // 2026-01-01 是周四
+    private static final ZonedDateTime NEW_YEAR = at(2026, 1, 1, 0, 0, 0);
+
+    private static ZonedDateTime at(int year, int month, int day, int hour, int minute, int second) {
+        return ZonedDateTime.of(year, month, day, hour, minute, second, 0, ZoneOffset.UTC);
+    }
+
+    private static ZonedDateTime next(String expression, ZonedDateTime after) {
+        return CronExpression.parse(expression).next(after);
+    }
+
+    @Test
+    void sundayAcceptsZeroSevenAndName() {
+        ZonedDateTime sunday = at(2026, 1, 4, 9, 0, 0);
+        assertEquals(sunday, next("0 9 * * 0", NEW_YEAR));
+        assertEquals(sunday, next("0 9 * * 7", NEW_YEAR));
+        assertEquals(sunday, next("0 9 * * SUN", NEW_YEAR));
+        assertEquals(sunday, next("0 9 * * 6-7", at(2026, 1, 3, 10, 0, 0)));
+    }
+
+    @Test
+    void dayOfMonthAndDayOfWeekAreOred() {
+        CronExpression cron = CronExpression.parse("0 0 15 * MON");
+        ZonedDateTime first = cron.next(NEW_YEAR);
+        assertEquals(at(2026, 1, 5, 0, 0, 0), first);
+        ZonedDateTime second = cron.next(first);
+        assertEquals(at(2026, 1, 12, 0, 0, 0), second);
+        assertEquals(at(2026, 1, 15, 0, 0, 0), cron.next(second));
+    }
+
+    @Test
+    void onlyRestrictedDayFieldApplies() {
+        assertEquals(at(2026, 1, 15, 0, 0, 0), next("0 0 15 * ?", NEW_YEAR));
+        assertEquals(at(2026, 1, 5, 0, 0, 0), next("0 0 ? * MON", NEW_YEAR));
+    }
+
+    @Test
+    void stepsStartFromTheGivenValue() {
+        assertEquals(at(2026, 1, 1, 10, 15, 0), next("0/15 * * * *", at(2026, 1, 1, 10, 7, 0)));
+        CronExpression fromTen = CronExpression.parse("10/20 * * * *");
+        assertEquals(at(2026, 1, 1, 10, 50, 0), fromTen.next(at(2026, 1, 1, 10, 31, 0)));
+        assertEquals(at(2026, 1, 1, 11, 10, 0), fromTen.next(at(2026, 1, 1, 10, 50, 0)));
+        assertEquals(at(2026, 1, 1, 7, 0, 0), next("0 1-10/3 * * *", at(2026, 1, 1, 4, 0, 0)));
+        assertEquals(at(2026, 1, 1, 10, 0, 30), next("*/30 * * * * ?", at(2026, 1, 1, 10, 0, 5)));
+    }
+
+    @Test
+    void nextIsStrictlyAfterTheGivenTime() {
+        assertEquals(at(2026, 1, 2, 9, 0, 0), next("0 9 * * *", at(2026, 1, 1, 9, 0, 0)));
+        assertEquals(at(2026, 1, 1, 9, 0, 0), next("0 9 * * *", at(2026, 1, 1, 8, 59, 59)));
+    }
+
+    @Test
+    void sparseDateIsFoundYearsLater() {
+        assertEquals(at(2028, 2, 29, 0, 0, 0), next("0 0 29 FEB *", at(2026, 3, 1, 0, 0, 0)));
+    }
+
+    @Test
+    void impossibleDateNeverFires() {
+        assertNull(next("0 0 30 2 *", NEW_YEAR));
+        assertNull(next("0 0 31 APR,JUN *", NEW_YEAR));
+    }
+
+    @Test
+    void invalidExpressionsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CronExpression.parse(null));
+        assertThrows(IllegalArgumentException.class, () -> CronExpression.parse("  "));
+        assertThrows(IllegalArgumentException.class, () -> CronExpression.parse("* * * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronExpression.parse("60 * * * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronExpression.parse("* * * * 8"));
+        assertThrows(IllegalArgumentException.class, () -> CronExpression.parse("10-5 * * * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronExpression.parse("* * * FOO *"));
+    }
+}